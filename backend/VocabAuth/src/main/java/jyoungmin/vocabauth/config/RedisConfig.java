@@ -3,46 +3,96 @@ package jyoungmin.vocabauth.config;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
+import org.springframework.data.redis.connection.RedisConfiguration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisSentinelConfiguration;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnection;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.util.StringUtils;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
 
 /**
  * Redis configuration for managing refresh tokens and session data.
  * Configures Redis connection using Lettuce client and sets up serialization strategies.
+ *
+ * <p>The topology is selected with {@code redis.mode}: "standalone" (a single primary at host and port),
+ * "sentinel" ({@code spring.data.redis.sentinel.*}, which fails over to a promoted replica) or "cluster"
+ * ({@code spring.data.redis.cluster.nodes}, which follows slot owners as they move). Replicas only serve as
+ * failover targets: all reads and writes go to the primary, because refresh token checks must see the latest
+ * rotation or logout, which a lagging replica cannot guarantee. A {@code read-from} setting was dropped on
+ * purpose for that reason.</p>
  */
 @Configuration
 @EnableRedisRepositories
 public class RedisConfig {
 
+    /**
+     * Redis topology: standalone, sentinel or cluster
+     */
+    @Value("${redis.mode:standalone}")
+    private String mode;
+
     /**
      * Redis server hostname
      */
-    @Value("${spring.data.redis.host}")
+    @Value("${spring.data.redis.host:localhost}")
     private String host;
 
     /**
      * Redis server port
      */
-    @Value("${spring.data.redis.port}")
+    @Value("${spring.data.redis.port:6379}")
     private int port;
 
     /**
-     * Creates a Redis connection factory using Lettuce client.
-     * Configures standalone Redis connection with host and port from application properties.
+     * Name of the primary monitored by the sentinels
+     */
+    @Value("${spring.data.redis.sentinel.master:}")
+    private String sentinelMaster;
+
+    /**
+     * Comma-separated sentinel addresses (host:port)
+     */
+    @Value("${spring.data.redis.sentinel.nodes:}")
+    private String sentinelNodes;
+
+    /**
+     * Comma-separated cluster node addresses (host:port)
+     */
+    @Value("${spring.data.redis.cluster.nodes:}")
+    private String clusterNodes;
+
+    /**
+     * Number of pipelined commands buffered before they are flushed to Redis, 1 to flush every command
+     */
+    @Value("${redis.pipelining.flush-batch-size:64}")
+    private int pipeliningFlushBatchSize;
+
+    /**
+     * Creates the primary Redis connection factory using Lettuce client.
+     * Pipelines buffer their commands and flush them in batches instead of writing each one to the socket.
      *
      * @return configured Redis connection factory
      */
     @Bean
+    @Primary
     public RedisConnectionFactory redisConnectionFactory() {
-        RedisStandaloneConfiguration redisStandaloneConfiguration = new RedisStandaloneConfiguration();
-        redisStandaloneConfiguration.setHostName(host);
-        redisStandaloneConfiguration.setPort(port);
-
-        return new LettuceConnectionFactory(redisStandaloneConfiguration);
+        LettuceConnectionFactory connectionFactory = createConnectionFactory(topology());
+        if (pipeliningFlushBatchSize > 1) {
+            connectionFactory.setPipeliningFlushPolicy(LettuceConnection.PipeliningFlushPolicy.buffered(pipeliningFlushBatchSize));
+        }
+        return connectionFactory;
     }
 
     /**
@@ -52,9 +102,30 @@ public class RedisConfig {
      * @return configured RedisTemplate for String keys and Object values
      */
     @Bean
+    @Primary
     public RedisTemplate<String, Object> redisTemplate() {
+        return createTemplate(redisConnectionFactory());
+    }
+
+    /**
+     * Creates a Lettuce connection factory for a topology.
+     *
+     * @param topology the Redis topology
+     * @return connection factory
+     */
+    static LettuceConnectionFactory createConnectionFactory(RedisConfiguration topology) {
+        return new LettuceConnectionFactory(topology, LettuceClientConfiguration.defaultConfiguration());
+    }
+
+    /**
+     * Creates a template with string serialization on a connection factory.
+     *
+     * @param connectionFactory the connection factory
+     * @return configured template
+     */
+    static RedisTemplate<String, Object> createTemplate(RedisConnectionFactory connectionFactory) {
         RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
-        redisTemplate.setConnectionFactory(redisConnectionFactory());
+        redisTemplate.setConnectionFactory(connectionFactory);
 
         // Configure serialization for standard key-value operations
         redisTemplate.setKeySerializer(new StringRedisSerializer());
@@ -66,4 +137,43 @@ public class RedisConfig {
 
         return redisTemplate;
     }
+
+    /**
+     * Builds the configured Redis topology.
+     *
+     * @return standalone, sentinel or cluster configuration
+     * @throws IllegalStateException if the mode is unknown or its nodes are not configured
+     */
+    private RedisConfiguration topology() {
+        switch (mode.toLowerCase(Locale.ROOT)) {
+            case "standalone":
+                return new RedisStandaloneConfiguration(host, port);
+            case "sentinel":
+                if (!StringUtils.hasText(sentinelMaster) || !StringUtils.hasText(sentinelNodes)) {
+                    throw new IllegalStateException(
+                            "spring.data.redis.sentinel.master and .nodes must be set when redis.mode is 'sentinel'");
+                }
+                return new RedisSentinelConfiguration(sentinelMaster, new HashSet<>(nodes(sentinelNodes)));
+            case "cluster":
+                if (!StringUtils.hasText(clusterNodes)) {
+                    throw new IllegalStateException("spring.data.redis.cluster.nodes must be set when redis.mode is 'cluster'");
+                }
+                return new RedisClusterConfiguration(nodes(clusterNodes));
+            default:
+                throw new IllegalStateException("Unknown redis.mode '" + mode + "', expected standalone, sentinel or cluster");
+        }
+    }
+
+    /**
+     * Splits a comma-separated list of node addresses.
+     *
+     * @param value the configured addresses
+     * @return addresses as host:port strings
+     */
+    private static List<String> nodes(String value) {
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(StringUtils::hasText)
+                .toList();
+    }
 }
@@ -0,0 +1,41 @@
+package jyoungmin.vocabauth.controller;
+
+import jyoungmin.vocabauth.dto.BulkRegisterSummary;
+import jyoungmin.vocabauth.service.UserProvisioningService;
+import jyoungmin.vocabcommons.response.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * REST controller for administrative user management.
+ * All endpoints require the ADMIN role.
+ */
+@RestController
+@RequestMapping("/api/v1/admin")
+@RequiredArgsConstructor
+public class AdminController {
+    /**
+     * Service for provisioning many users at once
+     */
+    private final UserProvisioningService userProvisioningService;
+
+    /**
+     * Registers many users from a newline-delimited JSON body, one user per line.
+     * Rows are validated and created independently; the response reports each row and the throughput.
+     *
+     * @param body the request body stream
+     * @return response containing per-row results
+     * @throws IOException if the body cannot be read
+     */
+    @PostMapping(value = "/users/bulk", consumes = "application/x-ndjson")
+    public ResponseEntity<ApiResponse<BulkRegisterSummary>> bulkRegister(InputStream body) throws IOException {
+        BulkRegisterSummary summary = userProvisioningService.register(body);
+        return ResponseEntity.ok(ApiResponse.success(ApiResponse.Messages.BULK_REGISTER_COMPLETED, summary));
+    }
+}
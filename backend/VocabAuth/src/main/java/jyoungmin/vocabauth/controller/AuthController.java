@@ -6,12 +6,18 @@ import jyoungmin.vocabauth.dto.RefreshTokenRequest;
 import jyoungmin.vocabauth.entity.User;
 import jyoungmin.vocabauth.dto.JwtToken;
 import jyoungmin.vocabauth.service.AuthService;
+import jyoungmin.vocabcommons.constants.JwtConstants;
+import jyoungmin.vocabcommons.dto.IntrospectionRequest;
+import jyoungmin.vocabcommons.dto.IntrospectionResult;
+import jyoungmin.vocabcommons.dto.UserInfo;
 import jyoungmin.vocabcommons.response.ApiResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * REST controller for authentication operations.
  * Handles user registration, login, logout, token refresh, and user information retrieval.
@@ -62,6 +68,17 @@ public class AuthController {
         return ResponseEntity.ok(ApiResponse.success(ApiResponse.Messages.LOGOUT_SUCCESS));
     }
 
+    /**
+     * Logs out every session of the current user on all devices.
+     *
+     * @return response indicating successful logout
+     */
+    @PostMapping("/logout-all")
+    public ResponseEntity<ApiResponse<Void>> logoutAll() {
+        authService.logoutAll();
+        return ResponseEntity.ok(ApiResponse.success(ApiResponse.Messages.LOGOUT_ALL_SUCCESS));
+    }
+
     /**
      * Checks if a username is already taken.
      *
@@ -81,11 +98,27 @@ public class AuthController {
      * @return response containing the user's profile data
      */
     @GetMapping("/me")
-    public ResponseEntity<ApiResponse<User>> getCurrentUser() {
-        User user = authService.getCurrentUser();
+    public ResponseEntity<ApiResponse<UserInfo>> getCurrentUser() {
+        UserInfo user = authService.getCurrentUser();
         return ResponseEntity.ok(ApiResponse.success(ApiResponse.Messages.USER_INFO_RETRIEVED, user));
     }
 
+    /**
+     * Introspects several access tokens in one call.
+     * Returns the owner's information or the rejection reason for each token, in request order.
+     *
+     * @param request    the tokens to introspect
+     * @param credential the calling service's introspection credential
+     * @return response containing one result per token
+     */
+    @PostMapping("/introspect")
+    public ResponseEntity<ApiResponse<List<IntrospectionResult>>> introspect(
+            @Valid @RequestBody IntrospectionRequest request,
+            @RequestHeader(value = JwtConstants.INTROSPECTION_CREDENTIAL_HEADER, required = false) String credential) {
+        List<IntrospectionResult> results = authService.introspect(request.getTokens(), credential);
+        return ResponseEntity.ok(ApiResponse.success(ApiResponse.Messages.TOKENS_INTROSPECTED, results));
+    }
+
     /**
      * Refreshes the access token using a valid refresh token.
      *
@@ -0,0 +1,36 @@
+package jyoungmin.vocabauth.controller;
+
+import jyoungmin.vocabauth.security.SigningKeyManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+
+/**
+ * REST controller publishing the public token verification keys.
+ * Allows other services to verify access tokens locally without sharing the signing secret.
+ */
+@RestController
+@RequiredArgsConstructor
+public class JwksController {
+    /**
+     * Key manager holding the published public keys
+     */
+    private final SigningKeyManager signingKeyManager;
+
+    /**
+     * Returns the JSON Web Key Set with all public keys accepted for token verification.
+     *
+     * @return JWKS document, cacheable for a short period
+     */
+    @GetMapping(value = "/.well-known/jwks.json", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<String> jwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic())
+                .body(signingKeyManager.getJwksJson());
+    }
+}
@@ -0,0 +1,177 @@
+package jyoungmin.vocabauth.dao;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe Bloom filter over strings.
+ * Answers "definitely absent" or "possibly present"; false positives occur at roughly the configured
+ * rate once the expected number of entries has been added, false negatives never occur.
+ * Entries cannot be removed, so removed values simply become false positives.
+ */
+public final class BloomFilter {
+
+    /**
+     * Bits of the filter, 64 per word
+     */
+    private final AtomicLongArray bits;
+
+    /**
+     * Number of bits in the filter
+     */
+    private final long bitCount;
+
+    /**
+     * Number of bits set per entry
+     */
+    private final int hashCount;
+
+    /**
+     * Number of bits currently set, used to estimate the false-positive rate
+     */
+    private final AtomicLong setBits = new AtomicLong();
+
+    /**
+     * Creates a filter sized for the expected number of entries and false-positive rate.
+     *
+     * @param expectedEntries   number of entries the filter is sized for
+     * @param falsePositiveRate target false-positive rate at the expected number of entries
+     * @throws IllegalArgumentException if the parameters are out of range
+     */
+    public BloomFilter(long expectedEntries, double falsePositiveRate) {
+        if (expectedEntries <= 0) {
+            throw new IllegalArgumentException("Expected entries must be positive");
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("False-positive rate must be between 0 and 1");
+        }
+
+        // Optimal sizing: m = -n ln p / (ln 2)^2, k = m / n ln 2
+        long optimalBits = (long) Math.ceil(-expectedEntries * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = Math.toIntExact(Math.max(1, (optimalBits + 63) / 64));
+        this.bits = new AtomicLongArray(words);
+        this.bitCount = (long) words * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedEntries * Math.log(2)));
+    }
+
+    /**
+     * Adds a value to the filter.
+     *
+     * @param value the value to add
+     */
+    public void add(String value) {
+        long hash1 = hash(value);
+        long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < hashCount; i++) {
+            setBit(index(hash1, hash2, i));
+        }
+    }
+
+    /**
+     * Checks whether a value may have been added.
+     *
+     * @param value the value to check
+     * @return false if the value was definitely never added, true if it possibly was
+     */
+    public boolean mightContain(String value) {
+        long hash1 = hash(value);
+        long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < hashCount; i++) {
+            long index = index(hash1, hash2, i);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Estimates the current false-positive rate from the fraction of bits set.
+     *
+     * @return estimated probability that an absent value is reported as possibly present
+     */
+    public double expectedFalsePositiveRate() {
+        return Math.pow((double) setBits.get() / bitCount, hashCount);
+    }
+
+    /**
+     * Returns the memory used by the bit array.
+     *
+     * @return size of the bit array in bytes
+     */
+    public long memoryBytes() {
+        return bitCount / 8;
+    }
+
+    /**
+     * Returns the number of bits set per entry.
+     *
+     * @return number of hash functions
+     */
+    public int hashCount() {
+        return hashCount;
+    }
+
+    /**
+     * Sets one bit, counting it if it was not set before.
+     *
+     * @param index the bit index
+     */
+    private void setBit(long index) {
+        int word = (int) (index >>> 6);
+        long mask = 1L << index;
+        while (true) {
+            long current = bits.get(word);
+            if ((current & mask) != 0) {
+                return;
+            }
+            if (bits.compareAndSet(word, current, current | mask)) {
+                setBits.incrementAndGet();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Derives the i-th bit index from two hashes (Kirsch-Mitzenmacher double hashing).
+     *
+     * @param hash1 the first hash
+     * @param hash2 the second hash
+     * @param i     the hash function number
+     * @return bit index within the filter
+     */
+    private long index(long hash1, long hash2, int i) {
+        return Math.floorMod(hash1 + i * hash2, bitCount);
+    }
+
+    /**
+     * Computes a 64-bit hash of the UTF-8 bytes of a value (FNV-1a followed by a finalizing mix).
+     *
+     * @param value the value to hash
+     * @return 64-bit hash
+     */
+    private static long hash(String value) {
+        long hash = 0xCBF29CE484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xFF;
+            hash *= 0x100000001B3L;
+        }
+        return mix(hash);
+    }
+
+    /**
+     * Spreads the bits of a hash (MurmurHash3 64-bit finalizer).
+     *
+     * @param hash the hash to mix
+     * @return mixed hash
+     */
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,87 @@
+package jyoungmin.vocabauth.dao;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Redis storage of distributed rate limits using the generic cell rate algorithm (GCRA).
+ * Each key holds only its "theoretical arrival time"; a Lua script reads and advances it atomically,
+ * using the Redis server clock so that instances with skewed clocks agree.
+ * A call may take several tokens at once, which lets callers lease tokens and answer later checks locally.
+ */
+@Component
+@RequiredArgsConstructor
+public class RateLimitStore {
+
+    /**
+     * Key prefix of rate limit entries
+     */
+    private static final String KEY_PREFIX = "ratelimit:";
+
+    /**
+     * GCRA acquire script.
+     * ARGV: emission interval (ms per token), burst tolerance (ms), tokens wanted.
+     * Grants as many of the wanted tokens as the limit allows (at least one, or none)
+     * and returns {granted, retry-after ms}.
+     */
+    private static final RedisScript<List> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+            local interval = tonumber(ARGV[1])
+            local tolerance = tonumber(ARGV[2])
+            local wanted = tonumber(ARGV[3])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local tat = tonumber(redis.call('GET', KEYS[1]) or now)
+            if tat < now then
+                tat = now
+            end
+            local available = math.floor((now + tolerance + interval - tat) / interval)
+            if available < 1 then
+                return {0, tat - now - tolerance}
+            end
+            local granted = math.min(wanted, available)
+            local newTat = tat + granted * interval
+            redis.call('SET', KEYS[1], newTat, 'PX', math.max(1, newTat - now))
+            return {granted, 0}
+            """, List.class);
+
+    /**
+     * Template for Redis operations
+     */
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * Takes up to the wanted number of tokens from a limit.
+     *
+     * @param key    the limit key, e.g. "login:user:alice"
+     * @param limit  tokens per period
+     * @param period the period the limit applies to
+     * @param wanted the number of tokens wanted, at least 1
+     * @return the tokens granted, or the time until the next token is available
+     */
+    public Acquisition acquire(String key, int limit, Duration period, int wanted) {
+        long interval = Math.max(1, period.toMillis() / limit);
+        long tolerance = interval * (limit - 1);
+
+        List<?> result = redisTemplate.execute(ACQUIRE_SCRIPT, List.of(KEY_PREFIX + key),
+                Long.toString(interval), Long.toString(tolerance), Integer.toString(wanted));
+        if (result == null || result.size() < 2) {
+            throw new IllegalStateException("Unexpected rate limit script result: " + result);
+        }
+        return new Acquisition(((Number) result.get(0)).intValue(), Duration.ofMillis(((Number) result.get(1)).longValue()));
+    }
+
+    /**
+     * Result of a token acquisition.
+     *
+     * @param granted    number of tokens granted, 0 if the limit is exhausted
+     * @param retryAfter time until the next token is available when none was granted
+     */
+    public record Acquisition(int granted, Duration retryAfter) {
+    }
+}
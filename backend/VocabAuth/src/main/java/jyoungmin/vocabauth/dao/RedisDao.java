@@ -1,19 +1,41 @@
 package jyoungmin.vocabauth.dao;
 
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.SetArgs;
+import io.lettuce.core.cluster.api.async.RedisClusterAsyncCommands;
 import jyoungmin.vocabauth.exception.AuthException;
 import jyoungmin.vocabcommons.exception.ErrorCode;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * Data access object for Redis operations.
  * Provides methods for storing, retrieving, and deleting refresh tokens and session data.
+ * All reads go to the primary: a lagging replica could still hold a refresh token that was rotated or
+ * deleted, or miss one issued moments ago.
+ *
+ * <p>Besides the blocking single-key methods there is an asynchronous API on Lettuce's async commands,
+ * whose commands are written to the shared connection without waiting for earlier replies, and a batch API
+ * that sends all commands of a multi-key operation in one pipeline.</p>
  */
 @Slf4j
 @Component
@@ -28,6 +50,11 @@ public class RedisDao {
      */
     private final ValueOperations<String, Object> valueOperations;
 
+    /**
+     * Connection factory of the primary, used for the async API
+     */
+    private final RedisConnectionFactory connectionFactory;
+
     /**
      * Constructs RedisDao with the given Redis template.
      * Initializes value operations for simplified String handling.
@@ -36,9 +63,87 @@ public class RedisDao {
      */
     public RedisDao(RedisTemplate<String, Object> redisTemplate) {
         this.redisTemplate = redisTemplate;
+        this.connectionFactory = Objects.requireNonNull(redisTemplate.getConnectionFactory());
         this.valueOperations = redisTemplate.opsForValue();
     }
 
+    /**
+     * Retrieves data from the primary asynchronously.
+     *
+     * @param key the key to look up
+     * @return future of the data if found, failing with {@link AuthException} if Redis operation fails
+     */
+    public CompletableFuture<Optional<Object>> getValuesAsync(String key) {
+        return async("retrieve data from", key, commands -> commands.get(bytes(key)))
+                .thenApply(value -> Optional.ofNullable(value == null ? null : new String(value, StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Stores data with an expiration time asynchronously.
+     *
+     * @param key      the key under which to store the data
+     * @param data     the data to store
+     * @param duration the time-to-live for the data
+     * @return future completing when the data is stored, failing with {@link AuthException} if Redis operation fails
+     */
+    public CompletableFuture<Void> setValuesAsync(String key, String data, Duration duration) {
+        return async("save data to", key, commands -> commands.set(bytes(key), bytes(data), SetArgs.Builder.px(duration.toMillis())))
+                .thenApply(reply -> null);
+    }
+
+    /**
+     * Deletes data asynchronously.
+     *
+     * @param key the key of the data to delete
+     * @return future of whether the key existed, failing with {@link AuthException} if Redis operation fails
+     */
+    public CompletableFuture<Boolean> deleteValuesAsync(String key) {
+        return async("delete data from", key, commands -> commands.del(bytes(key)))
+                .thenApply(deleted -> deleted != null && deleted > 0);
+    }
+
+    /**
+     * Retrieves the data of several keys from the primary in one pipeline.
+     *
+     * @param keys the keys to look up
+     * @return data by key, empty for keys that do not exist
+     * @throws AuthException if Redis operation fails
+     */
+    public Map<String, Optional<Object>> getValues(List<String> keys) {
+        List<Object> values = pipelined("retrieve data from", operations -> keys.forEach(key -> operations.opsForValue().get(key)));
+
+        Map<String, Optional<Object>> result = new LinkedHashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            result.put(keys.get(i), Optional.ofNullable(values.get(i)));
+        }
+        return result;
+    }
+
+    /**
+     * Stores several entries with the same expiration time in one pipeline.
+     *
+     * @param values   the data by key
+     * @param duration the time-to-live for the data
+     * @throws AuthException if Redis operation fails
+     */
+    public void setValues(Map<String, String> values, Duration duration) {
+        pipelined("save data to", operations -> values.forEach((key, data) -> operations.opsForValue().set(key, data, duration)));
+    }
+
+    /**
+     * Deletes several keys in one pipeline.
+     * Keys are deleted one command each, so they may live in different cluster slots.
+     *
+     * @param keys the keys to delete
+     * @return number of keys that existed
+     * @throws AuthException if Redis operation fails
+     */
+    public long deleteValues(Collection<String> keys) {
+        return pipelined("delete data from", operations -> keys.forEach(operations::delete)).stream()
+                .filter(reply -> reply instanceof Number deleted ? deleted.longValue() > 0 : Boolean.TRUE.equals(reply))
+                .count();
+    }
+
     /**
      * Stores data in Redis without expiration time.
      *
@@ -117,4 +222,68 @@ public class RedisDao {
             );
         }
     }
+
+    /**
+     * Runs a command on Lettuce's async API of the shared connection.
+     *
+     * @param operation description of the operation for error messages, e.g. "save data to"
+     * @param key       the key the command works on, for logging
+     * @param command   issues the command
+     * @param <T>       reply type
+     * @return future of the reply, failing with {@link AuthException} if Redis operation fails
+     */
+    private <T> CompletableFuture<T> async(String operation, String key,
+                                           Function<RedisClusterAsyncCommands<byte[], byte[]>, RedisFuture<T>> command) {
+        CompletableFuture<T> future;
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            @SuppressWarnings("unchecked")
+            RedisClusterAsyncCommands<byte[], byte[]> commands =
+                    (RedisClusterAsyncCommands<byte[], byte[]>) connection.getNativeConnection();
+            future = command.apply(commands).toCompletableFuture();
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+
+        return future.handle((reply, error) -> {
+            if (error != null) {
+                log.error("[RedisDao] Failed to {} Redis for key: {}", operation, key, error);
+                throw new AuthException(ErrorCode.REDIS_ERROR, "Failed to " + operation + " Redis: " + error.getMessage());
+            }
+            return reply;
+        });
+    }
+
+    /**
+     * Sends the commands issued by a callback in one pipeline.
+     *
+     * @param operation description of the operation for error messages, e.g. "save data to"
+     * @param commands  issues the commands
+     * @return the replies in command order
+     * @throws AuthException if Redis operation fails
+     */
+    private List<Object> pipelined(String operation, Consumer<RedisOperations<String, Object>> commands) {
+        try {
+            return redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object execute(RedisOperations operations) {
+                    commands.accept(operations);
+                    return null;
+                }
+            });
+        } catch (DataAccessException e) {
+            log.error("[RedisDao] Failed to {} Redis in pipeline", operation, e);
+            throw new AuthException(ErrorCode.REDIS_ERROR, "Failed to " + operation + " Redis: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Encodes a string the way the templates' string serializer does.
+     *
+     * @param value the string
+     * @return UTF-8 bytes
+     */
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
 }
@@ -0,0 +1,247 @@
+package jyoungmin.vocabauth.dao;
+
+import jyoungmin.vocabauth.exception.AuthException;
+import jyoungmin.vocabcommons.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Data access object for refresh token sessions in Redis.
+ * Keeps one hash per user ({@code rt:<username>}) mapping each session ID to
+ * {@code <expiresAtMillis>:<SHA-256 digest of the refresh token>}, so a user can stay logged in on
+ * several devices and each session costs a fixed ~60 bytes instead of the full JWT.
+ * The hash expires with its longest-lived session; expired sessions are pruned when the user logs in.
+ * Rotation is a compare-and-set on the presented token, so a session deleted by a logout stays deleted.
+ * Session checks read the primary: a lagging replica would accept rotated or logged-out tokens and reject new ones.
+ */
+@Slf4j
+@Component
+public class RefreshTokenStore {
+
+    /**
+     * Key prefix of per-user session hashes
+     */
+    private static final String KEY_PREFIX = "rt:";
+
+    /**
+     * Compare-and-set rotation script.
+     * ARGV: session ID, ":<digest>" of the presented token, new session entry, TTL in milliseconds.
+     * Returns 1 if rotated, 0 if the session does not exist and -1 if it holds another token.
+     */
+    private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('HGET', KEYS[1], ARGV[1])
+            if not current then
+                return 0
+            end
+            if string.sub(current, -string.len(ARGV[2])) ~= ARGV[2] then
+                return -1
+            end
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[3])
+            redis.call('PEXPIRE', KEYS[1], ARGV[4])
+            return 1
+            """, Long.class);
+
+    /**
+     * Template for Redis operations
+     */
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    /**
+     * Constructs the store with the given Redis template.
+     *
+     * @param redisTemplate the Redis template for data operations
+     */
+    public RefreshTokenStore(RedisTemplate<String, Object> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * Stores a new session and prunes the user's expired sessions.
+     * Writes the session, extends the hash TTL and reads the remaining sessions in one pipelined round trip.
+     *
+     * @param username     the session owner
+     * @param sessionId    the session ID ("sid" claim)
+     * @param refreshToken the refresh token issued for the session
+     * @param ttl          lifetime of the refresh token
+     * @throws AuthException if Redis operation fails
+     */
+    public void createSession(String username, String sessionId, String refreshToken, Duration ttl) {
+        String key = KEY_PREFIX + username;
+        long now = System.currentTimeMillis();
+        try {
+            List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object execute(RedisOperations operations) {
+                    operations.opsForHash().put(key, sessionId, encode(refreshToken, now + ttl.toMillis()));
+                    operations.expire(key, ttl);
+                    operations.opsForHash().entries(key);
+                    return null;
+                }
+            });
+
+            @SuppressWarnings("unchecked")
+            Map<Object, Object> sessions = (Map<Object, Object>) results.get(results.size() - 1);
+            Object[] expired = sessions.entrySet().stream()
+                    .filter(entry -> expiresAt(entry.getValue().toString()) <= now)
+                    .map(Map.Entry::getKey)
+                    .toArray();
+            if (expired.length > 0) {
+                redisTemplate.opsForHash().delete(key, expired);
+            }
+        } catch (DataAccessException e) {
+            log.error("[RefreshTokenStore] Failed to create session for user: {}", username, e);
+            throw new AuthException(ErrorCode.REDIS_ERROR, "Failed to save session to Redis: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Replaces the refresh token of an existing session and extends the hash TTL, but only if the session still
+     * holds the presented token. The check and the write run atomically in one script, so a refresh racing with a
+     * logout cannot re-create the deleted session, and two refreshes with the same token cannot both succeed.
+     *
+     * @param username       the session owner
+     * @param sessionId      the session ID
+     * @param presentedToken the refresh token presented by the client
+     * @param refreshToken   the newly issued refresh token
+     * @param ttl            lifetime of the new refresh token
+     * @throws AuthException if the session no longer exists, holds another token, or Redis operation fails
+     */
+    public void rotateSession(String username, String sessionId, String presentedToken, String refreshToken, Duration ttl) {
+        String value = encode(refreshToken, System.currentTimeMillis() + ttl.toMillis());
+        Long result;
+        try {
+            result = redisTemplate.execute(ROTATE_SCRIPT, List.of(KEY_PREFIX + username),
+                    sessionId, digestSuffix(presentedToken), value, Long.toString(ttl.toMillis()));
+        } catch (DataAccessException e) {
+            log.error("[RefreshTokenStore] Failed to rotate session for user: {}", username, e);
+            throw new AuthException(ErrorCode.REDIS_ERROR, "Failed to save session to Redis: " + e.getMessage());
+        }
+
+        if (result == null || result == 0) {
+            throw new AuthException(
+                    ErrorCode.REFRESH_TOKEN_NOT_FOUND,
+                    "Refresh token not found in store (user may have logged out)"
+            );
+        }
+        if (result < 0) {
+            throw new AuthException(ErrorCode.REFRESH_TOKEN_INVALID, "Refresh token does not match stored token");
+        }
+    }
+
+    /**
+     * Checks whether a refresh token is the current token of its session.
+     *
+     * @param username     the session owner
+     * @param sessionId    the session ID
+     * @param refreshToken the presented refresh token
+     * @return true if the session exists, has not expired and holds this token
+     * @throws AuthException if the session does not exist or Redis operation fails
+     */
+    public boolean matches(String username, String sessionId, String refreshToken) {
+        Object stored;
+        try {
+            stored = redisTemplate.opsForHash().get(KEY_PREFIX + username, sessionId);
+        } catch (DataAccessException e) {
+            log.error("[RefreshTokenStore] Failed to read session for user: {}", username, e);
+            throw new AuthException(ErrorCode.REDIS_ERROR, "Failed to retrieve session from Redis: " + e.getMessage());
+        }
+
+        if (stored == null || expiresAt(stored.toString()) <= System.currentTimeMillis()) {
+            throw new AuthException(
+                    ErrorCode.REFRESH_TOKEN_NOT_FOUND,
+                    "Refresh token not found in store (user may have logged out)"
+            );
+        }
+        return MessageDigest.isEqual(
+                stored.toString().getBytes(StandardCharsets.US_ASCII),
+                encode(refreshToken, expiresAt(stored.toString())).getBytes(StandardCharsets.US_ASCII)
+        );
+    }
+
+    /**
+     * Deletes a single session, e.g. on logout from one device.
+     *
+     * @param username  the session owner
+     * @param sessionId the session ID
+     * @throws AuthException if Redis operation fails
+     */
+    public void deleteSession(String username, String sessionId) {
+        try {
+            redisTemplate.opsForHash().delete(KEY_PREFIX + username, sessionId);
+        } catch (DataAccessException e) {
+            log.error("[RefreshTokenStore] Failed to delete session for user: {}", username, e);
+            throw new AuthException(ErrorCode.REDIS_ERROR, "Failed to delete session from Redis: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Deletes all sessions of a user, together with the single-session key used before sessions existed.
+     *
+     * @param username the session owner
+     * @throws AuthException if Redis operation fails
+     */
+    public void deleteAllSessions(String username) {
+        try {
+            redisTemplate.delete(List.of(KEY_PREFIX + username, username));
+        } catch (DataAccessException e) {
+            log.error("[RefreshTokenStore] Failed to delete sessions for user: {}", username, e);
+            throw new AuthException(ErrorCode.REDIS_ERROR, "Failed to delete sessions from Redis: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Encodes a session entry.
+     *
+     * @param refreshToken    the refresh token
+     * @param expiresAtMillis when the refresh token expires (epoch milliseconds)
+     * @return {@code <expiresAtMillis>:<digest>}
+     */
+    private static String encode(String refreshToken, long expiresAtMillis) {
+        return expiresAtMillis + digestSuffix(refreshToken);
+    }
+
+    /**
+     * Returns the part of a session entry that identifies the refresh token.
+     *
+     * @param refreshToken the refresh token
+     * @return {@code :<digest>}
+     */
+    private static String digestSuffix(String refreshToken) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(refreshToken.getBytes(StandardCharsets.UTF_8));
+            return ":" + Base64.getEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Reads the expiry time of a session entry.
+     *
+     * @param value the encoded session entry
+     * @return expiry time in epoch milliseconds, or 0 if malformed
+     */
+    private static long expiresAt(String value) {
+        int separator = value.indexOf(':');
+        try {
+            return separator > 0 ? Long.parseLong(value.substring(0, separator)) : 0;
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,316 @@
+package jyoungmin.vocabauth.dao;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jyoungmin.vocabauth.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * In-memory Bloom filter of existing usernames placed in front of username availability checks.
+ * A negative answer means the username is free without querying the database; only possible hits
+ * are confirmed against MySQL. The filter is built at startup by streaming all usernames and
+ * updated on registration; with Redis sync enabled, new usernames are also broadcast to other instances.
+ * Pub/sub delivery is at-most-once, so the filter is also rescanned periodically: a username missed
+ * while the subscription was down is picked up at the next rescan at the latest.
+ *
+ * <p>Usernames are added lower-cased, so a case-insensitive database collation never turns a
+ * filter miss into a wrong "available" answer. Memory use, the estimated false-positive rate and the
+ * observed check outcomes are published as "auth.username.filter.*" metrics.</p>
+ */
+@Slf4j
+@Component
+public class UsernameBloomFilter {
+
+    /**
+     * Redis pub/sub channel announcing newly registered usernames
+     */
+    static final String CHANNEL = "auth:usernames";
+
+    /**
+     * Whether the filter is used at all
+     */
+    private final boolean enabled;
+
+    /**
+     * Whether new usernames are shared with other instances through Redis
+     */
+    private final boolean redisSync;
+
+    /**
+     * Delay between periodic rescans of all usernames, zero to scan only at startup
+     */
+    private final Duration rescanInterval;
+
+    /**
+     * The filter itself
+     */
+    private final BloomFilter filter;
+
+    /**
+     * Repository for the startup scan
+     */
+    private final UserRepository userRepository;
+
+    /**
+     * Read-only transaction wrapping the streaming scan
+     */
+    private final TransactionTemplate readOnlyTransaction;
+
+    /**
+     * Template used to publish new usernames
+     */
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    /**
+     * Connection factory used for the pub/sub subscription
+     */
+    private final RedisConnectionFactory connectionFactory;
+
+    /**
+     * Checks answered by the filter alone
+     */
+    private final AtomicLong negatives = new AtomicLong();
+
+    /**
+     * Possible hits the database confirmed
+     */
+    private final AtomicLong truePositives = new AtomicLong();
+
+    /**
+     * Possible hits the database did not confirm
+     */
+    private final AtomicLong falsePositives = new AtomicLong();
+
+    /**
+     * Whether the startup scan has completed; until then every username is a possible hit
+     */
+    private volatile boolean ready;
+
+    /**
+     * Container holding the pub/sub subscription, or null when Redis sync is disabled
+     */
+    private RedisMessageListenerContainer listenerContainer;
+
+    /**
+     * Executor running the startup scan and the periodic rescans
+     */
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * Creates the filter and registers its metrics.
+     *
+     * @param enabled            whether the filter is used
+     * @param expectedUsers      number of usernames the filter is sized for
+     * @param falsePositiveRate  target false-positive rate at the expected number of usernames
+     * @param redisSync          whether new usernames are shared through Redis
+     * @param rescanInterval     delay between periodic rescans of all usernames, zero to disable
+     * @param userRepository     repository for the startup scan
+     * @param transactionManager transaction manager for the streaming scan
+     * @param redisTemplate      template used to publish new usernames
+     * @param connectionFactory  connection factory used for the pub/sub subscription
+     * @param meterRegistry      registry for the filter metrics
+     */
+    public UsernameBloomFilter(@Value("${auth.username-filter.enabled:true}") boolean enabled,
+                               @Value("${auth.username-filter.expected-users:1000000}") long expectedUsers,
+                               @Value("${auth.username-filter.false-positive-rate:0.01}") double falsePositiveRate,
+                               @Value("${auth.username-filter.redis-sync:true}") boolean redisSync,
+                               @Value("${auth.username-filter.rescan-interval:1h}") Duration rescanInterval,
+                               UserRepository userRepository,
+                               PlatformTransactionManager transactionManager,
+                               RedisTemplate<String, Object> redisTemplate,
+                               RedisConnectionFactory connectionFactory,
+                               MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.redisSync = redisSync;
+        this.rescanInterval = rescanInterval;
+        this.filter = new BloomFilter(expectedUsers, falsePositiveRate);
+        this.userRepository = userRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.redisTemplate = redisTemplate;
+        this.connectionFactory = connectionFactory;
+
+        Gauge.builder("auth.username.filter.memory", filter, BloomFilter::memoryBytes)
+                .baseUnit("bytes").description("Memory used by the username Bloom filter").register(meterRegistry);
+        Gauge.builder("auth.username.filter.expected.fpp", filter, BloomFilter::expectedFalsePositiveRate)
+                .description("False-positive rate estimated from the filter's fill ratio").register(meterRegistry);
+        Gauge.builder("auth.username.filter.observed.fpp", this, UsernameBloomFilter::observedFalsePositiveRate)
+                .description("Share of absent usernames the filter reported as possible hits").register(meterRegistry);
+        FunctionCounter.builder("auth.username.filter.checks", negatives, AtomicLong::get)
+                .tag("result", "negative").register(meterRegistry);
+        FunctionCounter.builder("auth.username.filter.checks", truePositives, AtomicLong::get)
+                .tag("result", "true_positive").register(meterRegistry);
+        FunctionCounter.builder("auth.username.filter.checks", falsePositives, AtomicLong::get)
+                .tag("result", "false_positive").register(meterRegistry);
+    }
+
+    /**
+     * Subscribes to usernames registered on other instances, then loads all existing usernames
+     * and schedules the periodic rescans. The subscription starts first so that no registration
+     * during the scan is missed.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            log.info("Username Bloom filter is disabled");
+            return;
+        }
+
+        if (redisSync) {
+            listenerContainer = new RedisMessageListenerContainer();
+            listenerContainer.setConnectionFactory(connectionFactory);
+            listenerContainer.addMessageListener((message, pattern) ->
+                            addLocal(new String(message.getBody(), StandardCharsets.UTF_8)),
+                    new ChannelTopic(CHANNEL));
+            listenerContainer.afterPropertiesSet();
+            listenerContainer.start();
+        }
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "username-filter-build");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.execute(this::build);
+        if (rescanInterval.isPositive()) {
+            scheduler.scheduleWithFixedDelay(this::build,
+                    rescanInterval.toMillis(), rescanInterval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Checks whether a username may exist.
+     *
+     * @param username the username to check
+     * @return false if the username definitely does not exist, true if it must be checked in the database
+     */
+    public boolean mightExist(String username) {
+        if (!enabled || !ready) {
+            return true;
+        }
+        if (!filter.mightContain(normalize(username))) {
+            negatives.incrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Records the database answer for a possible hit, for the observed false-positive rate.
+     *
+     * @param exists whether the database found the username
+     */
+    public void recordLookup(boolean exists) {
+        if (enabled && ready) {
+            (exists ? truePositives : falsePositives).incrementAndGet();
+        }
+    }
+
+    /**
+     * Adds a newly registered username and announces it to other instances when Redis sync is enabled.
+     *
+     * @param username the registered username
+     */
+    public void add(String username) {
+        if (!enabled) {
+            return;
+        }
+        addLocal(username);
+        if (redisSync) {
+            try {
+                redisTemplate.convertAndSend(CHANNEL, username);
+            } catch (RuntimeException e) {
+                // Other instances report the username as available until their next rescan;
+                // registering it there is still rejected by the unique constraint
+                log.warn("Failed to publish new username to other instances: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Stops the pub/sub subscription and the periodic rescans.
+     */
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        if (listenerContainer != null) {
+            listenerContainer.stop();
+        }
+    }
+
+    /**
+     * Streams all usernames from the database into the filter.
+     * Usernames are only ever added, so a rescan can run while the filter answers checks.
+     */
+    private void build() {
+        long started = System.nanoTime();
+        try {
+            AtomicLong count = new AtomicLong();
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<String> usernames = userRepository.streamAllUserNames()) {
+                    usernames.forEach(username -> {
+                        addLocal(username);
+                        count.incrementAndGet();
+                    });
+                }
+            });
+            ready = true;
+            log.info("Username Bloom filter built with {} usernames in {} ms ({} KiB, {} hashes)",
+                    count, (System.nanoTime() - started) / 1_000_000, filter.memoryBytes() / 1024, filter.hashCount());
+        } catch (RuntimeException e) {
+            log.error("Failed to build username Bloom filter, availability checks will query the database", e);
+        }
+    }
+
+    /**
+     * Adds a username to the local filter only.
+     *
+     * @param username the username to add
+     */
+    private void addLocal(String username) {
+        filter.add(normalize(username));
+    }
+
+    /**
+     * Returns the share of checks for absent usernames that the filter could not answer.
+     *
+     * @return observed false-positive rate, or 0 before any absent username was checked
+     */
+    private double observedFalsePositiveRate() {
+        long absent = negatives.get() + falsePositives.get();
+        return absent == 0 ? 0 : (double) falsePositives.get() / absent;
+    }
+
+    /**
+     * Normalizes a username for the filter.
+     *
+     * @param username the username
+     * @return lower-cased username
+     */
+    private static String normalize(String username) {
+        return username.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,65 @@
+package jyoungmin.vocabauth.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import jyoungmin.vocabcommons.exception.ErrorCode;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Outcome of one row of a bulk registration.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkRegisterResult {
+    /**
+     * Line number of the row in the request body, starting at 1
+     */
+    private int line;
+
+    /**
+     * Username of the row, if it could be read
+     */
+    private String userName;
+
+    /**
+     * Whether the user was created
+     */
+    private boolean created;
+
+    /**
+     * Reason the row was rejected, if it was
+     */
+    private ErrorCode error;
+
+    /**
+     * Details of the rejection, if it was rejected
+     */
+    private String message;
+
+    /**
+     * Creates the result of a created user.
+     *
+     * @param line     line number of the row
+     * @param userName username of the created user
+     * @return successful result
+     */
+    public static BulkRegisterResult created(int line, String userName) {
+        return new BulkRegisterResult(line, userName, true, null, null);
+    }
+
+    /**
+     * Creates the result of a rejected row.
+     *
+     * @param line     line number of the row
+     * @param userName username of the row, may be null
+     * @param error    reason the row was rejected
+     * @param message  details of the rejection
+     * @return failed result
+     */
+    public static BulkRegisterResult rejected(int line, String userName, ErrorCode error, String message) {
+        return new BulkRegisterResult(line, userName, false, error, message);
+    }
+}
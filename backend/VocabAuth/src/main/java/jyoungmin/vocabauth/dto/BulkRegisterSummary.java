@@ -0,0 +1,45 @@
+package jyoungmin.vocabauth.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Summary of a bulk registration with per-row results and throughput.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+public class BulkRegisterSummary {
+    /**
+     * Number of rows read
+     */
+    private int total;
+
+    /**
+     * Number of users created
+     */
+    private int created;
+
+    /**
+     * Number of rows rejected
+     */
+    private int failed;
+
+    /**
+     * Time spent processing the request, in milliseconds
+     */
+    private long elapsedMillis;
+
+    /**
+     * Rows processed per second
+     */
+    private double rowsPerSecond;
+
+    /**
+     * Result of each row, in line order
+     */
+    private List<BulkRegisterResult> results;
+}
@@ -3,6 +3,7 @@ package jyoungmin.vocabauth.entity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
+import jyoungmin.vocabauth.security.UserCacheInvalidationListener;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -12,6 +13,7 @@ import lombok.NoArgsConstructor;
  * Stores user credentials, profile information, and account status.
  */
 @Entity
+@EntityListeners(UserCacheInvalidationListener.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
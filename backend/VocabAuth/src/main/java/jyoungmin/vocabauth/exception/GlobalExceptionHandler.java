@@ -21,6 +21,38 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 @RestControllerAdvice
 public class GlobalExceptionHandler extends BaseGlobalExceptionHandler {
 
+    /**
+     * Handles authentication service exceptions carrying an error code.
+     * Logs at appropriate level based on HTTP status (4xx=warn, 5xx=error).
+     *
+     * @param e       the auth exception
+     * @param request the HTTP request
+     * @return error response with the status of the error code
+     */
+    @ExceptionHandler(AuthException.class)
+    public ResponseEntity<ErrorResponse> handleAuthException(
+            AuthException e,
+            HttpServletRequest request) {
+
+        if (e.getErrorCode().getHttpStatus().is5xxServerError()) {
+            log.error("[AuthException] URI: {} | Code: {}, Details: {}",
+                    request.getRequestURI(), e.getErrorCode().getCode(), e.getDetails());
+        } else {
+            log.warn("[AuthException] URI: {} | Code: {}, Details: {}",
+                    request.getRequestURI(), e.getErrorCode().getCode(), e.getDetails());
+        }
+
+        ErrorResponse errorResponse = ErrorResponse.of(
+                e.getErrorCode(),
+                e.getDetails(),
+                request.getRequestURI()
+        );
+
+        return ResponseEntity
+                .status(e.getErrorCode().getHttpStatus())
+                .body(errorResponse);
+    }
+
     /**
      * Handles invalid login credentials.
      * Returns a generic error message to prevent username enumeration.
@@ -1,10 +1,30 @@
 package jyoungmin.vocabauth.repository;
 
 import jyoungmin.vocabauth.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface UserRepository extends CrudRepository<User, Long> {
     Optional<User> findByUserName(String userName);
+
+    List<User> findAllByUserNameIn(Collection<String> userNames);
+
+    @Query("select u.userName from User u where u.userName in :userNames")
+    List<String> findExistingUserNames(Collection<String> userNames);
+
+    // Integer.MIN_VALUE makes MySQL Connector/J stream rows instead of loading the whole result
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "-2147483648"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select u.userName from User u")
+    Stream<String> streamAllUserNames();
 }
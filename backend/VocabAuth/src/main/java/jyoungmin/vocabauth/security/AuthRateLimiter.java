@@ -0,0 +1,243 @@
+package jyoungmin.vocabauth.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jyoungmin.vocabauth.dao.RateLimitStore;
+import jyoungmin.vocabauth.exception.AuthException;
+import jyoungmin.vocabcommons.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Distributed rate limiter for authentication endpoints, keyed by username and by client IP.
+ * Limits are shared by all instances through {@link RateLimitStore}. To keep most checks off the network,
+ * each instance leases a few tokens per key at a time and spends them locally until they run out or expire;
+ * leases never exceed a tenth of a limit, so tight limits such as logins are checked in Redis every time.
+ * If Redis is unavailable, requests are allowed (fail open) and counted as errors.
+ *
+ * <p>The client IP is the servlet remote address. Behind the gateway, Tomcat's remote IP valve replaces it with the
+ * address from X-Forwarded-For, but only for requests arriving from {@code server.tomcat.remoteip.internal-proxies};
+ * without that, every client would share the gateway's address and its per-IP limits.</p>
+ *
+ * <p>Decisions are published as "auth.rate.limit.requests" (tags: operation, scope, result),
+ * Redis round trips as "auth.rate.limit.redis.calls" and the number of held leases as "auth.rate.limit.leases".</p>
+ */
+@Slf4j
+@Component
+public class AuthRateLimiter {
+
+    /**
+     * Login attempts
+     */
+    public static final String LOGIN = "login";
+
+    /**
+     * Account registrations
+     */
+    public static final String REGISTER = "register";
+
+    /**
+     * Other authentication endpoints (username checks, /me, token refresh)
+     */
+    public static final String GENERAL = "general";
+
+    /**
+     * Whether limits are enforced
+     */
+    private final boolean enabled;
+
+    /**
+     * Maximum number of tokens leased per Redis call
+     */
+    private final int leaseSize;
+
+    /**
+     * Shared Redis storage of the limits
+     */
+    private final RateLimitStore store;
+
+    /**
+     * Limits by operation and scope, e.g. "login:user"
+     */
+    private final Map<String, Limit> limits;
+
+    /**
+     * Tokens leased from Redis, by limit key; unused tokens are dropped when the lease expires
+     */
+    private final Cache<String, AtomicInteger> leases;
+
+    /**
+     * Registry for decision counters
+     */
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Counter of Redis round trips
+     */
+    private final Counter redisCalls;
+
+    /**
+     * Creates the limiter.
+     *
+     * @param enabled          whether limits are enforced
+     * @param period           period all limits apply to
+     * @param loginPerUser     login attempts per username and period
+     * @param loginPerIp       login attempts per client IP and period
+     * @param registerPerIp    registrations per client IP and period
+     * @param generalPerUser   other requests per username and period
+     * @param generalPerIp     other requests per client IP and period
+     * @param leaseSize        maximum number of tokens leased per Redis call
+     * @param leaseTtl         how long leased tokens stay usable
+     * @param store            shared Redis storage of the limits
+     * @param meterRegistry    registry for limiter metrics
+     */
+    public AuthRateLimiter(@Value("${auth.rate-limit.enabled:true}") boolean enabled,
+                           @Value("${auth.rate-limit.period:60s}") Duration period,
+                           @Value("${auth.rate-limit.login.per-user:5}") int loginPerUser,
+                           @Value("${auth.rate-limit.login.per-ip:20}") int loginPerIp,
+                           @Value("${auth.rate-limit.register.per-ip:3}") int registerPerIp,
+                           @Value("${auth.rate-limit.general.per-user:60}") int generalPerUser,
+                           @Value("${auth.rate-limit.general.per-ip:120}") int generalPerIp,
+                           @Value("${auth.rate-limit.lease-size:5}") int leaseSize,
+                           @Value("${auth.rate-limit.lease-ttl:1s}") Duration leaseTtl,
+                           RateLimitStore store,
+                           MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.leaseSize = leaseSize;
+        this.store = store;
+        this.meterRegistry = meterRegistry;
+        this.leases = Caffeine.newBuilder()
+                .expireAfterWrite(leaseTtl)
+                .maximumSize(100_000)
+                .build();
+
+        this.limits = Map.of(
+                LOGIN + ":user", new Limit(loginPerUser, period),
+                LOGIN + ":ip", new Limit(loginPerIp, period),
+                REGISTER + ":ip", new Limit(registerPerIp, period),
+                GENERAL + ":user", new Limit(generalPerUser, period),
+                GENERAL + ":ip", new Limit(generalPerIp, period)
+        );
+
+        this.redisCalls = Counter.builder("auth.rate.limit.redis.calls")
+                .description("Round trips to Redis to lease rate limit tokens")
+                .register(meterRegistry);
+        Gauge.builder("auth.rate.limit.leases", leases, cache -> cache.estimatedSize())
+                .description("Rate limit keys with locally leased tokens")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Takes one token for the current request from the username limit (if a username is given)
+     * and from the client IP limit of the operation.
+     *
+     * @param operation the limited operation, e.g. {@link #LOGIN}
+     * @param username  the username the request acts on, or null for anonymous requests
+     * @throws AuthException if a limit is exhausted
+     */
+    public void acquire(String operation, String username) {
+        if (!enabled) {
+            return;
+        }
+        if (username != null) {
+            acquire(operation, "user", username.toLowerCase(Locale.ROOT));
+        }
+        String clientIp = currentClientIp();
+        if (clientIp != null) {
+            acquire(operation, "ip", clientIp);
+        }
+    }
+
+    /**
+     * Takes one token from a single limit, from the local lease if possible.
+     *
+     * @param operation the limited operation
+     * @param scope     "user" or "ip"
+     * @param subject   the username or client IP
+     * @throws AuthException if the limit is exhausted
+     */
+    private void acquire(String operation, String scope, String subject) {
+        Limit limit = limits.get(operation + ":" + scope);
+        if (limit == null || limit.perPeriod() <= 0) {
+            return;
+        }
+
+        String key = operation + ":" + scope + ":" + subject;
+        AtomicInteger lease = leases.getIfPresent(key);
+        if (lease != null && lease.getAndDecrement() > 0) {
+            record(operation, scope, "allowed");
+            return;
+        }
+
+        int wanted = Math.max(1, Math.min(leaseSize, limit.perPeriod() / 10));
+        RateLimitStore.Acquisition acquisition;
+        try {
+            redisCalls.increment();
+            acquisition = store.acquire(key, limit.perPeriod(), limit.period(), wanted);
+        } catch (RuntimeException e) {
+            log.warn("Rate limit check failed for {}, allowing request: {}", key, e.getMessage());
+            record(operation, scope, "error");
+            return;
+        }
+
+        if (acquisition.granted() == 0) {
+            record(operation, scope, "rejected");
+            throw new AuthException(
+                    ErrorCode.RATE_LIMIT_EXCEEDED,
+                    "Too many " + operation + " requests for this " + scope
+                            + ". Retry in " + Math.max(1, acquisition.retryAfter().toSeconds()) + "s"
+            );
+        }
+
+        if (acquisition.granted() > 1) {
+            leases.put(key, new AtomicInteger(acquisition.granted() - 1));
+        }
+        record(operation, scope, "allowed");
+    }
+
+    /**
+     * Counts a limiter decision.
+     *
+     * @param operation the limited operation
+     * @param scope     "user" or "ip"
+     * @param result    "allowed", "rejected" or "error"
+     */
+    private void record(String operation, String scope, String result) {
+        meterRegistry.counter("auth.rate.limit.requests",
+                "operation", operation, "scope", scope, "result", result).increment();
+    }
+
+    /**
+     * Returns the IP address of the client of the current request, as resolved from X-Forwarded-For for trusted proxies.
+     *
+     * @return client IP, or null outside of a request
+     */
+    private static String currentClientIp() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            HttpServletRequest request = attributes.getRequest();
+            return request.getRemoteAddr();
+        }
+        return null;
+    }
+
+    /**
+     * A limit of tokens per period.
+     *
+     * @param perPeriod tokens per period, 0 to disable
+     * @param period    the period
+     */
+    private record Limit(int perPeriod, Duration period) {
+    }
+}
@@ -0,0 +1,302 @@
+package jyoungmin.vocabauth.security;
+
+import jakarta.annotation.PreDestroy;
+import jyoungmin.vocabauth.exception.AuthException;
+import jyoungmin.vocabcommons.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * BCrypt password encoder that hashes on a dedicated bounded thread pool.
+ * Login and registration hand their hashing to the pool, so a login storm is limited to a fixed
+ * number of CPU-bound hashes and cannot occupy every request thread; when the queue is full,
+ * requests are rejected at once with {@link ErrorCode#SERVER_BUSY}.
+ *
+ * <p>The BCrypt strength is either configured or calibrated at startup to the target hash latency.
+ * Stored hashes with a lower strength are upgraded on the user's next successful login
+ * (see {@link CustomUserDetailsService#updatePassword}).</p>
+ */
+@Slf4j
+@Component
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    /**
+     * Lowest strength chosen by calibration (Spring Security's default)
+     */
+    private static final int MIN_CALIBRATED_STRENGTH = 10;
+
+    /**
+     * Highest strength chosen by calibration
+     */
+    private static final int MAX_CALIBRATED_STRENGTH = 16;
+
+    /**
+     * Pause before bulk hashing retries a submission rejected by the full queue
+     */
+    private static final Duration QUEUE_RETRY_DELAY = Duration.ofMillis(10);
+
+    /**
+     * BCrypt encoder doing the actual hashing
+     */
+    private final BCryptPasswordEncoder delegate;
+
+    /**
+     * Pool running the hashing work
+     */
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * Maximum time a request waits for its hash, including time in the queue
+     */
+    private final Duration timeout;
+
+    /**
+     * Creates the encoder and its hashing pool.
+     *
+     * @param strength      BCrypt strength, or 0 to calibrate it at startup
+     * @param targetLatency hash latency aimed at by calibration
+     * @param threads       number of hashing threads, or 0 for one per CPU core
+     * @param queueCapacity maximum number of hashes waiting for a thread
+     * @param timeout       maximum time a request waits for its hash
+     */
+    public BoundedPasswordEncoder(@Value("${auth.password-hashing.bcrypt.strength:0}") int strength,
+                                  @Value("${auth.password-hashing.bcrypt.target-latency:250ms}") Duration targetLatency,
+                                  @Value("${auth.password-hashing.threads:0}") int threads,
+                                  @Value("${auth.password-hashing.queue-capacity:64}") int queueCapacity,
+                                  @Value("${auth.password-hashing.timeout:5s}") Duration timeout) {
+        int effectiveStrength = strength > 0 ? strength : calibrate(targetLatency);
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+
+        this.delegate = new BCryptPasswordEncoder(effectiveStrength);
+        this.timeout = timeout;
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new HashingThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        log.info("Password hashing: BCrypt strength {}, {} threads, queue capacity {}",
+                effectiveStrength, poolSize, queueCapacity);
+    }
+
+    /**
+     * Hashes a raw password on the hashing pool.
+     *
+     * @param rawPassword the password to hash
+     * @return BCrypt hash of the password
+     * @throws AuthException if the hashing pool is saturated
+     */
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> delegate.encode(rawPassword));
+    }
+
+    /**
+     * Hashes many passwords in parallel for bulk provisioning.
+     * At most half of the hashing threads are used at a time, so logins keep capacity while a bulk job runs.
+     * Unlike single hashes, bulk work waits up to the timeout for queue space instead of failing at once,
+     * so a short login burst does not abort a provisioning job halfway.
+     *
+     * @param rawPasswords the passwords to hash
+     * @return BCrypt hashes in the same order
+     * @throws AuthException if the queue stays full or a hash does not finish within the timeout
+     */
+    public List<String> encodeAll(List<? extends CharSequence> rawPasswords) {
+        int parallelism = Math.max(1, executor.getMaximumPoolSize() / 2);
+        List<String> hashes = new ArrayList<>(rawPasswords.size());
+        for (int start = 0; start < rawPasswords.size(); start += parallelism) {
+            List<Future<String>> wave = new ArrayList<>(parallelism);
+            for (CharSequence rawPassword : rawPasswords.subList(start, Math.min(start + parallelism, rawPasswords.size()))) {
+                wave.add(submitWhenQueueHasSpace(() -> delegate.encode(rawPassword)));
+            }
+            for (Future<String> hash : wave) {
+                hashes.add(await(hash));
+            }
+        }
+        return hashes;
+    }
+
+    /**
+     * Checks a raw password against a stored hash on the hashing pool.
+     *
+     * @param rawPassword     the password to check
+     * @param encodedPassword the stored hash
+     * @return true if the password matches
+     * @throws AuthException if the hashing pool is saturated
+     */
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * Checks whether a stored hash was created with a lower strength than the current one.
+     *
+     * @param encodedPassword the stored hash
+     * @return true if the hash should be recomputed
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * Stops the hashing pool.
+     */
+    @PreDestroy
+    public void close() {
+        executor.shutdown();
+    }
+
+    /**
+     * Runs hashing work on the pool and waits for its result.
+     *
+     * @param task the hashing work
+     * @param <T>  the result type
+     * @return the result of the work
+     * @throws AuthException if the queue is full or the hash does not finish within the timeout
+     */
+    private <T> T execute(Callable<T> task) {
+        return await(submit(task));
+    }
+
+    /**
+     * Queues hashing work on the pool.
+     *
+     * @param task the hashing work
+     * @param <T>  the result type
+     * @return future of the work
+     * @throws AuthException if the queue is full
+     */
+    private <T> Future<T> submit(Callable<T> task) {
+        try {
+            return executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            log.warn("Password hashing queue is full, rejecting request");
+            throw new AuthException(ErrorCode.SERVER_BUSY, "Too many concurrent login or registration requests");
+        }
+    }
+
+    /**
+     * Queues hashing work on the pool, waiting up to the timeout while the queue is full.
+     *
+     * @param task the hashing work
+     * @param <T>  the result type
+     * @return future of the work
+     * @throws AuthException if the queue is still full when the timeout expires
+     */
+    private <T> Future<T> submitWhenQueueHasSpace(Callable<T> task) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (true) {
+            try {
+                return executor.submit(task);
+            } catch (RejectedExecutionException e) {
+                if (System.nanoTime() - deadline >= 0) {
+                    log.warn("Password hashing queue stayed full, rejecting bulk hashing");
+                    throw new AuthException(ErrorCode.SERVER_BUSY, "Password hashing queue stayed full");
+                }
+            }
+            try {
+                Thread.sleep(QUEUE_RETRY_DELAY);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AuthException(ErrorCode.SERVER_BUSY, "Password hashing was interrupted");
+            }
+        }
+    }
+
+    /**
+     * Waits for queued hashing work.
+     *
+     * @param future the queued work
+     * @param <T>    the result type
+     * @return the result of the work
+     * @throws AuthException if the hash does not finish within the timeout
+     */
+    private <T> T await(Future<T> future) {
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new AuthException(ErrorCode.SERVER_BUSY, "Password hashing timed out");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new AuthException(ErrorCode.SERVER_BUSY, "Password hashing was interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    /**
+     * Picks the BCrypt strength whose hash latency on this machine is closest to, but not above, the target.
+     * Each strength step doubles the work, so one measurement at the minimum strength is extrapolated.
+     *
+     * @param targetLatency the hash latency to aim for
+     * @return calibrated strength between the minimum and maximum calibrated strength
+     */
+    static int calibrate(Duration targetLatency) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(MIN_CALIBRATED_STRENGTH);
+        probe.encode("calibration"); // Warm up before measuring
+
+        long start = System.nanoTime();
+        probe.encode("calibration");
+        long elapsedNanos = Math.max(System.nanoTime() - start, 1);
+
+        int strength = MIN_CALIBRATED_STRENGTH;
+        while (strength < MAX_CALIBRATED_STRENGTH && elapsedNanos * 2 <= targetLatency.toNanos()) {
+            strength++;
+            elapsedNanos *= 2;
+        }
+
+        log.info("Calibrated BCrypt strength {} (~{} ms per hash, target {} ms)",
+                strength, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), targetLatency.toMillis());
+        return strength;
+    }
+
+    /**
+     * Creates named daemon threads for the hashing pool.
+     */
+    private static class HashingThreadFactory implements ThreadFactory {
+
+        /**
+         * Sequence number of the next thread
+         */
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        /**
+         * Creates a hashing thread.
+         *
+         * @param runnable the work of the thread
+         * @return daemon thread named "password-hashing-N"
+         */
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hashing-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -3,12 +3,15 @@ package jyoungmin.vocabauth.security;
 import jyoungmin.vocabauth.entity.User;
 import jyoungmin.vocabauth.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collection;
 import java.util.Collections;
@@ -16,19 +19,27 @@ import java.util.Collections;
 /**
  * Custom implementation of UserDetailsService for loading user authentication details.
  * Retrieves user information from the database and converts it to Spring Security's UserDetails format.
+ * Also stores rehashed passwords when a login upgrades a hash to the current BCrypt strength.
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     /**
      * Repository for accessing user data
      */
     private final UserRepository userRepository;
 
+    /**
+     * Cache of user projections, populated on every load so that the rest of login needs no query
+     */
+    private final UserInfoCache userInfoCache;
+
     /**
      * Loads user details by username for authentication.
      * Converts the User entity to Spring Security's UserDetails with authorities.
+     * Always reads the database because the password hash is never cached.
      *
      * @param username the username to load
      * @return UserDetails containing user information and authorities
@@ -38,6 +49,7 @@ public class CustomUserDetailsService implements UserDetailsService {
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         User user = userRepository.findByUserName(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
+        userInfoCache.put(user);
 
         return org.springframework.security.core.userdetails.User.builder()
                 .username(user.getUserName())
@@ -47,6 +59,28 @@ public class CustomUserDetailsService implements UserDetailsService {
                 .build();
     }
 
+    /**
+     * Stores a password hash recomputed with the current encoder settings.
+     * Called by Spring Security after a successful login when the stored hash has a lower BCrypt strength.
+     *
+     * @param user        the authenticated user
+     * @param newPassword the new password hash
+     * @return user details carrying the new hash
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        userRepository.findByUserName(user.getUsername()).ifPresent(entity -> {
+            entity.setPassword(newPassword);
+            userRepository.save(entity);
+            log.info("Upgraded password hash for user: {}", user.getUsername());
+        });
+
+        return org.springframework.security.core.userdetails.User.withUserDetails(user)
+                .password(newPassword)
+                .build();
+    }
+
     /**
      * Converts a role string to Spring Security authorities.
      * Prefixes the role with "ROLE_" as per Spring Security convention.
@@ -47,18 +47,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             // Get JWT token from request header
             String accessToken = resolveToken(request);
 
-            // Validate and set authentication
+            // Validate once and build authentication from the verified claims
             if (accessToken != null) {
-                if (jwtTokenProvider.validateToken(accessToken)) {
-                    Authentication authentication = jwtTokenProvider.getAuthentication(accessToken);
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                ValidatedToken validatedToken = jwtTokenProvider.validate(accessToken);
+                Authentication authentication = jwtTokenProvider.getAuthentication(validatedToken);
+                SecurityContextHolder.getContext().setAuthentication(authentication);
 
-                    // Add username to MDC for logging
-                    String username = authentication.getName();
-                    JwtFilterUtils.addUserToMDC(username);
-                } else {
-                    SecurityContextHolder.clearContext();
-                }
+                // Add username to MDC for logging
+                String username = authentication.getName();
+                JwtFilterUtils.addUserToMDC(username);
             }
 
             filterChain.doFilter(request, response);
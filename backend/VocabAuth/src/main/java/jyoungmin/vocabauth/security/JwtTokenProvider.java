@@ -1,13 +1,17 @@
 package jyoungmin.vocabauth.security;
 
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SecurityException;
 import io.jsonwebtoken.security.SignatureException;
 import jyoungmin.vocabauth.dao.RedisDao;
+import jyoungmin.vocabauth.dao.RefreshTokenStore;
 import jyoungmin.vocabauth.dto.JwtToken;
 import jyoungmin.vocabauth.exception.AuthException;
+import jyoungmin.vocabcommons.constants.JwtConstants;
+import jyoungmin.vocabcommons.dto.UserInfo;
 import jyoungmin.vocabcommons.exception.ErrorCode;
+import jyoungmin.vocabcommons.security.TokenRevocationReplica;
+import jyoungmin.vocabcommons.security.UserInfoClaims;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -16,16 +20,12 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.SecretKey;
-import java.security.Key;
 import java.time.Duration;
-import java.util.Arrays;
-import java.util.Base64;
 import java.util.Collection;
 import java.util.Date;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 /**
@@ -36,25 +36,40 @@ import java.util.stream.Collectors;
 @Component
 public class JwtTokenProvider {
     /**
-     * Secret key used for signing JWT tokens
+     * Key manager used for signing tokens and locating verification keys
      */
-    private final Key key;
+    private final SigningKeyManager signingKeyManager;
 
     /**
-     * Service for loading user authentication details
+     * Immutable, thread-safe parser shared by all verification paths
      */
-    private final UserDetailsService userDetailsService;
+    private final JwtParser parser;
 
     /**
      * DAO for managing refresh tokens in Redis
      */
     private final RedisDao redisDao;
 
+    /**
+     * Per-user store of refresh token sessions
+     */
+    private final RefreshTokenStore refreshTokenStore;
+
+    /**
+     * Local replica of the token revocation deny-list
+     */
+    private final TokenRevocationReplica revocationReplica;
+
     /**
      * Token type prefix for authorization header
      */
     private static final String GRANT_TYPE = "Bearer";
 
+    /**
+     * Access token profile without the role and enabled claims
+     */
+    private static final String MINIMAL_PROFILE = "minimal";
+
     /**
      * Access token expiration time in milliseconds
      */
@@ -68,31 +83,45 @@ public class JwtTokenProvider {
     private long REFRESH_TOKEN_EXPIRE_TIME;
 
     /**
-     * Constructs a JWT token provider with the given secret key.
-     * Initializes the signing key using HMAC-SHA algorithm.
+     * Access token claim profile: "self-contained" embeds the user ID, role and enabled flag,
+     * "minimal" only the subject, authorities and user ID
+     */
+    @Value("${jwt.accessToken.profile:self-contained}")
+    private String accessTokenProfile;
+
+    /**
+     * Constructs a JWT token provider with the given signing key manager.
+     * The key manager signs with the configured algorithm and selects verification keys by "kid" header.
      *
-     * @param secretKey          the secret key for signing tokens
-     * @param userDetailsService service for loading user details
-     * @param redisDao           DAO for Redis operations
+     * @param signingKeyManager key manager for signing and verifying tokens
+     * @param redisDao          DAO for Redis operations
+     * @param refreshTokenStore per-user store of refresh token sessions
+     * @param revocationReplica local replica of the token revocation deny-list
      */
-    public JwtTokenProvider(@Value("${jwt.secret}") String secretKey,
-                            UserDetailsService userDetailsService,
-                            RedisDao redisDao) {
-        byte[] keyBytes = Base64.getEncoder().encode(secretKey.getBytes());
-        this.key = Keys.hmacShaKeyFor(keyBytes);
-        this.userDetailsService = userDetailsService;
+    public JwtTokenProvider(SigningKeyManager signingKeyManager,
+                            RedisDao redisDao,
+                            RefreshTokenStore refreshTokenStore,
+                            TokenRevocationReplica revocationReplica) {
+        this.signingKeyManager = signingKeyManager;
+        this.parser = Jwts.parser()
+                .keyLocator(signingKeyManager)
+                .build();
         this.redisDao = redisDao;
+        this.refreshTokenStore = refreshTokenStore;
+        this.revocationReplica = revocationReplica;
     }
 
 
     /**
-     * Generates both access and refresh tokens for the authenticated user.
-     * Stores the refresh token in Redis with an expiration time.
+     * Generates both access and refresh tokens for the authenticated user in a new session.
+     * Stores the refresh token digest in the user's session hash in Redis with an expiration time,
+     * leaving the user's other sessions untouched.
      *
      * @param authentication the authentication object containing user details
+     * @param user           the authenticated user
      * @return JWT token pair (access and refresh tokens)
      */
-    public JwtToken generateToken(Authentication authentication) {
+    public JwtToken generateToken(Authentication authentication, UserInfo user) {
         // Extract and format user authorities as comma-separated string for JWT claims
         String authorities = authentication.getAuthorities().stream()
                 .map(GrantedAuthority::getAuthority)
@@ -100,17 +129,18 @@ public class JwtTokenProvider {
 
         long now = (new Date()).getTime();
         String username = authentication.getName();
+        String sessionId = UUID.randomUUID().toString();
 
         // Generate access token with user info and authorities
         Date accessTokenExpire = new Date(now + ACCESS_TOKEN_EXPIRE_TIME);
-        String accessToken = generateAccessToken(username, authorities, accessTokenExpire);
+        String accessToken = generateAccessToken(user, authorities, accessTokenExpire, sessionId);
 
         // Generate refresh token
         Date refreshTokenExpire = new Date(now + REFRESH_TOKEN_EXPIRE_TIME);
-        String refreshToken = generateRefreshToken(username, refreshTokenExpire);
+        String refreshToken = generateRefreshToken(username, user.getId(), refreshTokenExpire, sessionId);
 
-        // Store refresh token in Redis with expiration
-        redisDao.setValues(username, refreshToken, Duration.ofMillis(REFRESH_TOKEN_EXPIRE_TIME));
+        // Store the new session in Redis with expiration
+        refreshTokenStore.createSession(username, sessionId, refreshToken, Duration.ofMillis(REFRESH_TOKEN_EXPIRE_TIME));
 
         return JwtToken.builder().
                 grantType(GRANT_TYPE)
@@ -121,28 +151,40 @@ public class JwtTokenProvider {
 
     /**
      * Generates new token pair using a refresh token.
-     * Loads fresh user details and creates new access and refresh tokens.
+     * Creates new access and refresh tokens from the current user information and rotates the
+     * refresh token of the session. Refresh tokens issued before sessions existed start a new session;
+     * unlike rotation, this move is not atomic, so a logout racing with it can leave the new session in place
+     * until it expires. Such tokens stop existing once the last pre-session refresh token has expired.
      *
-     * @param username the username to generate tokens for
+     * @param user           the user to generate tokens for
+     * @param sessionId      the session ID of the presented refresh token, or null for legacy tokens
+     * @param presentedToken the refresh token presented by the client
      * @return new JWT token pair
+     * @throws AuthException if the session ended or was rotated by another request in the meantime
      */
-    public JwtToken generateTokenWithRefreshToken(String username) {
+    public JwtToken generateTokenWithRefreshToken(UserInfo user, String sessionId, String presentedToken) {
         long now = (new Date()).getTime();
+        String username = user.getUserName();
+        String newSessionId = sessionId != null ? sessionId : UUID.randomUUID().toString();
 
-        // Create new access token with fresh user details
+        // Create new access token with the current user role
         Date accessTokenExpire = new Date(now + ACCESS_TOKEN_EXPIRE_TIME);
-        UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-        String authorities = userDetails.getAuthorities().stream()
-                .map(GrantedAuthority::getAuthority)
-                .collect(Collectors.joining(","));
-        String accessToken = generateAccessToken(username, authorities, accessTokenExpire);
+        String authorities = JwtConstants.ROLE_PREFIX + user.getRole();
+        String accessToken = generateAccessToken(user, authorities, accessTokenExpire, newSessionId);
 
         // Create new refresh token
         Date refreshTokenExpire = new Date(now + REFRESH_TOKEN_EXPIRE_TIME);
-        String refreshToken = generateRefreshToken(username, refreshTokenExpire);
-
-        // Update refresh token in Redis
-        redisDao.setValues(username, refreshToken, Duration.ofMillis(REFRESH_TOKEN_EXPIRE_TIME));
+        String refreshToken = generateRefreshToken(username, user.getId(), refreshTokenExpire, newSessionId);
+
+        // Update the session in Redis
+        Duration ttl = Duration.ofMillis(REFRESH_TOKEN_EXPIRE_TIME);
+        if (sessionId != null) {
+            refreshTokenStore.rotateSession(username, sessionId, presentedToken, refreshToken, ttl);
+        } else {
+            refreshTokenStore.createSession(username, newSessionId, refreshToken, ttl);
+            // Drop the pre-session token without waiting; failures are logged by the DAO
+            redisDao.deleteValuesAsync(username);
+        }
 
         return JwtToken.builder()
                 .grantType(GRANT_TYPE)
@@ -153,33 +195,50 @@ public class JwtTokenProvider {
 
     /**
      * Generates an access token with user information and authorities.
+     * The self-contained profile carries the user ID, role and enabled flag so that other services
+     * can build the caller's identity from the token alone (see {@link UserInfoClaims}).
      *
-     * @param username    the username (token subject)
+     * @param user        the user the token is issued to
      * @param authorities comma-separated list of user authorities
      * @param expireDate  token expiration date
+     * @param sessionId   the session the token belongs to
      * @return signed JWT access token
      */
-    private String generateAccessToken(String username, String authorities, Date expireDate) {
-        return Jwts.builder()
-                .subject(username)
-                .claim("auth", authorities)
-                .expiration(expireDate)
-                .signWith(key, SignatureAlgorithm.HS256)
-                .compact();
+    private String generateAccessToken(UserInfo user, String authorities, Date expireDate, String sessionId) {
+        JwtBuilder builder = Jwts.builder()
+                .id(UUID.randomUUID().toString())
+                .claim(JwtConstants.AUTHORITIES_CLAIM, authorities)
+                .claim(JwtConstants.SESSION_ID_CLAIM, sessionId)
+                .issuedAt(new Date())
+                .expiration(expireDate);
+
+        if (MINIMAL_PROFILE.equalsIgnoreCase(accessTokenProfile)) {
+            builder.subject(user.getUserName())
+                    .claim(JwtConstants.USER_ID_CLAIM, user.getId());
+        } else {
+            UserInfoClaims.apply(builder, user);
+        }
+
+        return signingKeyManager.sign(builder).compact();
     }
 
     /**
      * Generates a refresh token with minimal claims.
      *
      * @param username   the username (token subject)
+     * @param userId     the numeric ID of the user
      * @param expireDate token expiration date
+     * @param sessionId  the session the token belongs to
      * @return signed JWT refresh token
      */
-    private String generateRefreshToken(String username, Date expireDate) {
-        return Jwts.builder()
-                .subject(username)
-                .expiration(expireDate)
-                .signWith(key, SignatureAlgorithm.HS256)
+    private String generateRefreshToken(String username, long userId, Date expireDate, String sessionId) {
+        return signingKeyManager.sign(Jwts.builder()
+                        .id(UUID.randomUUID().toString())
+                        .subject(username)
+                        .claim(JwtConstants.USER_ID_CLAIM, userId)
+                        .claim(JwtConstants.SESSION_ID_CLAIM, sessionId)
+                        .issuedAt(new Date())
+                        .expiration(expireDate))
                 .compact();
     }
 
@@ -193,9 +252,18 @@ public class JwtTokenProvider {
      * @throws AuthException if authority information is missing from token
      */
     public Authentication getAuthentication(String accessToken) {
-        Claims claims = parseClaims(accessToken);
-        Object authClaim = claims.get("auth");
-        if (authClaim == null) {
+        return getAuthentication(new ValidatedToken(parseClaims(accessToken)));
+    }
+
+    /**
+     * Creates an Authentication object from an already validated access token without parsing it again.
+     *
+     * @param token the validated access token
+     * @return authentication object containing user details
+     * @throws AuthException if authority information is missing from token
+     */
+    public Authentication getAuthentication(ValidatedToken token) {
+        if (token.getAuthorities().isEmpty()) {
             throw new AuthException(
                     ErrorCode.INVALID_TOKEN,
                     "Authority information missing from token"
@@ -203,13 +271,16 @@ public class JwtTokenProvider {
         }
 
         // Extract authorities from claims
-        Collection<? extends GrantedAuthority> authorities = Arrays.stream(authClaim.toString().split(","))
+        Collection<? extends GrantedAuthority> authorities = token.getAuthorities().stream()
                 .map(SimpleGrantedAuthority::new)
                 .toList();
 
         // Create UserDetails and return Authentication object
-        UserDetails principal = new User(claims.getSubject(), "", authorities);
-        return new UsernamePasswordAuthenticationToken(principal, "", authorities);
+        UserDetails principal = new User(token.getSubject(), "", authorities);
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(principal, "", authorities);
+        authentication.setDetails(token); // Lets logout revoke the token it was called with
+        return authentication;
     }
 
     /**
@@ -221,11 +292,7 @@ public class JwtTokenProvider {
      */
     private Claims parseClaims(String accessToken) {
         try {
-            return Jwts.parser()
-                    .verifyWith((SecretKey) key)
-                    .build()
-                    .parseSignedClaims(accessToken)
-                    .getPayload();
+            return parser.parseSignedClaims(accessToken).getPayload();
         } catch (ExpiredJwtException e) {
             return e.getClaims();
         }
@@ -241,13 +308,39 @@ public class JwtTokenProvider {
      * @throws AuthException if token is invalid, expired, or malformed
      */
     public boolean validateToken(String token) {
-        try {
-            Jwts.parser()
-                    .verifyWith((SecretKey) key)
-                    .build()
-                    .parseSignedClaims(token);
+        validate(token);
+        return true;
+    }
+
+    /**
+     * Parses and verifies a JWT token once and returns its claims.
+     * Also rejects tokens on the revocation deny-list (an in-memory lookup).
+     * Callers should pass the result on instead of parsing the token again.
+     *
+     * @param token the JWT token to validate
+     * @return immutable view of the verified token
+     * @throws AuthException if token is invalid, expired, malformed, or revoked
+     */
+    public ValidatedToken validate(String token) {
+        ValidatedToken validatedToken = parse(token);
+        if (revocationReplica.isRevoked(
+                validatedToken.getTokenId(), validatedToken.getSubject(), validatedToken.getIssuedAt())) {
+            log.warn("Revoked JWT token used by: {}", validatedToken.getSubject());
+            throw new AuthException(ErrorCode.TOKEN_REVOKED, "Token has been revoked");
+        }
+        return validatedToken;
+    }
 
-            return true;
+    /**
+     * Parses and verifies the signature and expiry of a JWT token.
+     *
+     * @param token the JWT token to parse
+     * @return immutable view of the verified token
+     * @throws AuthException if token is invalid, expired, or malformed
+     */
+    private ValidatedToken parse(String token) {
+        try {
+            return new ValidatedToken(parser.parseSignedClaims(token).getPayload());
         } catch (ExpiredJwtException e) {
             log.warn("Expired JWT token: {}", e.getMessage());
             throw new AuthException(ErrorCode.TOKEN_EXPIRED, e.getMessage());
@@ -271,19 +364,31 @@ public class JwtTokenProvider {
 
     /**
      * Validates a refresh token by checking its format and comparing with stored value in Redis.
-     * Ensures the token matches the one stored for the user.
+     * Ensures the token matches the one stored for its session (or, for tokens issued before
+     * sessions existed, the single token stored for the user).
      *
      * @param token the refresh token to validate
-     * @return true if refresh token is valid and matches stored value
+     * @return the validated refresh token
      * @throws AuthException if token is invalid, not found, or doesn't match stored value
      */
-    public boolean validateRefreshToken(String token) {
-        if (!validateToken(token)) return false;
+    public ValidatedToken validateRefreshToken(String token) {
+        ValidatedToken validatedToken = validate(token);
 
         try {
-            String username = getUserNameFromToken(token);
-
-            // Verify token matches the one stored in Redis
+            String username = validatedToken.getSubject();
+
+            // Verify token matches the one stored for its session
+            if (validatedToken.getSessionId() != null) {
+                if (!refreshTokenStore.matches(username, validatedToken.getSessionId(), token)) {
+                    throw new AuthException(
+                            ErrorCode.REFRESH_TOKEN_INVALID,
+                            "Refresh token does not match stored token"
+                    );
+                }
+                return validatedToken;
+            }
+
+            // Legacy single-session token stored under the bare username
             return redisDao.getValues(username)
                     .map(redisToken -> {
                         if (!token.equals(redisToken.toString())) {
@@ -292,7 +397,7 @@ public class JwtTokenProvider {
                                     "Refresh token does not match stored token"
                             );
                         }
-                        return true;
+                        return validatedToken;
                     })
                     .orElseThrow(() -> new AuthException(
                             ErrorCode.REFRESH_TOKEN_NOT_FOUND,
@@ -317,31 +422,41 @@ public class JwtTokenProvider {
      * @return username extracted from token subject
      */
     public String getUserNameFromToken(String token) {
-        try {
-            Claims claims = Jwts.parser()
-                    .verifyWith((SecretKey) key)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+        return parseClaims(token).getSubject();
+    }
 
-            return claims.getSubject();
-        } catch (ExpiredJwtException e) {
-            return e.getClaims().getSubject();
+    /**
+     * Deletes the refresh token of one session from Redis storage.
+     * Called during logout to invalidate the refresh token of the current device.
+     * Without a session ID (access tokens issued before sessions existed) the legacy single-session token is deleted.
+     *
+     * @param username  the username whose refresh token should be deleted
+     * @param sessionId the session to end, or null for legacy tokens
+     * @throws IllegalArgumentException if username is null or empty
+     */
+    public void deleteRefreshToken(String username, String sessionId) {
+        if (username == null || username.trim().isEmpty()) {
+            throw new IllegalArgumentException("Username cannot be null or empty");
+        }
+
+        if (sessionId != null) {
+            refreshTokenStore.deleteSession(username, sessionId);
+        } else {
+            redisDao.deleteValues(username);
         }
     }
 
     /**
-     * Deletes a refresh token from Redis storage.
-     * Called during logout to invalidate the refresh token.
+     * Deletes the refresh tokens of all sessions of a user from Redis storage.
      *
-     * @param username the username whose refresh token should be deleted
+     * @param username the username whose refresh tokens should be deleted
      * @throws IllegalArgumentException if username is null or empty
      */
-    public void deleteRefreshToken(String username) {
+    public void deleteAllRefreshTokens(String username) {
         if (username == null || username.trim().isEmpty()) {
             throw new IllegalArgumentException("Username cannot be null or empty");
         }
 
-        redisDao.deleteValues(username);
+        refreshTokenStore.deleteAllSessions(username);
     }
 }
@@ -9,14 +9,13 @@ import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 /**
  * Spring Security configuration for the authentication service.
  * Configures JWT-based stateless authentication with custom filters and security rules.
+ * The password encoder is {@link BoundedPasswordEncoder}, which hashes on its own bounded thread pool.
  */
 @Configuration
 @EnableWebSecurity
@@ -38,17 +37,6 @@ public class SecurityConfig {
         return authenticationConfiguration.getAuthenticationManager();
     }
 
-    /**
-     * Provides a password encoder for encrypting user passwords.
-     * Uses BCrypt hashing algorithm for secure password storage.
-     *
-     * @return BCrypt password encoder
-     */
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
-    }
-
     /**
      * Configures the security filter chain with JWT authentication.
      * Sets up stateless session management, disables CSRF, and defines access rules.
@@ -78,9 +66,13 @@ public class SecurityConfig {
                 // Define access rules for auth endpoints
                 .authorizeHttpRequests(authorize -> authorize
                         // Public auth endpoints
-                        .requestMatchers("/api/v1/auth/register", "/api/v1/auth/login", "/api/v1/auth/duplicate/**", "/api/v1/auth/refresh").permitAll()
+                        .requestMatchers("/api/v1/auth/register", "/api/v1/auth/login", "/api/v1/auth/duplicate/**", "/api/v1/auth/refresh", "/api/v1/auth/introspect").permitAll()
+                        // Public verification keys
+                        .requestMatchers("/.well-known/jwks.json").permitAll()
                         // Protected auth endpoints
-                        .requestMatchers("/api/v1/auth/logout", "/api/v1/auth/me").authenticated()
+                        .requestMatchers("/api/v1/auth/logout", "/api/v1/auth/logout-all", "/api/v1/auth/me").authenticated()
+                        // Administrative endpoints
+                        .requestMatchers("/api/v1/admin/**").hasRole("ADMIN")
                         // All other API calls require authentication
                         .requestMatchers("/api/**").authenticated()
                         .anyRequest().permitAll());
@@ -0,0 +1,275 @@
+package jyoungmin.vocabauth.security;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.PublicJwk;
+import io.jsonwebtoken.security.SecureDigestAlgorithm;
+import jyoungmin.vocabcommons.security.JwtKeys;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Manages the keys used to sign and verify JWT tokens.
+ * Signs with the shared HMAC secret (HS256) or, for RS256/EdDSA, with the private key of the active key ID,
+ * adding a "kid" header so that verifiers can pick the matching public key from the JWKS endpoint.
+ *
+ * <p>Asymmetric keys are loaded from {@code jwt.signing.key-dir}, one pair per key ID:
+ * {@code <kid>.pub.pem} (X.509 public key) and optionally {@code <kid>.key.pem} (PKCS#8 private key).
+ * Every public key is published and accepted, so keys can be rotated by adding the new pair,
+ * switching {@code jwt.signing.active-kid}, and removing the old pair once its tokens have expired.
+ * Tokens without a "kid" header are only verified with the HMAC secret under HS256, or while migrating
+ * away from it with {@code jwt.signing.accept-hmac}; otherwise they are rejected and no secret is needed.</p>
+ */
+@Slf4j
+@Component
+public class SigningKeyManager extends LocatorAdapter<Key> {
+
+    /**
+     * Suffix of public key files
+     */
+    private static final String PUBLIC_KEY_SUFFIX = ".pub.pem";
+
+    /**
+     * Suffix of private key files
+     */
+    private static final String PRIVATE_KEY_SUFFIX = ".key.pem";
+
+    /**
+     * HMAC key derived from the shared secret, or null when HMAC tokens are not accepted
+     */
+    private final SecretKey hmacKey;
+
+    /**
+     * Configured signing algorithm (HS256, RS256 or EdDSA)
+     */
+    private final String algorithm;
+
+    /**
+     * Key ID used for signing new tokens, or null for HS256
+     */
+    private final String activeKid;
+
+    /**
+     * Private key of the active key ID, or null for HS256
+     */
+    private final PrivateKey activePrivateKey;
+
+    /**
+     * Public keys accepted for verification and published in the JWKS, by key ID
+     */
+    private final Map<String, PublicKey> publicKeys;
+
+    /**
+     * Pre-rendered JWKS document
+     */
+    private final String jwksJson;
+
+    /**
+     * Loads the signing keys for the configured algorithm.
+     *
+     * @param secret     the shared HMAC secret (required for HS256 or when HMAC tokens are accepted)
+     * @param algorithm  the signing algorithm (HS256, RS256 or EdDSA)
+     * @param keyDir     directory holding the asymmetric key pairs (empty generates an ephemeral pair)
+     * @param activeKid  key ID used for signing new tokens
+     * @param acceptHmac whether RS256/EdDSA still accept HS256 tokens without a "kid" header (migration only)
+     * @throws IllegalStateException if the keys cannot be loaded, the active key has no private key,
+     *                               or the secret is missing where it is needed
+     */
+    public SigningKeyManager(@Value("${jwt.secret:}") String secret,
+                             @Value("${jwt.signing.algorithm:HS256}") String algorithm,
+                             @Value("${jwt.signing.key-dir:}") String keyDir,
+                             @Value("${jwt.signing.active-kid:}") String activeKid,
+                             @Value("${jwt.signing.accept-hmac:false}") boolean acceptHmac) {
+        this.algorithm = algorithm.toUpperCase().equals("EDDSA") ? "EdDSA" : algorithm.toUpperCase();
+
+        if ("HS256".equals(this.algorithm) || acceptHmac) {
+            if (!StringUtils.hasText(secret)) {
+                throw new IllegalStateException("jwt.secret must be set for HS256 or when jwt.signing.accept-hmac is enabled");
+            }
+            this.hmacKey = JwtKeys.hmacKey(secret);
+        } else {
+            this.hmacKey = null;
+        }
+
+        switch (this.algorithm) {
+            case "HS256" -> {
+                this.activeKid = null;
+                this.activePrivateKey = null;
+                this.publicKeys = Collections.emptyMap();
+            }
+            case "RS256", "EdDSA" -> {
+                Map<String, PublicKey> loadedPublicKeys = new LinkedHashMap<>();
+                Map<String, PrivateKey> loadedPrivateKeys = new LinkedHashMap<>();
+
+                if (StringUtils.hasText(keyDir)) {
+                    loadKeys(Path.of(keyDir), loadedPublicKeys, loadedPrivateKeys);
+                } else {
+                    log.warn("jwt.signing.key-dir is not set; generating an ephemeral {} key pair. " +
+                            "Tokens will not survive a restart and cannot be shared between instances.", this.algorithm);
+                    KeyPair keyPair = "RS256".equals(this.algorithm)
+                            ? Jwts.SIG.RS256.keyPair().build()
+                            : Jwks.CRV.Ed25519.keyPair().build();
+                    String ephemeralKid = "ephemeral-" + UUID.randomUUID();
+                    loadedPublicKeys.put(ephemeralKid, keyPair.getPublic());
+                    loadedPrivateKeys.put(ephemeralKid, keyPair.getPrivate());
+                    activeKid = ephemeralKid;
+                }
+
+                if (!loadedPrivateKeys.containsKey(activeKid) || !loadedPublicKeys.containsKey(activeKid)) {
+                    throw new IllegalStateException("No key pair found for jwt.signing.active-kid '" + activeKid + "'");
+                }
+
+                this.activeKid = activeKid;
+                this.activePrivateKey = loadedPrivateKeys.get(activeKid);
+                this.publicKeys = Collections.unmodifiableMap(loadedPublicKeys);
+                log.info("JWT signing with {} using key '{}' ({} verification key(s) published)",
+                        this.algorithm, activeKid, publicKeys.size());
+            }
+            default -> throw new IllegalStateException("Unsupported jwt.signing.algorithm: " + algorithm);
+        }
+
+        this.jwksJson = publicKeys.entrySet().stream()
+                .map(entry -> toJwk(entry.getKey(), entry.getValue()))
+                .map(Jwks::json)
+                .collect(Collectors.joining(",", "{\"keys\":[", "]}"));
+    }
+
+    /**
+     * Signs a token with the active key, adding the "kid" header for asymmetric keys.
+     *
+     * @param builder the token builder with all claims set
+     * @return the builder configured for signing
+     */
+    public JwtBuilder sign(JwtBuilder builder) {
+        if (activePrivateKey == null) {
+            return builder.signWith(hmacKey, Jwts.SIG.HS256);
+        }
+
+        SecureDigestAlgorithm<PrivateKey, ?> signatureAlgorithm = "RS256".equals(algorithm)
+                ? Jwts.SIG.RS256
+                : Jwts.SIG.EdDSA;
+        return builder
+                .header().keyId(activeKid).and()
+                .signWith(activePrivateKey, signatureAlgorithm);
+    }
+
+    /**
+     * Returns the JWKS document with all published public keys.
+     *
+     * @return JWKS JSON ({@code {"keys":[...]}}), empty for HS256
+     */
+    public String getJwksJson() {
+        return jwksJson;
+    }
+
+    /**
+     * Selects the verification key for a signed token.
+     * Tokens with a "kid" header use the matching public key; tokens without one use the HMAC secret
+     * if HMAC tokens are accepted.
+     *
+     * @param header the token header
+     * @return the key used to verify the token signature
+     * @throws io.jsonwebtoken.security.SecurityException if the key ID is unknown, or missing while HMAC
+     *                                                    tokens are not accepted
+     */
+    @Override
+    protected Key locate(JwsHeader header) {
+        String kid = header.getKeyId();
+        if (kid == null) {
+            if (hmacKey == null) {
+                throw new io.jsonwebtoken.security.SecurityException("Token has no signing key id");
+            }
+            return hmacKey;
+        }
+
+        PublicKey publicKey = publicKeys.get(kid);
+        if (publicKey == null) {
+            throw new io.jsonwebtoken.security.SecurityException("Unknown signing key id: " + kid);
+        }
+        return publicKey;
+    }
+
+    /**
+     * Loads all key pairs from the key directory.
+     *
+     * @param keyDir      directory holding the PEM files
+     * @param publicKeys  map receiving public keys by key ID
+     * @param privateKeys map receiving private keys by key ID
+     */
+    private void loadKeys(Path keyDir, Map<String, PublicKey> publicKeys, Map<String, PrivateKey> privateKeys) {
+        String keyAlgorithm = "RS256".equals(algorithm) ? "RSA" : "Ed25519";
+
+        try (Stream<Path> files = Files.list(keyDir)) {
+            for (Path file : files.sorted().toList()) {
+                String fileName = file.getFileName().toString();
+                if (fileName.endsWith(PUBLIC_KEY_SUFFIX)) {
+                    String kid = fileName.substring(0, fileName.length() - PUBLIC_KEY_SUFFIX.length());
+                    publicKeys.put(kid, KeyFactory.getInstance(keyAlgorithm)
+                            .generatePublic(new X509EncodedKeySpec(readPem(file))));
+                } else if (fileName.endsWith(PRIVATE_KEY_SUFFIX)) {
+                    String kid = fileName.substring(0, fileName.length() - PRIVATE_KEY_SUFFIX.length());
+                    privateKeys.put(kid, KeyFactory.getInstance(keyAlgorithm)
+                            .generatePrivate(new PKCS8EncodedKeySpec(readPem(file))));
+                }
+            }
+        } catch (IOException | GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to load JWT signing keys from " + keyDir, e);
+        }
+    }
+
+    /**
+     * Reads the DER content of a PEM file.
+     *
+     * @param file the PEM file
+     * @return decoded key bytes
+     * @throws IOException if the file cannot be read
+     */
+    private byte[] readPem(Path file) throws IOException {
+        String base64 = Files.readString(file, StandardCharsets.US_ASCII)
+                .replaceAll("-----(BEGIN|END) [A-Z ]+-----", "")
+                .replaceAll("\\s", "");
+        return Base64.getDecoder().decode(base64);
+    }
+
+    /**
+     * Builds the public JWK for a key.
+     *
+     * @param kid       the key ID
+     * @param publicKey the public key
+     * @return public JWK with key ID, algorithm and signature use
+     */
+    private PublicJwk<?> toJwk(String kid, PublicKey publicKey) {
+        return Jwks.builder()
+                .key(publicKey)
+                .id(kid)
+                .algorithm(algorithm)
+                .publicKeyUse("sig")
+                .build();
+    }
+}
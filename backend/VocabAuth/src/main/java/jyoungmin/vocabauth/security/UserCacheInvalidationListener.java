@@ -0,0 +1,52 @@
+package jyoungmin.vocabauth.security;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import jyoungmin.vocabauth.entity.User;
+import jyoungmin.vocabauth.service.TokenRevocationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener that evicts a user from {@link UserInfoCache} whenever the user row changes,
+ * so updates such as disabling an account or changing the role take effect on the next request,
+ * on this and, through the cache's Redis broadcast, every other instance.
+ * Disabling an account also revokes all tokens already issued to it.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserCacheInvalidationListener {
+
+    /**
+     * Cache of user projections
+     */
+    private final UserInfoCache userInfoCache;
+
+    /**
+     * Service for revoking the tokens of disabled accounts
+     */
+    private final TokenRevocationService tokenRevocationService;
+
+    /**
+     * Evicts the user after it was updated and revokes its tokens if the account was disabled.
+     *
+     * @param user the updated user entity
+     */
+    @PostUpdate
+    public void onUpdate(User user) {
+        userInfoCache.invalidate(user.getUserName());
+        if (!user.isEnabled()) {
+            tokenRevocationService.revokeAllTokens(user.getUserName());
+        }
+    }
+
+    /**
+     * Evicts the user after it was deleted.
+     *
+     * @param user the deleted user entity
+     */
+    @PostRemove
+    public void onRemove(User user) {
+        userInfoCache.invalidate(user.getUserName());
+    }
+}
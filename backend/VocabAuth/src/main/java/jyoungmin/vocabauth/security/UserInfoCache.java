@@ -0,0 +1,257 @@
+package jyoungmin.vocabauth.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import jyoungmin.vocabauth.entity.User;
+import jyoungmin.vocabauth.exception.AuthException;
+import jyoungmin.vocabauth.repository.UserRepository;
+import jyoungmin.vocabcommons.dto.UserInfo;
+import jyoungmin.vocabcommons.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Bounded in-process cache of user projections keyed by username.
+ * Holds only the fields needed by login, refresh and /me (never the password hash),
+ * so repeated requests for the same user do not query the database.
+ * Entries are dropped on explicit invalidation (see {@link UserCacheInvalidationListener}) and after the TTL.
+ * Invalidations are broadcast over Redis pub/sub once the change is committed, so other instances drop the user
+ * too; the TTL only bounds staleness when a message is lost. Hit and miss counts are published as "cache.*"
+ * metrics under "auth-users".
+ */
+@Slf4j
+@Component
+public class UserInfoCache {
+
+    /**
+     * Cache name used for metrics
+     */
+    private static final String CACHE_NAME = "auth-users";
+
+    /**
+     * Redis pub/sub channel announcing invalidated usernames
+     */
+    static final String CHANNEL = "auth:user-cache-invalidations";
+
+    /**
+     * Repository for loading users on cache misses
+     */
+    private final UserRepository userRepository;
+
+    /**
+     * Username to cached user projection
+     */
+    private final Cache<String, UserInfo> cache;
+
+    /**
+     * Whether invalidations are shared with other instances through Redis
+     */
+    private final boolean redisSync;
+
+    /**
+     * Template used to publish invalidations
+     */
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    /**
+     * Connection factory used for the pub/sub subscription
+     */
+    private final RedisConnectionFactory connectionFactory;
+
+    /**
+     * Container holding the pub/sub subscription, or null when Redis sync is disabled
+     */
+    private RedisMessageListenerContainer listenerContainer;
+
+    /**
+     * Creates the cache and registers its metrics.
+     *
+     * @param userRepository    repository for loading users on cache misses
+     * @param maximumSize       maximum number of cached users
+     * @param ttl               maximum lifetime of an entry
+     * @param redisSync         whether invalidations are shared through Redis
+     * @param redisTemplate     template used to publish invalidations
+     * @param connectionFactory connection factory used for the pub/sub subscription
+     * @param meterRegistry     registry for hit/miss/eviction metrics
+     */
+    public UserInfoCache(UserRepository userRepository,
+                         @Value("${auth.user-cache.maximum-size:10000}") long maximumSize,
+                         @Value("${auth.user-cache.ttl:10m}") Duration ttl,
+                         @Value("${auth.user-cache.redis-sync:true}") boolean redisSync,
+                         RedisTemplate<String, Object> redisTemplate,
+                         RedisConnectionFactory connectionFactory,
+                         MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.redisSync = redisSync;
+        this.redisTemplate = redisTemplate;
+        this.connectionFactory = connectionFactory;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Subscribes to users invalidated on other instances.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!redisSync) {
+            return;
+        }
+        listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(connectionFactory);
+        listenerContainer.addMessageListener((message, pattern) ->
+                        invalidateLocal(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(CHANNEL));
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+    }
+
+    /**
+     * Stops the pub/sub subscription.
+     */
+    @PreDestroy
+    public void stop() {
+        if (listenerContainer != null) {
+            listenerContainer.stop();
+        }
+    }
+
+    /**
+     * Returns the user projection, loading it from the database on a cache miss.
+     *
+     * @param username the username to look up
+     * @return user information without the password hash
+     * @throws AuthException if the user does not exist
+     */
+    public UserInfo get(String username) {
+        return cache.get(username, key -> userRepository.findByUserName(key)
+                .map(UserInfoCache::toUserInfo)
+                .orElseThrow(() -> new AuthException(
+                        ErrorCode.USER_NOT_FOUND,
+                        "User '" + key + "' not found"
+                )));
+    }
+
+    /**
+     * Returns the projections of several users, loading all cache misses with a single database query.
+     * Usernames that do not exist are absent from the result.
+     *
+     * @param usernames the usernames to look up
+     * @return username to user information, for existing users only
+     */
+    public Map<String, UserInfo> getAll(Collection<String> usernames) {
+        return cache.getAll(usernames, this::loadAll);
+    }
+
+    /**
+     * Caches the projection of a user that has just been loaded from the database.
+     *
+     * @param user the loaded user entity
+     */
+    public void put(User user) {
+        cache.put(user.getUserName(), toUserInfo(user));
+    }
+
+    /**
+     * Removes a user from the cache, e.g. after the user was changed or disabled, and announces it to other
+     * instances. Inside a transaction the user is evicted again and announced after the commit, so no
+     * instance can reload the old row in between and keep it until the TTL.
+     *
+     * @param username the username to invalidate
+     */
+    public void invalidate(String username) {
+        invalidateLocal(username);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(username);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidateLocal(username);
+                publish(username);
+            }
+        });
+    }
+
+    /**
+     * Removes a user from this instance's cache only.
+     *
+     * @param username the username to invalidate
+     */
+    private void invalidateLocal(String username) {
+        cache.invalidate(username);
+        log.debug("Invalidated cached user: {}", username);
+    }
+
+    /**
+     * Announces an invalidated user to other instances when Redis sync is enabled.
+     *
+     * @param username the invalidated username
+     */
+    private void publish(String username) {
+        if (!redisSync) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(CHANNEL, username);
+        } catch (RuntimeException e) {
+            // Other instances keep serving the old projection until their TTL expires
+            log.warn("Failed to publish user cache invalidation to other instances: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Loads the projections of the given users in one "IN" query.
+     *
+     * @param usernames the usernames missing from the cache
+     * @return username to user information, for existing users only
+     */
+    private Map<String, UserInfo> loadAll(Set<? extends String> usernames) {
+        return userRepository.findAllByUserNameIn(Set.copyOf(usernames)).stream()
+                .map(UserInfoCache::toUserInfo)
+                .collect(Collectors.toMap(UserInfo::getUserName, Function.identity()));
+    }
+
+    /**
+     * Converts a user entity into its cacheable projection.
+     *
+     * @param user the user entity
+     * @return user information without the password hash
+     */
+    private static UserInfo toUserInfo(User user) {
+        return UserInfo.builder()
+                .id(user.getId())
+                .userName(user.getUserName())
+                .name(user.getName())
+                .email(user.getEmail())
+                .role(user.getRole())
+                .enabled(user.isEnabled())
+                .build();
+    }
+}
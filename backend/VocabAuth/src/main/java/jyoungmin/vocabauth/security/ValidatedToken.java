@@ -0,0 +1,75 @@
+package jyoungmin.vocabauth.security;
+
+import io.jsonwebtoken.Claims;
+import jyoungmin.vocabcommons.constants.JwtConstants;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Immutable view of a JWT whose signature and expiry have been verified.
+ * Holds everything the request path needs so that a token is parsed only once per request.
+ */
+@Getter
+public final class ValidatedToken {
+    /**
+     * Token ID ("jti"), or null for tokens issued before token IDs were added
+     */
+    private final String tokenId;
+
+    /**
+     * Username (token subject)
+     */
+    private final String subject;
+
+    /**
+     * Numeric user ID, or null for tokens issued before the user ID claim was added
+     */
+    private final Long userId;
+
+    /**
+     * Session ID ("sid"), or null for tokens issued before sessions were added
+     */
+    private final String sessionId;
+
+    /**
+     * Granted authorities (empty for refresh tokens)
+     */
+    private final List<String> authorities;
+
+    /**
+     * Token issue time, or null for tokens issued before the issue time was added
+     */
+    private final Instant issuedAt;
+
+    /**
+     * Token expiration time
+     */
+    private final Instant expiration;
+
+    /**
+     * Copies the relevant claims of a verified token.
+     *
+     * @param claims the verified token claims
+     */
+    ValidatedToken(Claims claims) {
+        this.tokenId = claims.getId();
+        this.subject = claims.getSubject();
+
+        Object userIdClaim = claims.get(JwtConstants.USER_ID_CLAIM);
+        this.userId = userIdClaim instanceof Number number ? number.longValue() : null;
+
+        Object sessionIdClaim = claims.get(JwtConstants.SESSION_ID_CLAIM);
+        this.sessionId = sessionIdClaim != null ? sessionIdClaim.toString() : null;
+
+        Object authClaim = claims.get(JwtConstants.AUTHORITIES_CLAIM);
+        this.authorities = authClaim == null
+                ? List.of()
+                : Arrays.stream(authClaim.toString().split(",")).toList();
+
+        this.issuedAt = claims.getIssuedAt() == null ? null : claims.getIssuedAt().toInstant();
+        this.expiration = claims.getExpiration() == null ? null : claims.getExpiration().toInstant();
+    }
+}
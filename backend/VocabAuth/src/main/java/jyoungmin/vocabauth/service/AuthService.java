@@ -1,16 +1,22 @@
 package jyoungmin.vocabauth.service;
 
-import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
+import jyoungmin.vocabauth.dao.UsernameBloomFilter;
 import jyoungmin.vocabauth.dto.JwtToken;
 import jyoungmin.vocabauth.dto.LoginRequest;
 import jyoungmin.vocabauth.entity.User;
 import jyoungmin.vocabauth.exception.AuthException;
 import jyoungmin.vocabauth.repository.UserRepository;
+import jyoungmin.vocabauth.security.AuthRateLimiter;
 import jyoungmin.vocabauth.security.JwtTokenProvider;
+import jyoungmin.vocabauth.security.UserInfoCache;
+import jyoungmin.vocabauth.security.ValidatedToken;
+import jyoungmin.vocabcommons.dto.IntrospectionResult;
+import jyoungmin.vocabcommons.dto.UserInfo;
 import jyoungmin.vocabcommons.exception.ErrorCode;
 import jyoungmin.vocabcommons.security.SecurityContextUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -18,6 +24,14 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * Service for handling authentication operations.
  * Manages user registration, login, logout, token refresh, and user information retrieval.
@@ -47,18 +61,51 @@ public class AuthService {
      */
     private final JwtTokenProvider jwtTokenProvider;
 
+    /**
+     * Cache of user projections (without password hash)
+     */
+    private final UserInfoCache userInfoCache;
+
+    /**
+     * Service for revoking tokens before they expire
+     */
+    private final TokenRevocationService tokenRevocationService;
+
+    /**
+     * Bloom filter answering most availability checks without a query
+     */
+    private final UsernameBloomFilter usernameBloomFilter;
+
+    /**
+     * Distributed rate limiter keyed by username and client IP
+     */
+    private final AuthRateLimiter authRateLimiter;
+
+    /**
+     * Maximum number of tokens accepted by one introspection request
+     */
+    @Value("${auth.introspect.max-batch-size:100}")
+    private int maxIntrospectionBatchSize;
+
+    /**
+     * Credential services must present to introspect tokens; empty lets anyone introspect under the per-IP limit
+     */
+    @Value("${auth.introspect.client-secret:}")
+    private String introspectionClientSecret;
+
     /**
      * Registers a new user with encoded password and default role.
      *
      * @param user the user information to register
      */
     @Transactional
-    @RateLimiter(name = "auth-register")
     public void register(User user) {
+        authRateLimiter.acquire(AuthRateLimiter.REGISTER, null);
         user.setPassword(passwordEncoder.encode(user.getPassword()));
         user.setRole("USER");
         user.setEnabled(true);
         userRepository.save(user);
+        usernameBloomFilter.add(user.getUserName());
 
         log.info("User registered successfully: {}", user.getUserName());
     }
@@ -71,19 +118,15 @@ public class AuthService {
      * @return JWT token pair containing access and refresh tokens
      * @throws AuthException if user not found or account is disabled
      */
-    @RateLimiter(name = "auth-login")
     public JwtToken login(LoginRequest loginRequest) {
+        authRateLimiter.acquire(AuthRateLimiter.LOGIN, loginRequest.getUserName());
         UsernamePasswordAuthenticationToken authenticationToken =
                 new UsernamePasswordAuthenticationToken(loginRequest.getUserName(), loginRequest.getPassword());
 
         Authentication authentication = authenticationManager.authenticate(authenticationToken);
 
-        // Check if account is enabled
-        User user = userRepository.findByUserName(loginRequest.getUserName())
-                .orElseThrow(() -> new AuthException(
-                        ErrorCode.USER_NOT_FOUND,
-                        "User '" + loginRequest.getUserName() + "' not found"
-                ));
+        // Check if account is enabled (cached by the authentication above)
+        UserInfo user = userInfoCache.get(loginRequest.getUserName());
 
         if (!user.isEnabled()) {
             throw new AuthException(
@@ -92,52 +135,120 @@ public class AuthService {
             );
         }
 
-        JwtToken jwtToken = jwtTokenProvider.generateToken(authentication);
+        JwtToken jwtToken = jwtTokenProvider.generateToken(authentication, user);
 
         log.info("User logged in successfully: {}", loginRequest.getUserName());
         return jwtToken;
     }
 
     /**
-     * Logs out the current user by removing their refresh token from storage.
-     * Prevents further token refreshing until next login.
+     * Logs out the current session by removing its refresh token from storage
+     * and revoking the access token used for the request.
+     * Prevents further token refreshing until next login and stops the access token working on every instance.
+     * Other sessions of the user stay logged in.
      */
     public void logout() {
         String username = SecurityContextUtils.getCurrentUsername();
-        jwtTokenProvider.deleteRefreshToken(username);
+        ValidatedToken accessToken = currentAccessToken();
+        jwtTokenProvider.deleteRefreshToken(username, accessToken != null ? accessToken.getSessionId() : null);
+
+        if (accessToken != null) {
+            tokenRevocationService.revokeToken(accessToken);
+        }
 
         log.info("User logged out successfully: {}", username);
     }
 
+    /**
+     * Logs out all sessions of the current user.
+     * Removes every refresh token and revokes all tokens issued to the user so far.
+     */
+    public void logoutAll() {
+        String username = SecurityContextUtils.getCurrentUsername();
+        jwtTokenProvider.deleteAllRefreshTokens(username);
+        tokenRevocationService.revokeAllTokens(username);
+
+        log.info("User logged out of all sessions: {}", username);
+    }
+
     /**
      * Checks if a username is already registered in the system.
+     * Usernames the Bloom filter has never seen are reported as free without a database query.
      *
      * @param username the username to verify
      * @return true if username exists, false otherwise
      */
-    @RateLimiter(name = "auth-general")
     public boolean checkUsernameExists(String username) {
-        return userRepository.findByUserName(username).isPresent();
+        authRateLimiter.acquire(AuthRateLimiter.GENERAL, null);
+        if (!usernameBloomFilter.mightExist(username)) {
+            return false;
+        }
+
+        boolean exists = userRepository.findByUserName(username).isPresent();
+        usernameBloomFilter.recordLookup(exists);
+        return exists;
     }
 
     /**
      * Retrieves the currently authenticated user's information.
-     * Removes password from response for security.
+     * Served from the user cache, which never holds the password hash.
      *
      * @return user information without sensitive data
      * @throws AuthException if user not found
      */
-    @RateLimiter(name = "auth-general")
-    public User getCurrentUser() {
+    public UserInfo getCurrentUser() {
         String username = SecurityContextUtils.getCurrentUsername();
-        User user = userRepository.findByUserName(username)
-                .orElseThrow(() -> new AuthException(
-                        ErrorCode.USER_NOT_FOUND,
-                        "User '" + username + "' not found"
-                ));
-
-        user.setPassword(null); // Remove password from response
-        return user;
+        authRateLimiter.acquire(AuthRateLimiter.GENERAL, username);
+        return userInfoCache.get(username);
+    }
+
+    /**
+     * Introspects several access tokens at once, e.g. for services that batch their /me lookups.
+     * Each token is verified independently, and the owners of all valid tokens are loaded
+     * with a single query for the users missing from the cache.
+     *
+     * @param tokens     the access tokens to introspect
+     * @param credential the caller's introspection credential, may be null
+     * @return one result per token, in request order
+     * @throws AuthException if the caller may not introspect, or more tokens than the maximum batch size are given
+     */
+    public List<IntrospectionResult> introspect(List<String> tokens, String credential) {
+        authorizeIntrospection(credential);
+        if (tokens.size() > maxIntrospectionBatchSize) {
+            throw new AuthException(
+                    ErrorCode.INVALID_INPUT,
+                    "At most " + maxIntrospectionBatchSize + " tokens can be introspected per request"
+            );
+        }
+
+        IntrospectionResult[] results = new IntrospectionResult[tokens.size()];
+        ValidatedToken[] validatedTokens = new ValidatedToken[tokens.size()];
+        Set<String> usernames = new HashSet<>();
+        for (int i = 0; i < tokens.size(); i++) {
+            try {
+                ValidatedToken validatedToken = jwtTokenProvider.validate(tokens.get(i));
+                if (validatedToken.getAuthorities().isEmpty()) {
+                    // Refresh tokens carry no authorities and are not accepted as access tokens
+                    results[i] = IntrospectionResult.rejected(ErrorCode.INVALID_TOKEN);
+                    continue;
+                }
+                validatedTokens[i] = validatedToken;
+                usernames.add(validatedToken.getSubject());
+            } catch (AuthException e) {
+                results[i] = IntrospectionResult.rejected(e.getErrorCode());
+            }
+        }
+
+        Map<String, UserInfo> users = userInfoCache.getAll(usernames);
+        for (int i = 0; i < tokens.size(); i++) {
+            if (validatedTokens[i] != null) {
+                UserInfo user = users.get(validatedTokens[i].getSubject());
+                results[i] = user != null
+                        ? IntrospectionResult.active(user)
+                        : IntrospectionResult.rejected(ErrorCode.USER_NOT_FOUND);
+            }
+        }
+        return Arrays.asList(results);
     }
 
     /**
@@ -148,18 +259,55 @@ public class AuthService {
      * @return new JWT token pair with updated expiration times
      * @throws AuthException if refresh token is invalid or not found
      */
-    @RateLimiter(name = "auth-general")
     public JwtToken refreshToken(String refreshToken) {
-        // Validate refresh token
-        jwtTokenProvider.validateRefreshToken(refreshToken);
+        authRateLimiter.acquire(AuthRateLimiter.GENERAL, null);
+        // Validate refresh token (parsed once, claims reused below)
+        ValidatedToken validatedToken = jwtTokenProvider.validateRefreshToken(refreshToken);
 
-        // Extract username from refresh token
-        String username = jwtTokenProvider.getUserNameFromToken(refreshToken);
+        // Load current user information (role and enabled flag may have changed since login)
+        String username = validatedToken.getSubject();
+        UserInfo user = userInfoCache.get(username);
+        if (!user.isEnabled()) {
+            throw new AuthException(
+                    ErrorCode.ACCOUNT_DISABLED,
+                    "Your account has been disabled. Please contact support."
+            );
+        }
 
         // Issue new AccessToken + RefreshToken
-        JwtToken newToken = jwtTokenProvider.generateTokenWithRefreshToken(username);
+        JwtToken newToken = jwtTokenProvider.generateTokenWithRefreshToken(user, validatedToken.getSessionId(), refreshToken);
 
         log.info("Token refreshed successfully for user: {}", username);
         return newToken;
     }
+
+    /**
+     * Checks that the caller may introspect tokens.
+     * With a client secret configured only services presenting it are allowed, without limits;
+     * otherwise every caller is allowed under the general per-IP limit.
+     *
+     * @param credential the caller's introspection credential, may be null
+     * @throws AuthException if the credential is missing or wrong, or the per-IP limit is exhausted
+     */
+    private void authorizeIntrospection(String credential) {
+        if (introspectionClientSecret.isEmpty()) {
+            authRateLimiter.acquire(AuthRateLimiter.GENERAL, null);
+            return;
+        }
+        if (credential == null || !MessageDigest.isEqual(
+                credential.getBytes(StandardCharsets.UTF_8), introspectionClientSecret.getBytes(StandardCharsets.UTF_8))) {
+            throw new AuthException(ErrorCode.UNAUTHORIZED_ACCESS, "Token introspection is restricted to internal services");
+        }
+    }
+
+    /**
+     * Returns the access token the current request was authenticated with.
+     *
+     * @return the validated access token, or null if not available
+     */
+    private ValidatedToken currentAccessToken() {
+        return SecurityContextUtils.getCurrentAuthentication().getDetails() instanceof ValidatedToken token
+                ? token
+                : null;
+    }
 }
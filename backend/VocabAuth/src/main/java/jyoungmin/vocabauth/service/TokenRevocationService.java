@@ -0,0 +1,67 @@
+package jyoungmin.vocabauth.service;
+
+import jyoungmin.vocabauth.security.ValidatedToken;
+import jyoungmin.vocabcommons.security.TokenRevocationStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Service for revoking issued tokens before they expire.
+ * Revocations are stored in Redis and pushed to the in-memory deny-list of every instance.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class TokenRevocationService {
+
+    /**
+     * Shared Redis storage of revocations
+     */
+    private final TokenRevocationStore revocationStore;
+
+    /**
+     * Access token expiration time in milliseconds
+     */
+    @Value("${jwt.accessToken.ExpirationTime}")
+    private long accessTokenExpireTime;
+
+    /**
+     * Refresh token expiration time in milliseconds
+     */
+    @Value("${jwt.refreshToken.ExpirationTime}")
+    private long refreshTokenExpireTime;
+
+    /**
+     * Revokes a single token, e.g. the access token used for logout.
+     * Tokens issued before token IDs were added cannot be revoked individually.
+     *
+     * @param token the validated token to revoke
+     */
+    public void revokeToken(ValidatedToken token) {
+        if (token.getTokenId() == null || token.getExpiration() == null) {
+            log.debug("Token of {} has no ID, skipping revocation", token.getSubject());
+            return;
+        }
+        revocationStore.revokeToken(token.getTokenId(), token.getExpiration().toEpochMilli());
+    }
+
+    /**
+     * Revokes all access and refresh tokens issued to a user in an earlier second, e.g. when the account is disabled.
+     * The not-before time is rounded down to the second to match the precision of the "iat" claim, so tokens
+     * issued right after the revocation are not rejected; instance clocks must still be kept in sync.
+     *
+     * @param username the username whose tokens should be revoked
+     */
+    public void revokeAllTokens(String username) {
+        long now = System.currentTimeMillis();
+        long notBefore = Instant.ofEpochMilli(now).truncatedTo(ChronoUnit.SECONDS).toEpochMilli();
+        long expiresAt = now + Math.max(accessTokenExpireTime, refreshTokenExpireTime);
+        revocationStore.revokeUser(username, notBefore, expiresAt);
+        log.info("Revoked all tokens of user: {}", username);
+    }
+}
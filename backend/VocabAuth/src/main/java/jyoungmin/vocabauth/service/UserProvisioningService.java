@@ -0,0 +1,330 @@
+package jyoungmin.vocabauth.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import jyoungmin.vocabauth.dao.UsernameBloomFilter;
+import jyoungmin.vocabauth.dto.BulkRegisterResult;
+import jyoungmin.vocabauth.dto.BulkRegisterSummary;
+import jyoungmin.vocabauth.entity.User;
+import jyoungmin.vocabauth.exception.AuthException;
+import jyoungmin.vocabauth.repository.UserRepository;
+import jyoungmin.vocabauth.security.BoundedPasswordEncoder;
+import jyoungmin.vocabcommons.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Service for provisioning many user accounts at once, e.g. a whole school class.
+ * Reads users as newline-delimited JSON and processes them in chunks: one query finds existing usernames,
+ * passwords are hashed in parallel on the bounded hashing pool, and the users are inserted with a
+ * JDBC batch in one transaction per chunk. Each row gets its own result, so bad rows do not fail the request.
+ * Chunks are committed independently: when the hashing pool stays saturated, the rows of that chunk are
+ * rejected with {@link ErrorCode#SERVER_BUSY} and can be resubmitted, while earlier chunks stay created.
+ */
+@Slf4j
+@Service
+public class UserProvisioningService {
+
+    /**
+     * Batched insert statement for new users
+     */
+    private static final String INSERT_USER_SQL =
+            "INSERT INTO user (user_name, name, email, password, role, enabled) VALUES (?, ?, ?, ?, ?, ?)";
+
+    /**
+     * Role assigned to provisioned users
+     */
+    private static final String DEFAULT_ROLE = "USER";
+
+    /**
+     * Mapper for reading rows
+     */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Bean Validation for rows, applying the same constraints as /register
+     */
+    private final Validator validator;
+
+    /**
+     * Repository for the duplicate check
+     */
+    private final UserRepository userRepository;
+
+    /**
+     * Encoder hashing passwords on its bounded pool
+     */
+    private final BoundedPasswordEncoder passwordEncoder;
+
+    /**
+     * Template for batched inserts
+     */
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Transaction wrapping the insert of one chunk
+     */
+    private final TransactionTemplate transaction;
+
+    /**
+     * Bloom filter of existing usernames, updated with the created users
+     */
+    private final UsernameBloomFilter usernameBloomFilter;
+
+    /**
+     * Number of rows checked, hashed and inserted together
+     */
+    private final int chunkSize;
+
+    /**
+     * Maximum number of rows accepted by one request
+     */
+    private final int maxRows;
+
+    /**
+     * Creates the service.
+     *
+     * @param objectMapper        mapper for reading rows
+     * @param validator           Bean Validation for rows
+     * @param userRepository      repository for the duplicate check
+     * @param passwordEncoder     encoder hashing passwords on its bounded pool
+     * @param jdbcTemplate        template for batched inserts
+     * @param transactionManager  transaction manager for the chunk inserts
+     * @param usernameBloomFilter Bloom filter of existing usernames
+     * @param chunkSize           number of rows processed together
+     * @param maxRows             maximum number of rows per request
+     */
+    public UserProvisioningService(ObjectMapper objectMapper,
+                                   Validator validator,
+                                   UserRepository userRepository,
+                                   BoundedPasswordEncoder passwordEncoder,
+                                   JdbcTemplate jdbcTemplate,
+                                   PlatformTransactionManager transactionManager,
+                                   UsernameBloomFilter usernameBloomFilter,
+                                   @Value("${auth.bulk-register.chunk-size:500}") int chunkSize,
+                                   @Value("${auth.bulk-register.max-rows:10000}") int maxRows) {
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.usernameBloomFilter = usernameBloomFilter;
+        this.chunkSize = chunkSize;
+        this.maxRows = maxRows;
+    }
+
+    /**
+     * Registers every user of a newline-delimited JSON stream.
+     * Each line holds one user with the same fields as /register; blank lines are skipped.
+     *
+     * @param ndjson the request body
+     * @return per-row results and throughput
+     * @throws IOException if the body cannot be read
+     */
+    public BulkRegisterSummary register(InputStream ndjson) throws IOException {
+        long started = System.nanoTime();
+        List<BulkRegisterResult> results = new ArrayList<>();
+        List<PendingUser> chunk = new ArrayList<>(chunkSize);
+        Set<String> seenUsernames = new HashSet<>();
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(ndjson, StandardCharsets.UTF_8));
+        int lineNumber = 0;
+        int rows = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            if (++rows > maxRows) {
+                results.add(BulkRegisterResult.rejected(lineNumber, null, ErrorCode.INVALID_INPUT,
+                        "At most " + maxRows + " users can be registered per request; this and later rows were skipped"));
+                break;
+            }
+
+            PendingUser pending = read(lineNumber, line, seenUsernames, results);
+            if (pending != null) {
+                chunk.add(pending);
+                if (chunk.size() == chunkSize) {
+                    results.addAll(insertChunk(chunk));
+                    chunk.clear();
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            results.addAll(insertChunk(chunk));
+        }
+
+        results.sort(Comparator.comparingInt(BulkRegisterResult::getLine));
+        int created = (int) results.stream().filter(BulkRegisterResult::isCreated).count();
+        long elapsedMillis = Math.max(1, (System.nanoTime() - started) / 1_000_000);
+        double rowsPerSecond = results.size() * 1000.0 / elapsedMillis;
+
+        log.info("Bulk registration: {} rows, {} created, {} rejected in {} ms ({} rows/s)",
+                results.size(), created, results.size() - created, elapsedMillis, Math.round(rowsPerSecond));
+
+        return BulkRegisterSummary.builder()
+                .total(results.size())
+                .created(created)
+                .failed(results.size() - created)
+                .elapsedMillis(elapsedMillis)
+                .rowsPerSecond(rowsPerSecond)
+                .results(results)
+                .build();
+    }
+
+    /**
+     * Parses and validates one row.
+     *
+     * @param lineNumber    line number of the row
+     * @param line          the JSON row
+     * @param seenUsernames usernames of earlier rows of the request, lower-cased
+     * @param results       results to add a rejection to
+     * @return the pending user, or null if the row was rejected
+     */
+    private PendingUser read(int lineNumber, String line, Set<String> seenUsernames, List<BulkRegisterResult> results) {
+        User user;
+        try {
+            user = objectMapper.readValue(line, User.class);
+        } catch (JsonProcessingException e) {
+            results.add(BulkRegisterResult.rejected(lineNumber, null, ErrorCode.INVALID_INPUT, "Malformed JSON row"));
+            return null;
+        }
+
+        Set<ConstraintViolation<User>> violations = validator.validate(user);
+        if (!violations.isEmpty()) {
+            results.add(BulkRegisterResult.rejected(lineNumber, user.getUserName(), ErrorCode.INVALID_USER_DATA,
+                    violations.iterator().next().getMessage()));
+            return null;
+        }
+
+        if (!seenUsernames.add(user.getUserName().toLowerCase(Locale.ROOT))) {
+            results.add(BulkRegisterResult.rejected(lineNumber, user.getUserName(), ErrorCode.USERNAME_ALREADY_EXISTS,
+                    "Username appears more than once in the request"));
+            return null;
+        }
+
+        return new PendingUser(lineNumber, user);
+    }
+
+    /**
+     * Checks, hashes and inserts one chunk of valid rows.
+     *
+     * @param chunk the rows to insert
+     * @return the result of each row
+     */
+    private List<BulkRegisterResult> insertChunk(List<PendingUser> chunk) {
+        List<BulkRegisterResult> results = new ArrayList<>(chunk.size());
+
+        Set<String> existing = new HashSet<>();
+        userRepository.findExistingUserNames(chunk.stream().map(pending -> pending.user().getUserName()).toList())
+                .forEach(userName -> existing.add(userName.toLowerCase(Locale.ROOT)));
+
+        List<PendingUser> newUsers = new ArrayList<>(chunk.size());
+        for (PendingUser pending : chunk) {
+            if (existing.contains(pending.user().getUserName().toLowerCase(Locale.ROOT))) {
+                results.add(BulkRegisterResult.rejected(pending.line(), pending.user().getUserName(),
+                        ErrorCode.USERNAME_ALREADY_EXISTS, "Username already exists"));
+            } else {
+                newUsers.add(pending);
+            }
+        }
+        if (newUsers.isEmpty()) {
+            return results;
+        }
+
+        List<String> hashes;
+        try {
+            hashes = passwordEncoder.encodeAll(newUsers.stream().map(pending -> pending.user().getPassword()).toList());
+        } catch (AuthException e) {
+            if (e.getErrorCode() != ErrorCode.SERVER_BUSY) {
+                throw e;
+            }
+            log.warn("Password hashing saturated, rejecting {} rows of bulk chunk", newUsers.size());
+            newUsers.forEach(pending -> results.add(BulkRegisterResult.rejected(pending.line(),
+                    pending.user().getUserName(), ErrorCode.SERVER_BUSY, "Server is busy; resubmit this row")));
+            return results;
+        }
+        for (int i = 0; i < newUsers.size(); i++) {
+            User user = newUsers.get(i).user();
+            user.setPassword(hashes.get(i));
+            user.setRole(DEFAULT_ROLE);
+            user.setEnabled(true);
+        }
+
+        try {
+            transaction.executeWithoutResult(status -> batchInsert(newUsers));
+            newUsers.forEach(pending -> results.add(created(pending)));
+        } catch (DuplicateKeyException e) {
+            // A concurrent registration took one of the usernames; insert row by row to find it
+            log.warn("Duplicate username in bulk chunk, retrying {} rows individually", newUsers.size());
+            for (PendingUser pending : newUsers) {
+                try {
+                    transaction.executeWithoutResult(status -> batchInsert(List.of(pending)));
+                    results.add(created(pending));
+                } catch (DuplicateKeyException duplicate) {
+                    results.add(BulkRegisterResult.rejected(pending.line(), pending.user().getUserName(),
+                            ErrorCode.USERNAME_ALREADY_EXISTS, "Username already exists"));
+                }
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Inserts users with one JDBC batch.
+     *
+     * @param users the users to insert, with hashed passwords
+     */
+    private void batchInsert(List<PendingUser> users) {
+        jdbcTemplate.batchUpdate(INSERT_USER_SQL, users, users.size(), (statement, pending) -> {
+            User user = pending.user();
+            statement.setString(1, user.getUserName());
+            statement.setString(2, user.getName());
+            statement.setString(3, user.getEmail());
+            statement.setString(4, user.getPassword());
+            statement.setString(5, user.getRole());
+            statement.setBoolean(6, user.isEnabled());
+        });
+    }
+
+    /**
+     * Records a created user in the username filter and builds its result.
+     *
+     * @param pending the created user
+     * @return successful result
+     */
+    private BulkRegisterResult created(PendingUser pending) {
+        usernameBloomFilter.add(pending.user().getUserName());
+        return BulkRegisterResult.created(pending.line(), pending.user().getUserName());
+    }
+
+    /**
+     * A valid row waiting to be inserted.
+     *
+     * @param line line number of the row
+     * @param user the user to create
+     */
+    private record PendingUser(int line, User user) {
+    }
+}
@@ -0,0 +1,14 @@
+-- Users, as previously generated by Hibernate; existing databases keep their table
+CREATE TABLE IF NOT EXISTS user
+(
+    id        BIGINT       NOT NULL AUTO_INCREMENT,
+    user_name VARCHAR(255) NOT NULL,
+    name      VARCHAR(255) NOT NULL,
+    password  VARCHAR(255) NOT NULL,
+    email     VARCHAR(255) NOT NULL,
+    role      VARCHAR(255) NOT NULL,
+    enabled   BIT          NOT NULL,
+    PRIMARY KEY (id),
+    -- Login, username checks and bulk duplicate checks look users up by name
+    CONSTRAINT uk_user_user_name UNIQUE (user_name)
+) ENGINE = InnoDB;
@@ -0,0 +1,126 @@
+package jyoungmin.vocabauth.config;
+
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Local redis-server processes for tests, with templates configured like {@link RedisConfig}.
+ * Tests should skip themselves when {@link #installed()} is false.
+ */
+public class LocalRedisServers implements AutoCloseable {
+
+    private final List<Process> servers = new ArrayList<>();
+    private final List<LettuceConnectionFactory> factories = new ArrayList<>();
+
+    /**
+     * Working directory of the servers; replication full syncs write RDB files even without persistence
+     */
+    private Path dataDirectory;
+
+    /**
+     * Checks whether redis-server is on the PATH.
+     *
+     * @return true if local servers can be started
+     */
+    public static boolean installed() {
+        String path = System.getenv("PATH");
+        if (path == null) {
+            return false;
+        }
+        for (String directory : path.split(File.pathSeparator)) {
+            if (new File(directory, "redis-server").canExecute()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Starts a server without persistence.
+     *
+     * @param args extra server arguments, e.g. "--replicaof"
+     * @return the port the server listens on
+     */
+    public int start(String... args) throws IOException, InterruptedException {
+        int port = freePort();
+        if (dataDirectory == null) {
+            dataDirectory = Files.createTempDirectory("redis-test");
+        }
+        List<String> command = new ArrayList<>(List.of("redis-server", "--port", String.valueOf(port),
+                "--save", "", "--appendonly", "no",
+                "--dir", dataDirectory.toString(), "--dbfilename", "dump-" + port + ".rdb"));
+        command.addAll(List.of(args));
+        servers.add(new ProcessBuilder(command).redirectOutput(ProcessBuilder.Redirect.DISCARD).start());
+        Thread.sleep(200);
+        return port;
+    }
+
+    /**
+     * Starts a replica of a running server and waits until it is connected.
+     *
+     * @param primaryPort the port of the primary
+     * @return the port of the replica
+     */
+    public int startReplica(int primaryPort) throws IOException, InterruptedException {
+        int port = start("--replicaof", "127.0.0.1", String.valueOf(primaryPort), "--replica-read-only", "no");
+        RedisTemplate<String, Object> replica = template(port);
+        for (int i = 0; i < 100; i++) {
+            Properties info = replica.execute(connection -> connection.serverCommands().info("replication"), true);
+            if (info != null && "up".equals(info.getProperty("master_link_status"))) {
+                return port;
+            }
+            Thread.sleep(100);
+        }
+        throw new IllegalStateException("Replica did not connect to the primary");
+    }
+
+    /**
+     * Creates a template on a standalone server the way {@link RedisConfig} does.
+     *
+     * @param port the server port
+     * @return initialized template
+     */
+    public RedisTemplate<String, Object> template(int port) {
+        LettuceConnectionFactory factory = RedisConfig.createConnectionFactory(new RedisStandaloneConfiguration("127.0.0.1", port));
+        factory.afterPropertiesSet();
+        factory.start();
+        factories.add(factory);
+
+        RedisTemplate<String, Object> template = RedisConfig.createTemplate(factory);
+        template.afterPropertiesSet();
+        return template;
+    }
+
+    /**
+     * Closes all connections and stops all servers.
+     */
+    @Override
+    public void close() {
+        factories.forEach(LettuceConnectionFactory::destroy);
+        servers.forEach(Process::destroy);
+        if (dataDirectory != null) {
+            try (var files = Files.walk(dataDirectory)) {
+                files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+            } catch (IOException e) {
+                // Leftovers in the temp directory are harmless
+            }
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
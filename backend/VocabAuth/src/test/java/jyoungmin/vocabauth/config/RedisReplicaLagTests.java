@@ -0,0 +1,138 @@
+package jyoungmin.vocabauth.config;
+
+import jyoungmin.vocabauth.dao.RedisDao;
+import jyoungmin.vocabauth.dao.RefreshTokenStore;
+import jyoungmin.vocabauth.exception.AuthException;
+import jyoungmin.vocabcommons.exception.ErrorCode;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Runs a primary and a replica as local redis-server processes and checks that refresh token checks,
+ * which only ever read the primary, are not fooled by a replica lagging behind it. Lag is simulated by
+ * detaching the replica before writing to the primary. Skipped when redis-server is not installed.
+ */
+class RedisReplicaLagTests {
+
+    private static final Duration TTL = Duration.ofDays(7);
+
+    private static LocalRedisServers servers;
+
+    private static int primaryPort;
+    private static RedisTemplate<String, Object> primary;
+    private static RedisTemplate<String, Object> replica;
+    private static RedisDao redisDao;
+    private static RefreshTokenStore refreshTokenStore;
+
+    @BeforeAll
+    static void startServers() throws Exception {
+        assumeTrue(LocalRedisServers.installed(), "redis-server is not installed");
+
+        servers = new LocalRedisServers();
+        primaryPort = servers.start();
+        int replicaPort = servers.startReplica(primaryPort);
+
+        primary = servers.template(primaryPort);
+        replica = servers.template(replicaPort);
+
+        // Wired the way RedisConfig wires them: every read and write goes to the primary
+        redisDao = new RedisDao(primary);
+        refreshTokenStore = new RefreshTokenStore(primary);
+    }
+
+    @AfterAll
+    static void stopServers() {
+        if (servers != null) {
+            servers.close();
+        }
+    }
+
+    @BeforeEach
+    void attachReplica() throws InterruptedException {
+        replica.execute(connection -> {
+            connection.serverCommands().replicaOf("127.0.0.1", primaryPort);
+            return null;
+        }, true);
+        primary.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+        primary.opsForValue().set("sync-marker", "synced");
+        awaitReplicated("sync-marker");
+    }
+
+    @Test
+    void writesReachTheReplica() throws InterruptedException {
+        redisDao.setValues("alice", "refresh-token");
+
+        awaitReplicated("alice");
+        assertThat(replica.opsForValue().get("alice")).isEqualTo("refresh-token");
+        assertThat(redisDao.getValues("alice")).contains("refresh-token");
+    }
+
+    @Test
+    void replicaMissIsConfirmedOnPrimary() {
+        detachReplica();
+        primary.opsForValue().set("bob", "fresh-token");
+
+        assertThat(replica.opsForValue().get("bob")).isNull();
+        assertThat(redisDao.getValues("bob")).contains("fresh-token");
+    }
+
+    @Test
+    void rotationIsSeenWhileTheReplicaStillHoldsTheOldToken() throws InterruptedException {
+        refreshTokenStore.createSession("carol", "phone", "first", TTL);
+        awaitReplicated("rt:carol");
+        detachReplica();
+
+        refreshTokenStore.rotateSession("carol", "phone", "first", "second", TTL);
+
+        assertThat(replica.opsForHash().get("rt:carol", "phone"))
+                .isNotEqualTo(primary.opsForHash().get("rt:carol", "phone"));
+        assertThat(refreshTokenStore.matches("carol", "phone", "second")).isTrue();
+        assertThat(refreshTokenStore.matches("carol", "phone", "first")).isFalse();
+    }
+
+    @Test
+    void logoutIsSeenWhileTheReplicaStillHoldsTheSession() throws InterruptedException {
+        refreshTokenStore.createSession("dave", "phone", "token", TTL);
+        redisDao.setValues("dave", "legacy-token");
+        awaitReplicated("rt:dave");
+        awaitReplicated("dave");
+        detachReplica();
+
+        refreshTokenStore.deleteAllSessions("dave");
+
+        assertThat(replica.hasKey("rt:dave")).isTrue();
+        assertThatThrownBy(() -> refreshTokenStore.matches("dave", "phone", "token"))
+                .isInstanceOf(AuthException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.REFRESH_TOKEN_NOT_FOUND);
+        assertThat(redisDao.getValues("dave")).isEmpty();
+    }
+
+    /**
+     * Stops replication, so later writes to the primary are not seen by the replica.
+     */
+    private static void detachReplica() {
+        replica.execute(connection -> {
+            connection.serverCommands().replicaOfNoOne();
+            return null;
+        }, true);
+    }
+
+    private static void awaitReplicated(String key) throws InterruptedException {
+        for (int i = 0; i < 250 && !Boolean.TRUE.equals(replica.hasKey(key)); i++) {
+            Thread.sleep(20);
+        }
+        assertThat(replica.hasKey(key)).as("replicated %s", key).isTrue();
+    }
+}
@@ -0,0 +1,35 @@
+package jyoungmin.vocabauth.controller;
+
+import jyoungmin.vocabauth.security.SigningKeyManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class JwksControllerTests {
+
+    @Test
+    void publishesTheKeySetAsCacheableJson() throws Exception {
+        // Without a key directory an ephemeral pair is generated, which is enough to check the document
+        SigningKeyManager manager = new SigningKeyManager("a-shared-secret-that-is-long-enough-for-hs256", "EdDSA", "", "", false);
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new JwksController(manager)).build();
+
+        mockMvc.perform(get("/.well-known/jwks.json"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(header().string("Cache-Control", "max-age=300, public"))
+                .andExpect(jsonPath("$.keys.length()").value(1))
+                .andExpect(jsonPath("$.keys[0].kty").value("OKP"))
+                .andExpect(jsonPath("$.keys[0].crv").value("Ed25519"))
+                .andExpect(jsonPath("$.keys[0].alg").value("EdDSA"))
+                .andExpect(jsonPath("$.keys[0].use").value("sig"))
+                .andExpect(jsonPath("$.keys[0].kid").exists())
+                .andExpect(jsonPath("$.keys[0].d").doesNotExist());
+    }
+}
@@ -0,0 +1,42 @@
+package jyoungmin.vocabauth.dao;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTests {
+
+    private static final int ENTRIES = 10_000;
+
+    @Test
+    void neverReportsAddedValuesAsAbsent() {
+        BloomFilter filter = new BloomFilter(ENTRIES, 0.01);
+        for (int i = 0; i < ENTRIES; i++) {
+            filter.add("user-" + i);
+        }
+
+        for (int i = 0; i < ENTRIES; i++) {
+            assertThat(filter.mightContain("user-" + i)).isTrue();
+        }
+    }
+
+    @Test
+    void falsePositiveRateStaysNearTheTarget() {
+        BloomFilter filter = new BloomFilter(ENTRIES, 0.01);
+        for (int i = 0; i < ENTRIES; i++) {
+            filter.add("user-" + i);
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < ENTRIES; i++) {
+            if (filter.mightContain("absent-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        assertThat((double) falsePositives / ENTRIES).isLessThan(0.02);
+        assertThat(filter.expectedFalsePositiveRate()).isBetween(0.005, 0.015);
+        // About 9.6 bits per entry at 1%
+        assertThat(filter.memoryBytes()).isBetween(11_000L, 13_000L);
+    }
+}
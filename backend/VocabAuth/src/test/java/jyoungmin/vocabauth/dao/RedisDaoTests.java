@@ -0,0 +1,78 @@
+package jyoungmin.vocabauth.dao;
+
+import jyoungmin.vocabauth.config.LocalRedisServers;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Exercises the async and batch APIs of {@link RedisDao} against a local redis-server.
+ * Skipped when redis-server is not installed.
+ */
+class RedisDaoTests {
+
+    private static final int OPERATIONS = 1_000;
+
+    private static LocalRedisServers servers;
+    private static RedisDao redisDao;
+
+    @BeforeAll
+    static void startServer() throws Exception {
+        assumeTrue(LocalRedisServers.installed(), "redis-server is not installed");
+
+        servers = new LocalRedisServers();
+        RedisTemplate<String, Object> template = servers.template(servers.start());
+        redisDao = new RedisDao(template);
+    }
+
+    @AfterAll
+    static void stopServer() {
+        if (servers != null) {
+            servers.close();
+        }
+    }
+
+    @Test
+    void asyncApiRoundTrips() {
+        redisDao.setValuesAsync("async:alice", "token", Duration.ofMinutes(1)).join();
+
+        assertThat(redisDao.getValuesAsync("async:alice").join()).contains("token");
+        assertThat(redisDao.deleteValuesAsync("async:alice").join()).isTrue();
+        assertThat(redisDao.getValuesAsync("async:alice").join()).isEmpty();
+    }
+
+    @Test
+    void batchApiHandlesManyKeysInOnePipeline() {
+        redisDao.setValues(Map.of("batch:a", "1", "batch:b", "2"), Duration.ofMinutes(1));
+
+        Map<String, Optional<Object>> values = redisDao.getValues(List.of("batch:a", "batch:missing", "batch:b"));
+        assertThat(values).containsEntry("batch:a", Optional.of("1"))
+                .containsEntry("batch:missing", Optional.empty())
+                .containsEntry("batch:b", Optional.of("2"));
+        assertThat(redisDao.deleteValues(List.of("batch:a", "batch:b", "batch:missing"))).isEqualTo(2);
+    }
+
+    @Test
+    void concurrentAsyncWritesAreAllApplied() {
+        List<String> keys = IntStream.range(0, OPERATIONS).mapToObj(i -> "async:" + i).toList();
+
+        // Written on the shared connection without waiting for earlier replies
+        CompletableFuture.allOf(keys.stream()
+                .map(key -> redisDao.setValuesAsync(key, key, Duration.ofMinutes(1)))
+                .toArray(CompletableFuture[]::new)).join();
+
+        assertThat(redisDao.getValues(keys)).allSatisfy((key, value) -> assertThat(value).contains(key));
+        assertThat(redisDao.deleteValues(keys)).isEqualTo(OPERATIONS);
+    }
+}
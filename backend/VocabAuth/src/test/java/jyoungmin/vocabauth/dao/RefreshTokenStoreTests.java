@@ -0,0 +1,215 @@
+package jyoungmin.vocabauth.dao;
+
+import io.jsonwebtoken.Jwts;
+import jyoungmin.vocabauth.config.LocalRedisServers;
+import jyoungmin.vocabauth.dto.JwtToken;
+import jyoungmin.vocabauth.exception.AuthException;
+import jyoungmin.vocabauth.security.JwtTokenProvider;
+import jyoungmin.vocabauth.security.SigningKeyManager;
+import jyoungmin.vocabauth.security.ValidatedToken;
+import jyoungmin.vocabcommons.constants.JwtConstants;
+import jyoungmin.vocabcommons.dto.UserInfo;
+import jyoungmin.vocabcommons.exception.ErrorCode;
+import jyoungmin.vocabcommons.security.TokenRevocationReplica;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Runs the per-user session hash against a local redis-server, through the store and through
+ * {@link JwtTokenProvider} for the login, refresh and logout flows. Skipped when redis-server is not installed.
+ */
+class RefreshTokenStoreTests {
+
+    private static final Duration TTL = Duration.ofDays(7);
+
+    private static final SigningKeyManager KEYS =
+            new SigningKeyManager("a-shared-secret-that-is-long-enough-for-hs256", "HS256", "", "", false);
+
+    private static LocalRedisServers servers;
+    private static RedisTemplate<String, Object> redis;
+
+    private RefreshTokenStore store;
+    private JwtTokenProvider tokenProvider;
+
+    @BeforeAll
+    static void startServer() throws Exception {
+        assumeTrue(LocalRedisServers.installed(), "redis-server is not installed");
+
+        servers = new LocalRedisServers();
+        redis = servers.template(servers.start());
+    }
+
+    @AfterAll
+    static void stopServer() {
+        if (servers != null) {
+            servers.close();
+        }
+    }
+
+    @BeforeEach
+    void createStore() {
+        redis.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+
+        store = new RefreshTokenStore(redis);
+        tokenProvider = new JwtTokenProvider(
+                KEYS,
+                new RedisDao(redis),
+                store,
+                new TokenRevocationReplica(false, Duration.ofSeconds(30), null, null));
+        ReflectionTestUtils.setField(tokenProvider, "ACCESS_TOKEN_EXPIRE_TIME", Duration.ofMinutes(15).toMillis());
+        ReflectionTestUtils.setField(tokenProvider, "REFRESH_TOKEN_EXPIRE_TIME", TTL.toMillis());
+        ReflectionTestUtils.setField(tokenProvider, "accessTokenProfile", "self-contained");
+    }
+
+    @Test
+    void sessionsOfOneUserAreIndependentAndStoreOnlyADigest() {
+        store.createSession("alice", "phone", "phone-token", TTL);
+        store.createSession("alice", "laptop", "laptop-token", TTL);
+
+        assertThat(store.matches("alice", "phone", "phone-token")).isTrue();
+        assertThat(store.matches("alice", "laptop", "laptop-token")).isTrue();
+        assertThat(store.matches("alice", "phone", "laptop-token")).isFalse();
+        assertThat(redis.opsForHash().entries("rt:alice").values())
+                .hasSize(2)
+                .noneMatch(value -> value.toString().contains("token"));
+        assertThat(redis.getExpire("rt:alice")).isPositive();
+    }
+
+    @Test
+    void rotationReplacesTheTokenOfTheSession() {
+        store.createSession("alice", "phone", "first", TTL);
+
+        store.rotateSession("alice", "phone", "first", "second", TTL);
+
+        assertThat(store.matches("alice", "phone", "second")).isTrue();
+        assertThat(store.matches("alice", "phone", "first")).isFalse();
+    }
+
+    @Test
+    void rotationWithAnAlreadyRotatedTokenIsRejected() {
+        store.createSession("alice", "phone", "first", TTL);
+        store.rotateSession("alice", "phone", "first", "second", TTL);
+
+        assertThatThrownBy(() -> store.rotateSession("alice", "phone", "first", "third", TTL))
+                .isInstanceOf(AuthException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.REFRESH_TOKEN_INVALID);
+        assertThat(store.matches("alice", "phone", "second")).isTrue();
+    }
+
+    @Test
+    void refreshRacingWithLogoutDoesNotRecreateTheSession() {
+        store.createSession("alice", "phone", "first", TTL);
+        // The refresh has validated "first" when the logout deletes the session
+        assertThat(store.matches("alice", "phone", "first")).isTrue();
+        store.deleteSession("alice", "phone");
+
+        assertThatThrownBy(() -> store.rotateSession("alice", "phone", "first", "second", TTL))
+                .isInstanceOf(AuthException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.REFRESH_TOKEN_NOT_FOUND);
+        assertThat(redis.opsForHash().hasKey("rt:alice", "phone")).isFalse();
+    }
+
+    @Test
+    void expiredSessionsArePrunedAtLogin() {
+        redis.opsForHash().put("rt:alice", "old-device", "1:digest");
+
+        store.createSession("alice", "phone", "phone-token", TTL);
+
+        assertThat(redis.opsForHash().keys("rt:alice")).containsExactly("phone");
+        assertThatThrownBy(() -> store.matches("alice", "old-device", "anything"))
+                .isInstanceOf(AuthException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.REFRESH_TOKEN_NOT_FOUND);
+    }
+
+    @Test
+    void deleteAllSessionsAlsoDropsTheLegacyKey() {
+        store.createSession("alice", "phone", "phone-token", TTL);
+        store.createSession("alice", "laptop", "laptop-token", TTL);
+        redis.opsForValue().set("alice", "legacy-token");
+        store.createSession("bob", "phone", "bob-token", TTL);
+
+        store.deleteAllSessions("alice");
+
+        assertThat(redis.hasKey("rt:alice")).isFalse();
+        assertThat(redis.hasKey("alice")).isFalse();
+        assertThat(store.matches("bob", "phone", "bob-token")).isTrue();
+    }
+
+    @Test
+    void loginRefreshAndLogoutThroughTheTokenProvider() {
+        JwtToken login = tokenProvider.generateToken(authentication(), user());
+        ValidatedToken validated = tokenProvider.validateRefreshToken(login.getRefreshToken());
+
+        JwtToken refreshed = tokenProvider.generateTokenWithRefreshToken(user(), validated.getSessionId(), login.getRefreshToken());
+
+        assertThat(tokenProvider.validateRefreshToken(refreshed.getRefreshToken()).getSessionId())
+                .isEqualTo(validated.getSessionId());
+        assertThatThrownBy(() -> tokenProvider.validateRefreshToken(login.getRefreshToken()))
+                .isInstanceOf(AuthException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.REFRESH_TOKEN_INVALID);
+
+        tokenProvider.deleteRefreshToken("alice", validated.getSessionId());
+
+        assertThatThrownBy(() -> tokenProvider.validateRefreshToken(refreshed.getRefreshToken()))
+                .isInstanceOf(AuthException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.REFRESH_TOKEN_NOT_FOUND);
+    }
+
+    @Test
+    void legacyTokenIsAcceptedOnceAndMovedToASession() throws InterruptedException {
+        // A refresh token issued before sessions existed: no "sid" claim, stored under the bare username
+        String legacyRefreshToken = withoutSessionId(tokenProvider.generateToken(authentication(), user()).getRefreshToken());
+        redis.delete("rt:alice");
+        redis.opsForValue().set("alice", legacyRefreshToken);
+
+        ValidatedToken validated = tokenProvider.validateRefreshToken(legacyRefreshToken);
+        assertThat(validated.getSessionId()).isNull();
+
+        JwtToken refreshed = tokenProvider.generateTokenWithRefreshToken(user(), null, legacyRefreshToken);
+
+        assertThat(tokenProvider.validateRefreshToken(refreshed.getRefreshToken()).getSessionId()).isNotNull();
+        for (int i = 0; i < 50 && Boolean.TRUE.equals(redis.hasKey("alice")); i++) {
+            Thread.sleep(20);
+        }
+        assertThat(redis.hasKey("alice")).isFalse();
+        assertThatThrownBy(() -> tokenProvider.validateRefreshToken(legacyRefreshToken))
+                .isInstanceOf(AuthException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.REFRESH_TOKEN_NOT_FOUND);
+    }
+
+    private static UsernamePasswordAuthenticationToken authentication() {
+        return new UsernamePasswordAuthenticationToken("alice", null, List.of(new SimpleGrantedAuthority("ROLE_USER")));
+    }
+
+    private static UserInfo user() {
+        return UserInfo.builder().id(1L).userName("alice").role("USER").enabled(true).build();
+    }
+
+    /**
+     * Re-signs a refresh token without its "sid" claim, the way tokens were issued before sessions existed.
+     */
+    private static String withoutSessionId(String refreshToken) {
+        Map<String, Object> claims = new HashMap<>(Jwts.parser().keyLocator(KEYS).build()
+                .parseSignedClaims(refreshToken).getPayload());
+        claims.remove(JwtConstants.SESSION_ID_CLAIM);
+        return KEYS.sign(Jwts.builder().claims(claims)).compact();
+    }
+}
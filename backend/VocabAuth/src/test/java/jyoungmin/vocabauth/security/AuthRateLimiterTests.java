@@ -0,0 +1,70 @@
+package jyoungmin.vocabauth.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jyoungmin.vocabauth.dao.RateLimitStore;
+import jyoungmin.vocabauth.exception.AuthException;
+import jyoungmin.vocabcommons.exception.ErrorCode;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AuthRateLimiterTests {
+
+    private final RateLimitStore store = mock(RateLimitStore.class);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void leasedTokensAreSpentWithoutCallingRedis() {
+        when(store.acquire(eq("general:user:alice"), eq(60), eq(Duration.ofSeconds(60)), anyInt()))
+                .thenReturn(new RateLimitStore.Acquisition(5, Duration.ZERO));
+        AuthRateLimiter limiter = limiter();
+
+        for (int i = 0; i < 5; i++) {
+            limiter.acquire(AuthRateLimiter.GENERAL, "Alice");
+        }
+
+        verify(store, times(1)).acquire("general:user:alice", 60, Duration.ofSeconds(60), 5);
+        assertThat(meterRegistry.counter("auth.rate.limit.requests",
+                "operation", "general", "scope", "user", "result", "allowed").count()).isEqualTo(5);
+    }
+
+    @Test
+    void exhaustedLimitIsRejected() {
+        when(store.acquire(eq("login:user:alice"), eq(5), eq(Duration.ofSeconds(60)), eq(1)))
+                .thenReturn(new RateLimitStore.Acquisition(0, Duration.ofSeconds(12)));
+        AuthRateLimiter limiter = limiter();
+
+        assertThatThrownBy(() -> limiter.acquire(AuthRateLimiter.LOGIN, "alice"))
+                .isInstanceOf(AuthException.class)
+                .extracting(e -> ((AuthException) e).getErrorCode())
+                .isEqualTo(ErrorCode.RATE_LIMIT_EXCEEDED);
+    }
+
+    @Test
+    void redisFailureAllowsTheRequest() {
+        when(store.acquire(eq("login:user:alice"), anyInt(), eq(Duration.ofSeconds(60)), anyInt()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+        AuthRateLimiter limiter = limiter();
+
+        limiter.acquire(AuthRateLimiter.LOGIN, "alice");
+
+        assertThat(meterRegistry.counter("auth.rate.limit.requests",
+                "operation", "login", "scope", "user", "result", "error").count()).isEqualTo(1);
+    }
+
+    private AuthRateLimiter limiter() {
+        return new AuthRateLimiter(true, Duration.ofSeconds(60), 5, 20, 3, 60, 120, 5, Duration.ofMinutes(1),
+                store, meterRegistry);
+    }
+}
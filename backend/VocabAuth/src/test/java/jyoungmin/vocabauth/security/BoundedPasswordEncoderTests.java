@@ -0,0 +1,88 @@
+package jyoungmin.vocabauth.security;
+
+import jyoungmin.vocabauth.exception.AuthException;
+import jyoungmin.vocabcommons.exception.ErrorCode;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoundedPasswordEncoderTests {
+
+    @Test
+    void hashesAndUpgradesWeakerHashes() {
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(5, Duration.ofMillis(250), 1, 4, Duration.ofSeconds(5));
+        try {
+            String hash = encoder.encode("password");
+
+            assertThat(encoder.matches("password", hash)).isTrue();
+            assertThat(encoder.matches("wrong", hash)).isFalse();
+            assertThat(encoder.upgradeEncoding(hash)).isFalse();
+            assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("password"))).isTrue();
+        } finally {
+            encoder.close();
+        }
+    }
+
+    @Test
+    void rejectsWhenTheQueueIsFull() throws Exception {
+        // One slow hash running and one queued; every further request must be rejected at once
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(14, Duration.ofMillis(250), 1, 1, Duration.ofSeconds(30));
+        ExecutorService callers = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                results.add(callers.submit(() -> encoder.encode("password")));
+            }
+
+            int rejected = 0;
+            for (Future<String> result : results) {
+                try {
+                    result.get(30, TimeUnit.SECONDS);
+                } catch (ExecutionException e) {
+                    assertThat(e.getCause()).isInstanceOf(AuthException.class);
+                    assertThat(((AuthException) e.getCause()).getErrorCode()).isEqualTo(ErrorCode.SERVER_BUSY);
+                    rejected++;
+                }
+            }
+            assertThat(rejected).isGreaterThanOrEqualTo(2);
+        } finally {
+            callers.shutdownNow();
+            encoder.close();
+        }
+    }
+
+    @Test
+    void bulkHashingWaitsForQueueSpace() throws Exception {
+        // The only thread and queue slot are taken by logins, which would reject a single hash at once
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(12, Duration.ofMillis(250), 1, 1, Duration.ofSeconds(30));
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            callers.submit(() -> encoder.encode("password"));
+            callers.submit(() -> encoder.encode("password"));
+
+            List<String> hashes = encoder.encodeAll(List.of("first", "second"));
+
+            assertThat(hashes).hasSize(2);
+            assertThat(encoder.matches("second", hashes.get(1))).isTrue();
+        } finally {
+            callers.shutdownNow();
+            encoder.close();
+        }
+    }
+
+    @Test
+    void calibrationStaysWithinBounds() {
+        assertThat(BoundedPasswordEncoder.calibrate(Duration.ZERO)).isEqualTo(10);
+        assertThat(BoundedPasswordEncoder.calibrate(Duration.ofDays(1))).isEqualTo(16);
+    }
+}
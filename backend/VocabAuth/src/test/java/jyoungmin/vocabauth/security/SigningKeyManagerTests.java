@@ -0,0 +1,165 @@
+package jyoungmin.vocabauth.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Jwk;
+import io.jsonwebtoken.security.JwkSet;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.SecurityException;
+import jyoungmin.vocabcommons.security.JwtKeys;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.PublicKey;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Signs and verifies tokens with key pairs written as PEM files, the way they are deployed.
+ */
+class SigningKeyManagerTests {
+
+    private static final String SECRET = "a-shared-secret-that-is-long-enough-for-hs256";
+
+    @TempDir
+    private Path keyDir;
+
+    @ParameterizedTest
+    @ValueSource(strings = {"RS256", "EdDSA"})
+    void signsWithTheActiveKeyAndVerifiesWithItsPublicKey(String algorithm) throws IOException {
+        writeKeyPair("2025-01", algorithm, true);
+        SigningKeyManager manager = new SigningKeyManager(SECRET, algorithm, keyDir.toString(), "2025-01", false);
+
+        Jws<Claims> token = parse(manager, sign(manager));
+
+        assertThat(token.getHeader().getKeyId()).isEqualTo("2025-01");
+        assertThat(token.getHeader().getAlgorithm()).isEqualTo(algorithm);
+        assertThat(token.getPayload().getSubject()).isEqualTo("alice");
+    }
+
+    @Test
+    void rotatedKeyKeepsAcceptingTokensOfThePreviousKey() throws IOException {
+        writeKeyPair("old", "RS256", true);
+        writeKeyPair("new", "RS256", true);
+        String oldToken = sign(new SigningKeyManager(SECRET, "RS256", keyDir.toString(), "old", false));
+
+        SigningKeyManager rotated = new SigningKeyManager(SECRET, "RS256", keyDir.toString(), "new", false);
+
+        assertThat(parse(rotated, oldToken).getHeader().getKeyId()).isEqualTo("old");
+        assertThat(parse(rotated, sign(rotated)).getHeader().getKeyId()).isEqualTo("new");
+    }
+
+    @Test
+    void removedKeyIsNoLongerAccepted() throws IOException {
+        writeKeyPair("old", "RS256", true);
+        writeKeyPair("new", "RS256", true);
+        String oldToken = sign(new SigningKeyManager(SECRET, "RS256", keyDir.toString(), "old", false));
+
+        Files.delete(keyDir.resolve("old.pub.pem"));
+        Files.delete(keyDir.resolve("old.key.pem"));
+        SigningKeyManager rotated = new SigningKeyManager(SECRET, "RS256", keyDir.toString(), "new", false);
+
+        assertThatThrownBy(() -> parse(rotated, oldToken)).isInstanceOf(SecurityException.class);
+    }
+
+    @Test
+    void jwksPublishesEveryPublicKeyWithoutPrivateParts() throws IOException {
+        writeKeyPair("old", "RS256", false);
+        writeKeyPair("new", "RS256", true);
+        SigningKeyManager manager = new SigningKeyManager(SECRET, "RS256", keyDir.toString(), "new", false);
+
+        String json = manager.getJwksJson();
+        JwkSet jwks = Jwks.setParser().build().parse(json);
+
+        assertThat(jwks.getKeys()).extracting(Jwk::getId).containsExactlyInAnyOrder("old", "new");
+        assertThat(jwks.getKeys()).allSatisfy(jwk -> {
+            assertThat(jwk.getAlgorithm()).isEqualTo("RS256");
+            assertThat(jwk.get("use")).isEqualTo("sig");
+            assertThat(jwk.toKey()).isInstanceOf(PublicKey.class);
+        });
+        assertThat(json).doesNotContain("\"d\"", "\"p\"", "\"q\"");
+    }
+
+    @Test
+    void hmacTokensWithoutKeyIdAreAcceptedDuringMigration() throws IOException {
+        writeKeyPair("2025-01", "EdDSA", true);
+        SigningKeyManager manager = new SigningKeyManager(SECRET, "EdDSA", keyDir.toString(), "2025-01", true);
+        SigningKeyManager hmac = new SigningKeyManager(SECRET, "HS256", "", "", false);
+
+        String hmacToken = sign(hmac);
+
+        assertThat(parse(hmac, hmacToken).getHeader().getKeyId()).isNull();
+        assertThat(parse(manager, hmacToken).getPayload().getSubject()).isEqualTo("alice");
+        assertThat(hmac.getJwksJson()).isEqualTo("{\"keys\":[]}");
+        assertThat(Jwts.parser().verifyWith(JwtKeys.hmacKey(SECRET)).build().parseSignedClaims(hmacToken)).isNotNull();
+    }
+
+    @Test
+    void hmacTokensWithoutKeyIdAreRejectedUnlessAccepted() throws IOException {
+        writeKeyPair("2025-01", "RS256", true);
+        SigningKeyManager manager = new SigningKeyManager("", "RS256", keyDir.toString(), "2025-01", false);
+
+        String hmacToken = sign(new SigningKeyManager(SECRET, "HS256", "", "", false));
+
+        assertThatThrownBy(() -> parse(manager, hmacToken)).isInstanceOf(SecurityException.class);
+    }
+
+    @Test
+    void unknownKeyIdIsRejected() throws IOException {
+        writeKeyPair("2025-01", "RS256", true);
+        SigningKeyManager manager = new SigningKeyManager(SECRET, "RS256", keyDir.toString(), "2025-01", false);
+        KeyPair foreign = Jwts.SIG.RS256.keyPair().build();
+
+        String token = Jwts.builder()
+                .header().keyId("foreign").and()
+                .subject("alice")
+                .signWith(foreign.getPrivate(), Jwts.SIG.RS256)
+                .compact();
+
+        assertThatThrownBy(() -> parse(manager, token)).isInstanceOf(SecurityException.class);
+    }
+
+    @Test
+    void activeKeyWithoutPrivateKeyFailsAtStartup() throws IOException {
+        writeKeyPair("2025-01", "RS256", false);
+
+        assertThatThrownBy(() -> new SigningKeyManager(SECRET, "RS256", keyDir.toString(), "2025-01", false))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static String sign(SigningKeyManager manager) {
+        return manager.sign(Jwts.builder().subject("alice")).compact();
+    }
+
+    private static Jws<Claims> parse(SigningKeyManager manager, String token) {
+        return Jwts.parser().keyLocator(manager).build().parseSignedClaims(token);
+    }
+
+    /**
+     * Writes a key pair as {@code <kid>.pub.pem} and, optionally, {@code <kid>.key.pem}.
+     */
+    private void writeKeyPair(String kid, String algorithm, boolean withPrivateKey) throws IOException {
+        KeyPair keyPair = "RS256".equals(algorithm)
+                ? Jwts.SIG.RS256.keyPair().build()
+                : Jwks.CRV.Ed25519.keyPair().build();
+        Files.writeString(keyDir.resolve(kid + ".pub.pem"), pem("PUBLIC KEY", keyPair.getPublic().getEncoded()));
+        if (withPrivateKey) {
+            Files.writeString(keyDir.resolve(kid + ".key.pem"), pem("PRIVATE KEY", keyPair.getPrivate().getEncoded()));
+        }
+    }
+
+    private static String pem(String type, byte[] der) {
+        String base64 = Base64.getMimeEncoder(64, "\n".getBytes(StandardCharsets.US_ASCII)).encodeToString(der);
+        return "-----BEGIN " + type + "-----\n" + base64 + "\n-----END " + type + "-----\n";
+    }
+}
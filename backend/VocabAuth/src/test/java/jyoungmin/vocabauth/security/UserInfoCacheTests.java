@@ -0,0 +1,80 @@
+package jyoungmin.vocabauth.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jyoungmin.vocabauth.config.LocalRedisServers;
+import jyoungmin.vocabauth.entity.User;
+import jyoungmin.vocabauth.repository.UserRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs two caches against one local redis-server process, as two VocabAuth instances would.
+ * Skipped when redis-server is not installed.
+ */
+class UserInfoCacheTests {
+
+    private static LocalRedisServers servers;
+
+    private static RedisTemplate<String, Object> template;
+
+    @BeforeAll
+    static void startServer() throws Exception {
+        assumeTrue(LocalRedisServers.installed(), "redis-server is not installed");
+
+        servers = new LocalRedisServers();
+        template = servers.template(servers.start());
+    }
+
+    @AfterAll
+    static void stopServer() {
+        if (servers != null) {
+            servers.close();
+        }
+    }
+
+    @Test
+    void invalidationOnOneInstanceEvictsTheUserOnAnother() throws InterruptedException {
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findByUserName("alice"))
+                .thenReturn(Optional.of(user("USER")))
+                .thenReturn(Optional.of(user("ADMIN")));
+
+        UserInfoCache changed = cache(userRepository);
+        UserInfoCache other = cache(userRepository);
+        try {
+            assertThat(other.get("alice").getRole()).isEqualTo("USER");
+
+            changed.invalidate("alice");
+
+            for (int i = 0; i < 250 && "USER".equals(other.get("alice").getRole()); i++) {
+                Thread.sleep(20);
+            }
+            assertThat(other.get("alice").getRole()).isEqualTo("ADMIN");
+        } finally {
+            changed.stop();
+            other.stop();
+        }
+    }
+
+    private static UserInfoCache cache(UserRepository userRepository) {
+        UserInfoCache cache = new UserInfoCache(userRepository, 100, Duration.ofMinutes(10), true,
+                template, template.getConnectionFactory(), new SimpleMeterRegistry());
+        cache.start();
+        return cache;
+    }
+
+    private static User user(String role) {
+        return User.builder().id(1L).userName("alice").name("Alice").email("alice@example.com")
+                .role(role).enabled(true).build();
+    }
+}
@@ -0,0 +1,67 @@
+package jyoungmin.vocabauth.service;
+
+import jyoungmin.vocabauth.dao.UsernameBloomFilter;
+import jyoungmin.vocabauth.exception.AuthException;
+import jyoungmin.vocabauth.repository.UserRepository;
+import jyoungmin.vocabauth.security.AuthRateLimiter;
+import jyoungmin.vocabauth.security.JwtTokenProvider;
+import jyoungmin.vocabauth.security.UserInfoCache;
+import jyoungmin.vocabcommons.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class AuthServiceTests {
+
+    private final AuthRateLimiter authRateLimiter = mock(AuthRateLimiter.class);
+
+    private AuthService authService;
+
+    @BeforeEach
+    void createService() {
+        authService = new AuthService(
+                mock(UserRepository.class),
+                mock(PasswordEncoder.class),
+                mock(AuthenticationManager.class),
+                mock(JwtTokenProvider.class),
+                mock(UserInfoCache.class),
+                mock(TokenRevocationService.class),
+                mock(UsernameBloomFilter.class),
+                authRateLimiter);
+        ReflectionTestUtils.setField(authService, "maxIntrospectionBatchSize", 100);
+        ReflectionTestUtils.setField(authService, "introspectionClientSecret", "internal-secret");
+    }
+
+    @Test
+    void introspectionRequiresTheInternalCredential() {
+        assertThatThrownBy(() -> authService.introspect(List.of("token"), null))
+                .isInstanceOf(AuthException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.UNAUTHORIZED_ACCESS);
+        assertThatThrownBy(() -> authService.introspect(List.of("token"), "wrong-secret"))
+                .isInstanceOf(AuthException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.UNAUTHORIZED_ACCESS);
+
+        assertThat(authService.introspect(List.of(), "internal-secret")).isEmpty();
+        verify(authRateLimiter, never()).acquire(any(), any());
+    }
+
+    @Test
+    void introspectionWithoutConfiguredCredentialIsRateLimitedPerIp() {
+        ReflectionTestUtils.setField(authService, "introspectionClientSecret", "");
+
+        authService.introspect(List.of(), null);
+
+        verify(authRateLimiter).acquire(AuthRateLimiter.GENERAL, null);
+    }
+}
@@ -0,0 +1,167 @@
+package jyoungmin.vocabauth.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import jyoungmin.vocabauth.dao.UsernameBloomFilter;
+import jyoungmin.vocabauth.dto.BulkRegisterResult;
+import jyoungmin.vocabauth.dto.BulkRegisterSummary;
+import jyoungmin.vocabauth.entity.User;
+import jyoungmin.vocabauth.exception.AuthException;
+import jyoungmin.vocabauth.repository.UserRepository;
+import jyoungmin.vocabauth.security.BoundedPasswordEncoder;
+import jyoungmin.vocabcommons.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserProvisioningServiceTests {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final BoundedPasswordEncoder passwordEncoder = mock(BoundedPasswordEncoder.class);
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final UsernameBloomFilter usernameBloomFilter = mock(UsernameBloomFilter.class);
+
+    /**
+     * Usernames of every batch passed to the JDBC template, in call order
+     */
+    private final List<List<String>> insertedBatches = new ArrayList<>();
+
+    private UserProvisioningService service;
+
+    @BeforeEach
+    void createService() {
+        service = new UserProvisioningService(
+                new ObjectMapper(),
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                userRepository,
+                passwordEncoder,
+                jdbcTemplate,
+                mock(PlatformTransactionManager.class),
+                usernameBloomFilter,
+                2,
+                100);
+
+        when(userRepository.findExistingUserNames(anyCollection())).thenReturn(List.of());
+        when(passwordEncoder.encodeAll(anyList())).thenAnswer(invocation ->
+                invocation.<List<String>>getArgument(0).stream().map(password -> "hash-" + password).toList());
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), anySetter()))
+                .thenAnswer(invocation -> {
+                    insertedBatches.add(usernames(invocation.getArgument(1)));
+                    return new int[0][];
+                });
+    }
+
+    @Test
+    void rowsAreCheckedHashedAndInsertedInChunks() throws IOException {
+        BulkRegisterSummary summary = service.register(ndjson("alice", "bob", "carol", "dave", "erin"));
+
+        assertThat(summary.getCreated()).isEqualTo(5);
+        assertThat(insertedBatches).containsExactly(List.of("alice", "bob"), List.of("carol", "dave"), List.of("erin"));
+        verify(userRepository, times(3)).findExistingUserNames(anyCollection());
+        verify(passwordEncoder, times(3)).encodeAll(anyList());
+        verify(usernameBloomFilter, times(5)).add(anyString());
+    }
+
+    @Test
+    void usernamesRepeatedInTheRequestAreRejected() throws IOException {
+        BulkRegisterSummary summary = service.register(ndjson("alice", "bob", "Alice"));
+
+        assertThat(summary.getResults())
+                .extracting(BulkRegisterResult::getLine, BulkRegisterResult::isCreated, BulkRegisterResult::getError)
+                .containsExactly(tuple(1, true, null), tuple(2, true, null), tuple(3, false, ErrorCode.USERNAME_ALREADY_EXISTS));
+    }
+
+    @Test
+    void existingUsernamesAreRejectedWithoutHashing() throws IOException {
+        when(userRepository.findExistingUserNames(anyCollection())).thenReturn(List.of("BOB"));
+
+        BulkRegisterSummary summary = service.register(ndjson("alice", "bob"));
+
+        assertThat(summary.getResults())
+                .extracting(BulkRegisterResult::getUserName, BulkRegisterResult::getError)
+                .containsExactly(tuple("alice", null), tuple("bob", ErrorCode.USERNAME_ALREADY_EXISTS));
+        verify(passwordEncoder).encodeAll(List.of("password-alice"));
+    }
+
+    @Test
+    void duplicateKeyInABatchIsResolvedRowByRow() throws IOException {
+        // A concurrent registration took "bob" between the duplicate check and the insert
+        doAnswer(invocation -> {
+            List<String> batch = usernames(invocation.getArgument(1));
+            insertedBatches.add(batch);
+            if (batch.contains("bob")) {
+                throw new DuplicateKeyException("Duplicate entry 'bob'");
+            }
+            return new int[0][];
+        }).when(jdbcTemplate).batchUpdate(anyString(), anyCollection(), anyInt(), anySetter());
+
+        BulkRegisterSummary summary = service.register(ndjson("alice", "bob"));
+
+        assertThat(insertedBatches).containsExactly(List.of("alice", "bob"), List.of("alice"), List.of("bob"));
+        assertThat(summary.getResults())
+                .extracting(BulkRegisterResult::getUserName, BulkRegisterResult::getError)
+                .containsExactly(tuple("alice", null), tuple("bob", ErrorCode.USERNAME_ALREADY_EXISTS));
+    }
+
+    @Test
+    void saturatedHashingRejectsOnlyTheAffectedChunk() throws IOException {
+        when(passwordEncoder.encodeAll(anyList()))
+                .thenAnswer(invocation -> invocation.<List<String>>getArgument(0).stream().map(password -> "hash").toList())
+                .thenThrow(new AuthException(ErrorCode.SERVER_BUSY, "Password hashing queue stayed full"))
+                .thenAnswer(invocation -> invocation.<List<String>>getArgument(0).stream().map(password -> "hash").toList());
+
+        BulkRegisterSummary summary = service.register(ndjson("alice", "bob", "carol", "dave", "erin"));
+
+        assertThat(summary.getCreated()).isEqualTo(3);
+        assertThat(summary.getResults())
+                .filteredOn(result -> !result.isCreated())
+                .extracting(BulkRegisterResult::getUserName, BulkRegisterResult::getError)
+                .containsExactly(tuple("carol", ErrorCode.SERVER_BUSY), tuple("dave", ErrorCode.SERVER_BUSY));
+        assertThat(insertedBatches).containsExactly(List.of("alice", "bob"), List.of("erin"));
+    }
+
+    private static ParameterizedPreparedStatementSetter<Object> anySetter() {
+        return any();
+    }
+
+    private static ByteArrayInputStream ndjson(String... usernames) {
+        String body = IntStream.range(0, usernames.length)
+                .mapToObj(i -> "{\"userName\":\"" + usernames[i] + "\",\"name\":\"User " + i + "\","
+                        + "\"email\":\"user" + i + "@example.com\",\"password\":\"password-" + usernames[i].toLowerCase() + "\"}")
+                .collect(Collectors.joining("\n"));
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<String> usernames(Collection<?> pendingUsers) {
+        // PendingUser is private to the service
+        return pendingUsers.stream()
+                .map(pending -> ReflectionTestUtils.<User>invokeMethod(pending, "user").getUserName())
+                .toList();
+    }
+}
@@ -0,0 +1,56 @@
+package jyoungmin.vocabcommons.constants;
+
+/**
+ * Constants shared by the services that issue and verify JWT tokens.
+ */
+public class JwtConstants {
+
+    /**
+     * Claim holding the comma-separated authorities of the subject
+     */
+    public static final String AUTHORITIES_CLAIM = "auth";
+
+    /**
+     * Claim holding the numeric user ID of the subject
+     */
+    public static final String USER_ID_CLAIM = "uid";
+
+    /**
+     * Claim holding the role of the subject without the "ROLE_" prefix
+     */
+    public static final String ROLE_CLAIM = "rol";
+
+    /**
+     * Claim holding whether the subject's account is enabled
+     */
+    public static final String ENABLED_CLAIM = "ena";
+
+    /**
+     * Claim holding the login session a token belongs to
+     */
+    public static final String SESSION_ID_CLAIM = "sid";
+
+    /**
+     * Prefix Spring Security adds to role names in granted authorities
+     */
+    public static final String ROLE_PREFIX = "ROLE_";
+
+    /**
+     * Header carrying the shared credential of services allowed to introspect tokens
+     */
+    public static final String INTROSPECTION_CREDENTIAL_HEADER = "X-Introspection-Credential";
+
+    /**
+     * Header carrying the caller's identity, signed by the gateway, on internal requests
+     */
+    public static final String INTERNAL_IDENTITY_HEADER = "X-Internal-Identity";
+
+    /**
+     * Audience of internal identity tokens, so they cannot be used as access tokens
+     */
+    public static final String INTERNAL_AUDIENCE = "vocab-internal";
+
+    private JwtConstants() {
+        // Utility class - prevent instantiation
+    }
+}
@@ -0,0 +1,24 @@
+package jyoungmin.vocabcommons.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Request body for introspecting several access tokens in one call.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class IntrospectionRequest {
+    /**
+     * Access tokens to introspect, without the "Bearer " prefix
+     */
+    @NotEmpty(message = "At least one token is required")
+    private List<String> tokens;
+}
@@ -0,0 +1,58 @@
+package jyoungmin.vocabcommons.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import jyoungmin.vocabcommons.exception.ErrorCode;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of introspecting a single access token.
+ * Holds either the token owner's information or the error the token was rejected with.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class IntrospectionResult {
+    /**
+     * Information of the token owner, if the token is valid
+     */
+    private UserInfo user;
+
+    /**
+     * Reason the token was rejected, if it is not valid
+     */
+    private ErrorCode error;
+
+    /**
+     * Creates the result for a valid token.
+     *
+     * @param user information of the token owner
+     * @return successful result
+     */
+    public static IntrospectionResult active(UserInfo user) {
+        return new IntrospectionResult(user, null);
+    }
+
+    /**
+     * Creates the result for a rejected token.
+     *
+     * @param error reason the token was rejected
+     * @return failed result
+     */
+    public static IntrospectionResult rejected(ErrorCode error) {
+        return new IntrospectionResult(null, error);
+    }
+
+    /**
+     * Checks whether the token was valid.
+     *
+     * @return true if the result holds user information
+     */
+    @JsonIgnore
+    public boolean isActive() {
+        return user != null;
+    }
+}
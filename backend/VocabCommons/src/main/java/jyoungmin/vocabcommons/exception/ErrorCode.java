@@ -19,6 +19,7 @@ public enum ErrorCode {
     REFRESH_TOKEN_NOT_FOUND(HttpStatus.UNAUTHORIZED, "AUTH_4013", "Refresh token not found"),
     REFRESH_TOKEN_INVALID(HttpStatus.UNAUTHORIZED, "AUTH_4014", "Invalid or expired refresh token"),
     AUTHENTICATION_REQUIRED(HttpStatus.UNAUTHORIZED, "AUTH_4015", "Authentication is required to access this resource"),
+    TOKEN_REVOKED(HttpStatus.UNAUTHORIZED, "AUTH_4016", "Token has been revoked"),
 
     // ========== Authorization Errors (4030-4039) ==========
     UNAUTHORIZED_ACCESS(HttpStatus.FORBIDDEN, "AUTH_4030", "You do not have permission to access this resource"),
@@ -53,7 +54,8 @@ public enum ErrorCode {
     // ========== Internal Server Errors (5000-5019) ==========
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "SYS_5000", "An unexpected error occurred"),
     DATABASE_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "SYS_5001", "Database operation failed"),
-    REDIS_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "SYS_5002", "Redis operation failed");
+    REDIS_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "SYS_5002", "Redis operation failed"),
+    SERVER_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "SYS_5003", "Server is busy. Please try again later");
 
     /**
      * HTTP status code to be returned
@@ -9,10 +9,10 @@ import jakarta.servlet.http.HttpServletResponse;
 import jyoungmin.vocabcommons.constants.LoggingConstants;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
-import org.springframework.web.util.ContentCachingResponseWrapper;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
@@ -25,6 +25,8 @@ import java.util.UUID;
  * Filter for logging HTTP requests and responses with correlation ID tracking.
  * Generates or propagates correlation IDs, logs request/response details, and masks sensitive data.
  * Runs with the highest precedence to ensure all requests are logged.
+ * The gateway sets {@code correlation-id.accept-incoming} to false so that every request entering the system
+ * gets a fresh ID instead of one chosen by the client; the services behind it keep the ID they receive.
  */
 @Slf4j
 @Component
@@ -48,6 +50,12 @@ public class LoggingFilter implements Filter {
      */
     private final ObjectMapper objectMapper = new ObjectMapper();
 
+    /**
+     * Whether an incoming correlation ID header is reused instead of generating a new ID
+     */
+    @Value("${correlation-id.accept-incoming:true}")
+    private boolean acceptIncomingCorrelationId;
+
     /**
      * Filters requests and responses to log details with correlation ID.
      * Wraps request/response for body capture and ensures MDC cleanup.
@@ -66,7 +74,9 @@ public class LoggingFilter implements Filter {
         HttpServletResponse httpResponse = (HttpServletResponse) response;
 
         // Generate or extract correlation ID
-        String correlationId = httpRequest.getHeader(LoggingConstants.CORRELATION_ID_HEADER);
+        String correlationId = acceptIncomingCorrelationId
+                ? httpRequest.getHeader(LoggingConstants.CORRELATION_ID_HEADER)
+                : null;
         if (correlationId == null || correlationId.isEmpty()) {
             correlationId = UUID.randomUUID().toString();
         }
@@ -79,7 +89,8 @@ public class LoggingFilter implements Filter {
 
         // Use custom CachedBodyHttpServletRequest to ensure body is readable multiple times
         CachedBodyHttpServletRequest cachedBodyRequest = new CachedBodyHttpServletRequest(httpRequest);
-        ContentCachingResponseWrapper wrappedResponse = new ContentCachingResponseWrapper(httpResponse);
+        // Streaming responses (e.g. NDJSON exports) bypass the cache and are not logged with their body
+        StreamingAwareResponseWrapper wrappedResponse = new StreamingAwareResponseWrapper(httpResponse);
 
         long startTime = System.currentTimeMillis();
 
@@ -138,7 +149,7 @@ public class LoggingFilter implements Filter {
      * @param correlationId the correlation ID for this request
      */
     private void logResponse(CachedBodyHttpServletRequest request,
-                             ContentCachingResponseWrapper response,
+                             StreamingAwareResponseWrapper response,
                              long startTime,
                              String correlationId) {
         long duration = System.currentTimeMillis() - startTime;
@@ -165,9 +176,12 @@ public class LoggingFilter implements Filter {
      * Limits body size to MAX_BODY_LENGTH and masks sensitive fields.
      *
      * @param response the wrapped response
-     * @return masked response body or null if empty/error
+     * @return masked response body, a placeholder for streamed bodies, or null if empty/error
      */
-    private String getResponseBody(ContentCachingResponseWrapper response) {
+    private String getResponseBody(StreamingAwareResponseWrapper response) {
+        if (response.isStreaming()) {
+            return "(streamed)";
+        }
         try {
             byte[] content = response.getContentAsByteArray();
             if (content.length == 0) {
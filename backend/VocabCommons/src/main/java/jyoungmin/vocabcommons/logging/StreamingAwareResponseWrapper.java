@@ -0,0 +1,86 @@
+package jyoungmin.vocabcommons.logging;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.List;
+
+/**
+ * {@link ContentCachingResponseWrapper} that does not cache streaming responses.
+ * Once a streaming content type (NDJSON, server-sent events) is set, the body is written and flushed
+ * straight to the client, so exports of any size run in constant memory. Other responses are cached for logging.
+ */
+public class StreamingAwareResponseWrapper extends ContentCachingResponseWrapper {
+
+    /**
+     * Content types written through without caching
+     */
+    private static final List<MediaType> STREAMING_TYPES = List.of(MediaType.APPLICATION_NDJSON, MediaType.TEXT_EVENT_STREAM);
+
+    /**
+     * Whether the body bypasses the cache; fixed once the body is first accessed as a stream
+     */
+    private boolean streaming;
+
+    /**
+     * Wraps a response.
+     *
+     * @param response the original response
+     */
+    public StreamingAwareResponseWrapper(HttpServletResponse response) {
+        super(response);
+    }
+
+    /**
+     * Returns the client's output stream for streaming responses, the caching stream otherwise.
+     *
+     * @return output stream for the body
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        return isStreaming() ? getResponse().getOutputStream() : super.getOutputStream();
+    }
+
+    /**
+     * Returns the client's writer for streaming responses, the caching writer otherwise.
+     *
+     * @return writer for the body
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        return isStreaming() ? getResponse().getWriter() : super.getWriter();
+    }
+
+    /**
+     * Flushes streaming responses to the client; cached responses are only sent when copied.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void flushBuffer() throws IOException {
+        if (streaming) {
+            getResponse().flushBuffer();
+        } else {
+            super.flushBuffer();
+        }
+    }
+
+    /**
+     * Checks whether the body is streamed to the client instead of cached.
+     *
+     * @return true for streaming content types
+     */
+    public boolean isStreaming() {
+        if (!streaming && getContentType() != null) {
+            MediaType contentType = MediaType.parseMediaType(getContentType());
+            streaming = STREAMING_TYPES.stream().anyMatch(type -> type.includes(contentType));
+        }
+        return streaming;
+    }
+}
@@ -0,0 +1,59 @@
+package jyoungmin.vocabcommons.ratelimit;
+
+import jyoungmin.vocabcommons.dto.UserInfo;
+import jyoungmin.vocabcommons.security.SecurityContextUtils;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+/**
+ * Applies {@link UserRateLimited} limits to the current user.
+ * Users are identified by their ID when the principal is a {@link UserInfo}, otherwise by name;
+ * unauthenticated calls are not limited here.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class UserRateLimitAspect {
+
+    /**
+     * Limiter holding the per-user buckets
+     */
+    private final UserRateLimiter userRateLimiter;
+
+    /**
+     * Takes the configured cost from the current user's bucket before the method runs.
+     *
+     * @param joinPoint       the limited method call
+     * @param userRateLimited the limit of the method
+     * @return the method result
+     * @throws Throwable whatever the method throws, or a rate limit exception
+     */
+    @Around("@annotation(userRateLimited)")
+    public Object limit(ProceedingJoinPoint joinPoint, UserRateLimited userRateLimited) throws Throwable {
+        Object userKey = currentUserKey();
+        if (userKey != null) {
+            userRateLimiter.acquire(userRateLimited.name(), userKey, userRateLimited.cost());
+        }
+        return joinPoint.proceed();
+    }
+
+    /**
+     * Returns the key identifying the current user.
+     *
+     * @return user ID, username, or null if unauthenticated
+     */
+    private static Object currentUserKey() {
+        if (!SecurityContextUtils.isAuthenticated()) {
+            return null;
+        }
+        Authentication authentication = SecurityContextUtils.getCurrentAuthentication();
+        if (authentication.getPrincipal() instanceof UserInfo userInfo && userInfo.getId() != null) {
+            return userInfo.getId();
+        }
+        return authentication.getName();
+    }
+}
@@ -0,0 +1,31 @@
+package jyoungmin.vocabcommons.ratelimit;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Limits how often each authenticated user may call the annotated method.
+ * The limit is configured under "user-rate-limit.instances.&lt;name&gt;" and applied by {@link UserRateLimitAspect}.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface UserRateLimited {
+
+    /**
+     * Name of the limit, e.g. "word-create".
+     *
+     * @return limit name
+     */
+    String name();
+
+    /**
+     * Number of tokens one call consumes; expensive operations may cost more than one.
+     *
+     * @return tokens per call
+     */
+    int cost() default 1;
+}
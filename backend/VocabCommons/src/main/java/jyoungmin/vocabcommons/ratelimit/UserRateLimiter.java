@@ -0,0 +1,177 @@
+package jyoungmin.vocabcommons.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jyoungmin.vocabcommons.exception.BaseServiceException;
+import jyoungmin.vocabcommons.exception.ErrorCode;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * In-memory rate limiter with one token bucket per user and limit name.
+ * Buckets follow the generic cell rate algorithm (GCRA): each stores only its "theoretical arrival time",
+ * advanced with a compare-and-set, so checks never take a lock. Buckets live in a bounded map that drops
+ * users idle for longer than the idle timeout (and the least recently used ones beyond the maximum size);
+ * a dropped bucket is simply full again when the user returns.
+ *
+ * <p>Limits are read from "user-rate-limit.instances.&lt;name&gt;.limit-for-period" and
+ * "...limit-refresh-period" the first time a name is used.</p>
+ */
+@Component
+public class UserRateLimiter {
+
+    /**
+     * Prefix of the limit configuration keys
+     */
+    private static final String PROPERTY_PREFIX = "user-rate-limit.instances.";
+
+    /**
+     * Whether limits are enforced
+     */
+    private final boolean enabled;
+
+    /**
+     * Environment the limits are read from
+     */
+    private final Environment environment;
+
+    /**
+     * Clock in nanoseconds
+     */
+    private final LongSupplier nanoClock;
+
+    /**
+     * Limits by name, resolved on first use
+     */
+    private final Map<String, Limit> limits = new ConcurrentHashMap<>();
+
+    /**
+     * Buckets by limit name and user
+     */
+    private final Cache<BucketKey, AtomicLong> buckets;
+
+    /**
+     * Creates the limiter.
+     *
+     * @param enabled     whether limits are enforced
+     * @param maxUsers    maximum number of buckets kept
+     * @param idleTimeout how long an unused bucket is kept
+     * @param environment environment the limits are read from
+     */
+    @Autowired
+    public UserRateLimiter(@Value("${user-rate-limit.enabled:true}") boolean enabled,
+                           @Value("${user-rate-limit.max-buckets:200000}") long maxUsers,
+                           @Value("${user-rate-limit.idle-timeout:10m}") Duration idleTimeout,
+                           Environment environment) {
+        this(enabled, maxUsers, idleTimeout, environment, System::nanoTime);
+    }
+
+    /**
+     * Creates the limiter with a custom clock.
+     *
+     * @param enabled     whether limits are enforced
+     * @param maxUsers    maximum number of buckets kept
+     * @param idleTimeout how long an unused bucket is kept
+     * @param environment environment the limits are read from
+     * @param nanoClock   clock in nanoseconds
+     */
+    UserRateLimiter(boolean enabled, long maxUsers, Duration idleTimeout, Environment environment, LongSupplier nanoClock) {
+        this.enabled = enabled;
+        this.environment = environment;
+        this.nanoClock = nanoClock;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterAccess(idleTimeout)
+                .build();
+    }
+
+    /**
+     * Takes tokens from a user's bucket.
+     *
+     * @param name    the limit name, e.g. "word-create"
+     * @param userKey the user, typically the user ID
+     * @param cost    the number of tokens the call consumes
+     * @throws BaseServiceException if the bucket does not hold enough tokens
+     * @throws IllegalStateException if no limit is configured under the name
+     */
+    public void acquire(String name, Object userKey, int cost) {
+        if (!enabled) {
+            return;
+        }
+        Limit limit = limits.computeIfAbsent(name, this::resolveLimit);
+        AtomicLong bucket = buckets.get(new BucketKey(name, userKey), key -> new AtomicLong(Long.MIN_VALUE));
+        long increment = limit.interval() * Math.max(1, cost);
+
+        while (true) {
+            long now = nanoClock.getAsLong();
+            long current = bucket.get();
+            long tat = current == Long.MIN_VALUE || current - now < 0 ? now : current;
+            long next = tat + increment;
+            if (next - now > limit.window()) {
+                long retryNanos = next - now - limit.window();
+                throw new BaseServiceException(
+                        ErrorCode.RATE_LIMIT_EXCEEDED,
+                        "Too many " + name + " requests. Retry in " + Math.max(1, Duration.ofNanos(retryNanos).toSeconds()) + "s"
+                );
+            }
+            if (bucket.compareAndSet(current, next)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of buckets currently kept, after applying pending evictions.
+     *
+     * @return estimated number of buckets
+     */
+    public long bucketCount() {
+        buckets.cleanUp();
+        return buckets.estimatedSize();
+    }
+
+    /**
+     * Reads a limit from the environment.
+     *
+     * @param name the limit name
+     * @return the limit
+     * @throws IllegalStateException if the limit is not configured
+     */
+    private Limit resolveLimit(String name) {
+        Integer perPeriod = environment.getProperty(PROPERTY_PREFIX + name + ".limit-for-period", Integer.class);
+        String refreshPeriod = environment.getProperty(PROPERTY_PREFIX + name + ".limit-refresh-period");
+        if (perPeriod == null || refreshPeriod == null || perPeriod <= 0) {
+            throw new IllegalStateException("No user rate limit configured for '" + name + "'");
+        }
+        Duration period = DurationStyle.detectAndParse(refreshPeriod);
+        long interval = Math.max(1, period.toNanos() / perPeriod);
+        return new Limit(interval, interval * perPeriod);
+    }
+
+    /**
+     * A limit as GCRA parameters.
+     *
+     * @param interval nanoseconds per token
+     * @param window   how far the arrival time may run ahead of now, i.e. the bucket capacity in nanoseconds
+     */
+    private record Limit(long interval, long window) {
+    }
+
+    /**
+     * Key of a bucket.
+     *
+     * @param name    the limit name
+     * @param userKey the user
+     */
+    private record BucketKey(String name, Object userKey) {
+    }
+}
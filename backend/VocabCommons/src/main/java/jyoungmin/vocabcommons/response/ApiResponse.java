@@ -3,6 +3,7 @@ package jyoungmin.vocabcommons.response;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 import org.slf4j.MDC;
 import org.springframework.http.HttpStatus;
 
@@ -12,9 +13,11 @@ import java.time.LocalDateTime;
  * Standardized API response wrapper for successful operations.
  * Includes correlation ID, timestamp, status code, message, and optional data.
  * Excludes null fields from JSON serialization.
+ * Deserializable through its builder, so Feign clients can read responses of other services.
  */
 @Getter
 @Builder
+@Jacksonized
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class ApiResponse<T> {
 
@@ -56,11 +59,15 @@ public class ApiResponse<T> {
         // Auth
         public static final String LOGIN_SUCCESS = "Login successful";
         public static final String LOGOUT_SUCCESS = "Logout successful";
+        public static final String LOGOUT_ALL_SUCCESS = "Logged out of all sessions successfully";
         public static final String REGISTER_SUCCESS = "User registered successfully";
+        public static final String BULK_REGISTER_COMPLETED = "Bulk registration completed";
         public static final String TOKEN_REFRESHED = "Token refreshed successfully";
+        public static final String TOKENS_INTROSPECTED = "Tokens introspected successfully";
 
         // Word
         public static final String WORD_CREATED = "Word created successfully";
+        public static final String WORDS_CREATED = "Words created successfully";
         public static final String WORD_UPDATED = "Word updated successfully";
         public static final String WORD_DELETED = "Word deleted successfully";
         public static final String WORDS_RETRIEVED = "Words retrieved successfully";
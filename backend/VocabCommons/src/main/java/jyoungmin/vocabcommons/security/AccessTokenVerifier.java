@@ -0,0 +1,101 @@
+package jyoungmin.vocabcommons.security;
+
+import io.jsonwebtoken.Claims;
+import jyoungmin.vocabcommons.dto.UserInfo;
+import jyoungmin.vocabcommons.exception.BaseServiceException;
+import jyoungmin.vocabcommons.exception.ErrorCode;
+import lombok.Getter;
+import org.springframework.util.StringUtils;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Optional;
+
+/**
+ * Verifies access tokens in-process using the public keys published by the authentication service
+ * (when a JWKS URI is set) or the secret shared with it, and checks the revocation deny-list.
+ * Shared by the services and the gateway, which only differ in what they do with tokens that verify
+ * but lack the identity claims.
+ */
+public class AccessTokenVerifier implements AutoCloseable {
+
+    /**
+     * Shared verifier
+     */
+    private final JwtTokenVerifier verifier;
+
+    /**
+     * Key locator backed by the auth service JWKS, or null when verifying with the shared secret
+     */
+    private final JwksKeyLocator jwksKeyLocator;
+
+    /**
+     * Local replica of the token revocation deny-list
+     */
+    private final TokenRevocationReplica revocationReplica;
+
+    /**
+     * Key source for startup logs: the JWKS URI or "shared secret"
+     */
+    @Getter
+    private final String keySource;
+
+    /**
+     * Creates the verifier from the configured key source.
+     *
+     * @param secret            the secret shared with VocabAuth (optional when a JWKS URI is set)
+     * @param jwksUri           JWKS endpoint of VocabAuth, or empty to verify with the shared secret
+     * @param refreshInterval   interval between background JWKS refreshes
+     * @param acceptHmac        whether tokens without a "kid" header are verified with the secret when a JWKS
+     *                          URI is set, while migrating from HS256
+     * @param revocationReplica local replica of the token revocation deny-list
+     * @throws IllegalStateException if neither a secret nor a JWKS URI is set
+     */
+    public AccessTokenVerifier(String secret, String jwksUri, Duration refreshInterval, boolean acceptHmac,
+                               TokenRevocationReplica revocationReplica) {
+        this.revocationReplica = revocationReplica;
+        this.keySource = StringUtils.hasText(jwksUri) ? jwksUri : "shared secret";
+
+        if (StringUtils.hasText(jwksUri)) {
+            // Tokens without a "kid" header are HS256 tokens, only accepted while migrating away from them
+            this.jwksKeyLocator = new JwksKeyLocator(URI.create(jwksUri), refreshInterval,
+                    acceptHmac && StringUtils.hasText(secret) ? JwtKeys.hmacKey(secret) : null);
+            this.verifier = new JwtTokenVerifier(jwksKeyLocator);
+        } else if (StringUtils.hasText(secret)) {
+            this.jwksKeyLocator = null;
+            this.verifier = new JwtTokenVerifier(JwtKeys.hmacKey(secret));
+        } else {
+            throw new IllegalStateException("jwt.secret or jwt.jwks-uri must be set to verify tokens locally");
+        }
+    }
+
+    /**
+     * Stops the background JWKS refresh.
+     */
+    @Override
+    public void close() {
+        if (jwksKeyLocator != null) {
+            jwksKeyLocator.close();
+        }
+    }
+
+    /**
+     * Verifies the token signature, expiry and revocation and builds user information from its claims.
+     *
+     * @param token the JWT access token (without "Bearer " prefix)
+     * @return user information, or empty if the token lacks the identity claims
+     * @throws BaseServiceException if the token is expired, invalid, or revoked
+     */
+    public Optional<UserInfo> verify(String token) {
+        Claims claims = verifier.verify(token);
+
+        Date issuedAt = claims.getIssuedAt();
+        if (revocationReplica.isRevoked(claims.getId(), claims.getSubject(),
+                issuedAt != null ? issuedAt.toInstant() : null)) {
+            throw new BaseServiceException(ErrorCode.TOKEN_REVOKED, "Token has been revoked");
+        }
+
+        return UserInfoClaims.toUserInfo(claims);
+    }
+}
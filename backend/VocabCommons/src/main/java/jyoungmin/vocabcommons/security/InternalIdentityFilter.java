@@ -0,0 +1,97 @@
+package jyoungmin.vocabcommons.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jyoungmin.vocabcommons.constants.JwtConstants;
+import jyoungmin.vocabcommons.dto.UserInfo;
+import jyoungmin.vocabcommons.exception.BaseServiceException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collections;
+
+/**
+ * Authenticates requests forwarded by the gateway from the signed internal identity header.
+ * Only active when "internal-identity.trusted" is set, i.e. in services that sit behind the gateway;
+ * requests without the header are left to the service's own token filter.
+ */
+@Slf4j
+@Component
+public class InternalIdentityFilter extends OncePerRequestFilter {
+
+    /**
+     * Verifier of internal identity tokens, or null when the header is not trusted
+     */
+    private final InternalIdentityToken internalIdentityToken;
+
+    /**
+     * Creates the filter.
+     *
+     * @param trusted whether the internal identity header is trusted
+     * @param secret  the secret shared with the gateway
+     * @param ttl     lifetime of internal identity tokens
+     * @throws IllegalStateException if the header is trusted but no secret is set
+     */
+    public InternalIdentityFilter(@Value("${internal-identity.trusted:false}") boolean trusted,
+                                  @Value("${internal-identity.secret:}") String secret,
+                                  @Value("${internal-identity.ttl:30s}") Duration ttl) {
+        if (trusted && !StringUtils.hasText(secret)) {
+            throw new IllegalStateException("internal-identity.secret must be set when internal-identity.trusted is true");
+        }
+        this.internalIdentityToken = trusted ? new InternalIdentityToken(secret, ttl) : null;
+    }
+
+    /**
+     * Whether the internal identity header is trusted.
+     *
+     * @return true if forwarded identities are accepted
+     */
+    public boolean isEnabled() {
+        return internalIdentityToken != null;
+    }
+
+    /**
+     * Establishes the security context from the internal identity header, if present.
+     *
+     * @param request     the HTTP request
+     * @param response    the HTTP response
+     * @param filterChain the filter chain to continue processing
+     * @throws ServletException if a servlet error occurs
+     * @throws IOException      if an I/O error occurs
+     */
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String header = request.getHeader(JwtConstants.INTERNAL_IDENTITY_HEADER);
+
+        if (internalIdentityToken != null && StringUtils.hasText(header)) {
+            try {
+                UserInfo userInfo = internalIdentityToken.verify(header);
+                SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                        userInfo,
+                        null,
+                        Collections.singletonList(new SimpleGrantedAuthority(userInfo.getRole()))
+                ));
+                JwtFilterUtils.addUserToMDC(userInfo.getUserName());
+            } catch (BaseServiceException e) {
+                log.warn("Rejected internal identity: {}", e.getMessage());
+                SecurityContextHolder.clearContext();
+                JwtFilterUtils.sendErrorResponse(response, e.getErrorCode(), request.getRequestURI());
+                return;
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+}
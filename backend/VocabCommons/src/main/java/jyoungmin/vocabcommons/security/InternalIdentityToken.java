@@ -0,0 +1,86 @@
+package jyoungmin.vocabcommons.security;
+
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import jyoungmin.vocabcommons.constants.JwtConstants;
+import jyoungmin.vocabcommons.dto.UserInfo;
+import jyoungmin.vocabcommons.exception.BaseServiceException;
+import jyoungmin.vocabcommons.exception.ErrorCode;
+
+import javax.crypto.SecretKey;
+import java.time.Duration;
+import java.util.Date;
+
+/**
+ * Signs and verifies the short-lived identity tokens the gateway attaches to internal requests.
+ * The gateway verifies the caller's access token once and forwards the resulting {@link UserInfo}
+ * in {@link JwtConstants#INTERNAL_IDENTITY_HEADER}; services holding the internal secret trust it
+ * without verifying the access token or calling the authentication service again.
+ *
+ * <p>Internal tokens use their own secret and audience, so neither kind of token can stand in for the other.</p>
+ */
+public class InternalIdentityToken {
+
+    /**
+     * Key signing and verifying internal tokens
+     */
+    private final SecretKey key;
+
+    /**
+     * Lifetime of signed tokens
+     */
+    private final Duration ttl;
+
+    /**
+     * Parser requiring the internal audience
+     */
+    private final JwtParser parser;
+
+    /**
+     * Creates a signer and verifier for the given internal secret.
+     *
+     * @param secret the secret shared by the gateway and the services behind it
+     * @param ttl    lifetime of signed tokens
+     */
+    public InternalIdentityToken(String secret, Duration ttl) {
+        this.key = JwtKeys.hmacKey(secret);
+        this.ttl = ttl;
+        this.parser = Jwts.parser()
+                .verifyWith(key)
+                .requireAudience(JwtConstants.INTERNAL_AUDIENCE)
+                .build();
+    }
+
+    /**
+     * Signs an identity token for a verified user.
+     *
+     * @param user the user verified by the gateway
+     * @return compact token for the internal identity header
+     */
+    public String sign(UserInfo user) {
+        long now = System.currentTimeMillis();
+        return UserInfoClaims.apply(Jwts.builder(), user)
+                .audience().add(JwtConstants.INTERNAL_AUDIENCE).and()
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + ttl.toMillis()))
+                .signWith(key)
+                .compact();
+    }
+
+    /**
+     * Verifies an identity token and returns the user it carries.
+     *
+     * @param token the internal identity header value
+     * @return the user verified by the gateway
+     * @throws BaseServiceException if the token is expired, forged, or lacks the user claims
+     */
+    public UserInfo verify(String token) {
+        try {
+            return UserInfoClaims.toUserInfo(parser.parseSignedClaims(token).getPayload())
+                    .orElseThrow(() -> new BaseServiceException(ErrorCode.INVALID_TOKEN, "Internal identity lacks user claims"));
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new BaseServiceException(ErrorCode.INVALID_TOKEN, "Invalid internal identity: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package jyoungmin.vocabcommons.security;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.security.Jwk;
+import io.jsonwebtoken.security.JwkSet;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.SecurityException;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.crypto.SecretKey;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.security.Key;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Locates token verification keys from a remote JSON Web Key Set (JWKS).
+ * Keys are cached by key ID and refreshed in the background; a token signed with an unknown
+ * key ID triggers an immediate (rate-limited) refresh so that newly rotated keys are picked up.
+ * Tokens without a "kid" header are verified with the optional HMAC fallback key.
+ */
+@Slf4j
+public class JwksKeyLocator extends LocatorAdapter<Key> implements AutoCloseable {
+
+    /**
+     * Default minimum time between two refreshes triggered by unknown key IDs
+     */
+    private static final Duration MIN_ON_DEMAND_REFRESH_INTERVAL = Duration.ofSeconds(30);
+
+    /**
+     * Timeout for fetching the JWKS document
+     */
+    private static final Duration FETCH_TIMEOUT = Duration.ofSeconds(5);
+
+    /**
+     * Location of the JWKS document
+     */
+    private final URI jwksUri;
+
+    /**
+     * Key used for tokens without a "kid" header, or null to reject them
+     */
+    private final SecretKey hmacFallbackKey;
+
+    /**
+     * Client used for fetching the JWKS document
+     */
+    private final HttpClient httpClient;
+
+    /**
+     * Minimum time between two refreshes triggered by unknown key IDs
+     */
+    private final Duration minOnDemandRefreshInterval;
+
+    /**
+     * Executor running the periodic background refresh
+     */
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * Current verification keys by key ID, replaced as a whole on every refresh
+     */
+    private volatile Map<String, Key> keys = Map.of();
+
+    /**
+     * Time of the last refresh attempt in nanoseconds
+     */
+    private volatile long lastRefreshNanos;
+
+    /**
+     * Creates the locator, loads the key set once and schedules periodic refreshes.
+     * A failed initial load is logged and retried on the next refresh.
+     *
+     * @param jwksUri         location of the JWKS document
+     * @param refreshInterval interval between background refreshes
+     * @param hmacFallbackKey key for tokens without a "kid" header, or null to reject them
+     */
+    public JwksKeyLocator(URI jwksUri, Duration refreshInterval, SecretKey hmacFallbackKey) {
+        this(jwksUri, refreshInterval, MIN_ON_DEMAND_REFRESH_INTERVAL, hmacFallbackKey);
+    }
+
+    /**
+     * Creates the locator with a custom limit on refreshes triggered by unknown key IDs.
+     *
+     * @param jwksUri                    location of the JWKS document
+     * @param refreshInterval            interval between background refreshes
+     * @param minOnDemandRefreshInterval minimum time between two refreshes triggered by unknown key IDs
+     * @param hmacFallbackKey            key for tokens without a "kid" header, or null to reject them
+     */
+    JwksKeyLocator(URI jwksUri, Duration refreshInterval, Duration minOnDemandRefreshInterval, SecretKey hmacFallbackKey) {
+        this.jwksUri = jwksUri;
+        this.hmacFallbackKey = hmacFallbackKey;
+        this.minOnDemandRefreshInterval = minOnDemandRefreshInterval;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(FETCH_TIMEOUT)
+                .build();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "jwks-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        refresh();
+        scheduler.scheduleWithFixedDelay(this::refresh,
+                refreshInterval.toMillis(), refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Selects the verification key for a signed token.
+     *
+     * @param header the token header
+     * @return the key matching the "kid" header, or the HMAC fallback key if the token has none
+     * @throws SecurityException if no key is known for the token
+     */
+    @Override
+    protected Key locate(JwsHeader header) {
+        String kid = header.getKeyId();
+        if (kid == null) {
+            if (hmacFallbackKey == null) {
+                throw new SecurityException("Token has no key id and no HMAC fallback key is configured");
+            }
+            return hmacFallbackKey;
+        }
+
+        Key key = keys.get(kid);
+        if (key == null && refreshOnDemand()) {
+            key = keys.get(kid);
+        }
+        if (key == null) {
+            throw new SecurityException("Unknown signing key id: " + kid);
+        }
+        return key;
+    }
+
+    /**
+     * Stops the background refresh.
+     */
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Refreshes the key set for an unknown key ID unless a refresh happened recently.
+     *
+     * @return true if a refresh was performed
+     */
+    private synchronized boolean refreshOnDemand() {
+        if (System.nanoTime() - lastRefreshNanos < minOnDemandRefreshInterval.toNanos()) {
+            return false;
+        }
+        refresh();
+        return true;
+    }
+
+    /**
+     * Fetches the JWKS document and replaces the cached keys.
+     * Keeps the previous keys if the fetch fails.
+     */
+    private synchronized void refresh() {
+        lastRefreshNanos = System.nanoTime();
+        try {
+            HttpRequest request = HttpRequest.newBuilder(jwksUri)
+                    .timeout(FETCH_TIMEOUT)
+                    .GET()
+                    .build();
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                log.warn("Failed to fetch JWKS from {}: HTTP {}", jwksUri, response.statusCode());
+                return;
+            }
+
+            JwkSet jwkSet = Jwks.setParser()
+                    .ignoreUnsupported(true)
+                    .build()
+                    .parse(response.body());
+            keys = jwkSet.getKeys().stream()
+                    .filter(jwk -> jwk.getId() != null)
+                    .collect(Collectors.toUnmodifiableMap(Jwk::getId, Jwk::toKey, (first, second) -> first));
+            log.debug("Loaded {} verification key(s) from {}", keys.size(), jwksUri);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("Failed to refresh JWKS from {}: {}", jwksUri, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package jyoungmin.vocabcommons.security;
+
+import io.jsonwebtoken.security.Keys;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Utility class for deriving JWT key material.
+ * Keeps the issuer (VocabAuth) and local verifiers deriving the exact same key from the shared secret.
+ */
+public class JwtKeys {
+
+    private JwtKeys() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * Derives the HMAC-SHA signing key from the configured secret.
+     *
+     * @param secret the shared secret ({@code jwt.secret})
+     * @return HMAC key used to sign and verify tokens
+     */
+    public static SecretKey hmacKey(String secret) {
+        byte[] keyBytes = Base64.getEncoder().encode(secret.getBytes(StandardCharsets.UTF_8));
+        return Keys.hmacShaKeyFor(keyBytes);
+    }
+}
@@ -0,0 +1,68 @@
+package jyoungmin.vocabcommons.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.Locator;
+import jyoungmin.vocabcommons.exception.BaseServiceException;
+import jyoungmin.vocabcommons.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.crypto.SecretKey;
+import java.security.Key;
+
+/**
+ * Verifies JWT access tokens locally without calling the authentication service.
+ * Checks signature and expiry with a parser that is built once and shared across threads.
+ */
+@Slf4j
+public class JwtTokenVerifier {
+
+    /**
+     * Immutable, thread-safe parser configured with the verification key
+     */
+    private final JwtParser parser;
+
+    /**
+     * Creates a verifier for tokens signed with the given HMAC key.
+     *
+     * @param key the key used to verify token signatures
+     */
+    public JwtTokenVerifier(SecretKey key) {
+        this.parser = Jwts.parser()
+                .verifyWith(key)
+                .build();
+    }
+
+    /**
+     * Creates a verifier that selects the verification key per token, e.g. from a JWKS by "kid" header.
+     *
+     * @param keyLocator locator returning the key used to verify each token
+     */
+    public JwtTokenVerifier(Locator<Key> keyLocator) {
+        this.parser = Jwts.parser()
+                .keyLocator(keyLocator)
+                .build();
+    }
+
+    /**
+     * Verifies the token signature and expiry and returns its claims.
+     *
+     * @param token the compact JWT string (without "Bearer " prefix)
+     * @return verified claims of the token
+     * @throws BaseServiceException if the token is expired, malformed, or has an invalid signature
+     */
+    public Claims verify(String token) {
+        try {
+            return parser.parseSignedClaims(token).getPayload();
+        } catch (ExpiredJwtException e) {
+            log.warn("Expired JWT token: {}", e.getMessage());
+            throw new BaseServiceException(ErrorCode.TOKEN_EXPIRED, e.getMessage());
+        } catch (JwtException | IllegalArgumentException e) {
+            log.warn("Invalid JWT token: {}", e.getMessage());
+            throw new BaseServiceException(ErrorCode.INVALID_TOKEN, e.getMessage());
+        }
+    }
+}
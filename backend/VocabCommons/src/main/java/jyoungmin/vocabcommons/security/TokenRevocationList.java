@@ -0,0 +1,158 @@
+package jyoungmin.vocabcommons.security;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory replica of the token revocation deny-list.
+ * Holds revoked token IDs ("jti") and per-user "not-before" times so that a revocation check is a map lookup.
+ * Entries are applied from revocation messages and periodic snapshots, and dropped once they expire.
+ *
+ * <p>Message format (also used as the Redis value format by {@link TokenRevocationStore}):
+ * {@code jti:<expiresAtMillis>:<jti>} and {@code user:<expiresAtMillis>:<notBeforeMillis>:<username>}.</p>
+ *
+ * <p>Per-user revocations are compared in whole seconds, because a token's "iat" claim has no finer precision:
+ * a token is revoked if it was issued in an earlier second than the not-before time. Tokens issued in the same
+ * second as the revocation stay valid, so a user who logs in again right after "log out everywhere" is not
+ * locked out by their own fresh tokens.</p>
+ */
+public class TokenRevocationList {
+
+    /**
+     * Message type for a revoked token ID
+     */
+    static final String TOKEN_TYPE = "jti";
+
+    /**
+     * Message type for a per-user not-before time
+     */
+    static final String USER_TYPE = "user";
+
+    /**
+     * Revoked token ID to the time its token expires (epoch milliseconds)
+     */
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+
+    /**
+     * Username to the revocation that invalidates all of the user's tokens issued before it
+     */
+    private final Map<String, UserRevocation> revokedUsers = new ConcurrentHashMap<>();
+
+    /**
+     * Checks whether a verified token has been revoked.
+     * Tokens without an issue time are treated as issued before any per-user revocation.
+     *
+     * @param tokenId  the token ID ("jti"), may be null
+     * @param subject  the token subject (username)
+     * @param issuedAt the token issue time ("iat"), may be null
+     * @return true if the token ID is revoked or the token was issued in a second before the user's not-before time
+     */
+    public boolean isRevoked(String tokenId, String subject, Instant issuedAt) {
+        if (tokenId != null && revokedTokens.containsKey(tokenId)) {
+            return true;
+        }
+
+        UserRevocation userRevocation = subject != null ? revokedUsers.get(subject) : null;
+        if (userRevocation == null) {
+            return false;
+        }
+        long issuedAtSeconds = issuedAt != null ? issuedAt.getEpochSecond() : 0;
+        return issuedAtSeconds < userRevocation.notBeforeSeconds();
+    }
+
+    /**
+     * Adds a revoked token ID.
+     *
+     * @param tokenId         the token ID
+     * @param expiresAtMillis when the token expires and the entry can be dropped (epoch milliseconds)
+     */
+    public void revokeToken(String tokenId, long expiresAtMillis) {
+        revokedTokens.merge(tokenId, expiresAtMillis, Math::max);
+    }
+
+    /**
+     * Adds a per-user not-before time, rounded down to the second. Keeps the later time if the user is already revoked.
+     *
+     * @param username        the username
+     * @param notBeforeMillis tokens issued in an earlier second are revoked (epoch milliseconds)
+     * @param expiresAtMillis when no token issued before the not-before time can be valid anymore
+     */
+    public void revokeUser(String username, long notBeforeMillis, long expiresAtMillis) {
+        revokedUsers.merge(username, new UserRevocation(Math.floorDiv(notBeforeMillis, 1000), expiresAtMillis),
+                (current, added) -> current.notBeforeSeconds() >= added.notBeforeSeconds() ? current : added);
+    }
+
+    /**
+     * Applies a revocation message.
+     *
+     * @param message the encoded revocation
+     * @throws IllegalArgumentException if the message is malformed
+     */
+    public void apply(String message) {
+        String[] parts = message.split(":", 3);
+        if (parts.length == 3 && TOKEN_TYPE.equals(parts[0])) {
+            revokeToken(parts[2], Long.parseLong(parts[1]));
+            return;
+        }
+        if (parts.length == 3 && USER_TYPE.equals(parts[0])) {
+            String[] rest = parts[2].split(":", 2);
+            if (rest.length == 2) {
+                revokeUser(rest[1], Long.parseLong(rest[0]), Long.parseLong(parts[1]));
+                return;
+            }
+        }
+        throw new IllegalArgumentException("Malformed revocation message: " + message);
+    }
+
+    /**
+     * Drops entries whose tokens can no longer be valid.
+     *
+     * @param nowMillis the current time (epoch milliseconds)
+     */
+    public void purgeExpired(long nowMillis) {
+        revokedTokens.values().removeIf(expiresAt -> expiresAt <= nowMillis);
+        revokedUsers.values().removeIf(revocation -> revocation.expiresAtMillis() <= nowMillis);
+    }
+
+    /**
+     * Returns the number of entries held in memory.
+     *
+     * @return number of revoked token IDs plus revoked users
+     */
+    public int size() {
+        return revokedTokens.size() + revokedUsers.size();
+    }
+
+    /**
+     * Encodes a revoked token ID.
+     *
+     * @param tokenId         the token ID
+     * @param expiresAtMillis when the token expires (epoch milliseconds)
+     * @return the encoded revocation
+     */
+    public static String tokenMessage(String tokenId, long expiresAtMillis) {
+        return TOKEN_TYPE + ":" + expiresAtMillis + ":" + tokenId;
+    }
+
+    /**
+     * Encodes a per-user not-before time.
+     *
+     * @param username        the username
+     * @param notBeforeMillis tokens issued in an earlier second are revoked (epoch milliseconds)
+     * @param expiresAtMillis when the entry can be dropped (epoch milliseconds)
+     * @return the encoded revocation
+     */
+    public static String userMessage(String username, long notBeforeMillis, long expiresAtMillis) {
+        return USER_TYPE + ":" + expiresAtMillis + ":" + notBeforeMillis + ":" + username;
+    }
+
+    /**
+     * Per-user revocation.
+     *
+     * @param notBeforeSeconds tokens issued in an earlier second are revoked (epoch seconds)
+     * @param expiresAtMillis  when the entry can be dropped (epoch milliseconds)
+     */
+    private record UserRevocation(long notBeforeSeconds, long expiresAtMillis) {
+    }
+}
@@ -0,0 +1,161 @@
+package jyoungmin.vocabcommons.security;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Local replica of the token revocation deny-list kept in sync with {@link TokenRevocationStore}.
+ * Applies revocations from the Redis pub/sub channel as they are published and reloads the full list
+ * periodically, so a revocation reaches every instance immediately, or within one resync interval if
+ * the instance missed the message. Revocation checks never leave the process.
+ */
+@Slf4j
+@Component
+public class TokenRevocationReplica {
+
+    /**
+     * Whether revocation checks are enabled
+     */
+    @Getter
+    private final boolean enabled;
+
+    /**
+     * Interval between full reloads from Redis
+     */
+    private final Duration resyncInterval;
+
+    /**
+     * Shared Redis storage of revocations
+     */
+    private final TokenRevocationStore store;
+
+    /**
+     * Connection factory used for the pub/sub subscription
+     */
+    private final RedisConnectionFactory connectionFactory;
+
+    /**
+     * In-memory deny-list
+     */
+    private final TokenRevocationList revocationList = new TokenRevocationList();
+
+    /**
+     * Container holding the pub/sub subscription, or null when disabled
+     */
+    private RedisMessageListenerContainer listenerContainer;
+
+    /**
+     * Executor running the periodic resync, or null when disabled
+     */
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * Creates the replica.
+     *
+     * @param enabled           whether revocation checks are enabled
+     * @param resyncInterval    interval between full reloads from Redis
+     * @param store             shared Redis storage of revocations
+     * @param connectionFactory connection factory used for the pub/sub subscription
+     */
+    public TokenRevocationReplica(@Value("${jwt.revocation.enabled:true}") boolean enabled,
+                                  @Value("${jwt.revocation.resync-interval:30s}") Duration resyncInterval,
+                                  TokenRevocationStore store,
+                                  RedisConnectionFactory connectionFactory) {
+        this.enabled = enabled;
+        this.resyncInterval = resyncInterval;
+        this.store = store;
+        this.connectionFactory = connectionFactory;
+    }
+
+    /**
+     * Subscribes to revocation messages, then loads the current list and schedules periodic resyncs.
+     */
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            log.info("Token revocation checks are disabled");
+            return;
+        }
+
+        listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(connectionFactory);
+        listenerContainer.addMessageListener((message, pattern) ->
+                        apply(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(TokenRevocationStore.CHANNEL));
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "revocation-resync");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::resync, 0, resyncInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Checks whether a verified token has been revoked.
+     *
+     * @param tokenId  the token ID ("jti"), may be null
+     * @param subject  the token subject (username)
+     * @param issuedAt the token issue time ("iat"), may be null
+     * @return true if the token is revoked, false if not or if revocation checks are disabled
+     */
+    public boolean isRevoked(String tokenId, String subject, Instant issuedAt) {
+        return enabled && revocationList.isRevoked(tokenId, subject, issuedAt);
+    }
+
+    /**
+     * Stops the subscription and the periodic resync.
+     */
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        if (listenerContainer != null) {
+            listenerContainer.stop();
+        }
+    }
+
+    /**
+     * Applies a revocation message received from the channel.
+     *
+     * @param message the encoded revocation
+     */
+    private void apply(String message) {
+        try {
+            revocationList.apply(message);
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring revocation message: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Reloads all revocations from Redis and drops expired entries.
+     * Keeps the current entries if Redis is unavailable.
+     */
+    private void resync() {
+        try {
+            store.loadAll().forEach(this::apply);
+            revocationList.purgeExpired(System.currentTimeMillis());
+            log.debug("Token revocation list resynced: {} entries", revocationList.size());
+        } catch (Exception e) {
+            log.warn("Failed to resync token revocation list: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package jyoungmin.vocabcommons.security;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Shared Redis storage for the token revocation deny-list.
+ * Each revocation is stored under its own key with a TTL matching the lifetime of the revoked tokens
+ * and published on {@link #CHANNEL} so that every {@link TokenRevocationReplica} applies it immediately.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenRevocationStore {
+
+    /**
+     * Pub/sub channel carrying revocation messages
+     */
+    public static final String CHANNEL = "auth:revocations";
+
+    /**
+     * Key prefix of revoked token IDs
+     */
+    private static final String TOKEN_KEY_PREFIX = "revoked:jti:";
+
+    /**
+     * Key prefix of per-user not-before times
+     */
+    private static final String USER_KEY_PREFIX = "revoked:user:";
+
+    /**
+     * Number of keys fetched per SCAN round trip
+     */
+    private static final int SCAN_BATCH_SIZE = 500;
+
+    /**
+     * Template for Redis operations
+     */
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * Revokes a single token until it expires.
+     *
+     * @param tokenId         the token ID ("jti")
+     * @param expiresAtMillis when the token expires (epoch milliseconds)
+     */
+    public void revokeToken(String tokenId, long expiresAtMillis) {
+        save(TOKEN_KEY_PREFIX + tokenId, TokenRevocationList.tokenMessage(tokenId, expiresAtMillis), expiresAtMillis);
+    }
+
+    /**
+     * Revokes all tokens of a user issued in a second before the given time.
+     *
+     * @param username        the username
+     * @param notBeforeMillis tokens issued in an earlier second are revoked (epoch milliseconds)
+     * @param expiresAtMillis when no token issued before the not-before time can be valid anymore
+     */
+    public void revokeUser(String username, long notBeforeMillis, long expiresAtMillis) {
+        save(USER_KEY_PREFIX + username,
+                TokenRevocationList.userMessage(username, notBeforeMillis, expiresAtMillis), expiresAtMillis);
+    }
+
+    /**
+     * Loads all current revocations.
+     *
+     * @return encoded revocations, in the format accepted by {@link TokenRevocationList#apply(String)}
+     */
+    public List<String> loadAll() {
+        List<String> keys = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions().match("revoked:*").count(SCAN_BATCH_SIZE).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            cursor.forEachRemaining(keys::add);
+        }
+
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+        List<String> values = redisTemplate.opsForValue().multiGet(keys);
+        return values == null ? List.of() : values.stream().filter(Objects::nonNull).toList();
+    }
+
+    /**
+     * Stores a revocation with a TTL and publishes it.
+     *
+     * @param key             the Redis key
+     * @param message         the encoded revocation
+     * @param expiresAtMillis when the entry can be dropped (epoch milliseconds)
+     */
+    private void save(String key, String message, long expiresAtMillis) {
+        long ttlMillis = expiresAtMillis - System.currentTimeMillis();
+        if (ttlMillis <= 0) {
+            return; // Tokens already expired, nothing to revoke
+        }
+
+        redisTemplate.opsForValue().set(key, message, Duration.ofMillis(ttlMillis));
+        redisTemplate.convertAndSend(CHANNEL, message);
+        log.info("Published token revocation: {}", key);
+    }
+}
@@ -0,0 +1,84 @@
+package jyoungmin.vocabcommons.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtBuilder;
+import jyoungmin.vocabcommons.constants.JwtConstants;
+import jyoungmin.vocabcommons.dto.UserInfo;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Maps {@link UserInfo} to and from compact access token claims.
+ * Lets the issuing service embed the caller's identity in the token and lets verifying
+ * services rebuild it from verified claims without a database read or a call to the auth service.
+ */
+public final class UserInfoClaims {
+
+    private UserInfoClaims() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * Adds the subject and the user ID, role and enabled claims to a token builder.
+     *
+     * @param builder the token builder
+     * @param user    the user the token is issued to
+     * @return the same builder for chaining
+     */
+    public static JwtBuilder apply(JwtBuilder builder, UserInfo user) {
+        return builder
+                .subject(user.getUserName())
+                .claim(JwtConstants.USER_ID_CLAIM, user.getId())
+                .claim(JwtConstants.ROLE_CLAIM, user.getRole())
+                .claim(JwtConstants.ENABLED_CLAIM, user.isEnabled());
+    }
+
+    /**
+     * Builds user information from verified token claims.
+     * Tokens without the role claim fall back to the authorities claim, and tokens without
+     * the enabled claim are treated as enabled since tokens are only issued to enabled accounts.
+     *
+     * @param claims the verified token claims
+     * @return user information, or empty if the token lacks the user ID or role
+     */
+    public static Optional<UserInfo> toUserInfo(Claims claims) {
+        Object userId = claims.get(JwtConstants.USER_ID_CLAIM);
+        String role = resolveRole(claims);
+        if (!(userId instanceof Number number) || role == null || claims.getSubject() == null) {
+            return Optional.empty();
+        }
+
+        Object enabled = claims.get(JwtConstants.ENABLED_CLAIM);
+        return Optional.of(UserInfo.builder()
+                .id(number.longValue())
+                .userName(claims.getSubject())
+                .role(role)
+                .enabled(!(enabled instanceof Boolean flag) || flag)
+                .build());
+    }
+
+    /**
+     * Reads the role from the role claim, or derives it from the authorities claim.
+     *
+     * @param claims the verified token claims
+     * @return role without the "ROLE_" prefix (e.g. "USER"), or null if neither claim is present
+     */
+    private static String resolveRole(Claims claims) {
+        Object role = claims.get(JwtConstants.ROLE_CLAIM);
+        if (role != null) {
+            return role.toString();
+        }
+
+        Object authorities = claims.get(JwtConstants.AUTHORITIES_CLAIM);
+        if (authorities == null) {
+            return null;
+        }
+        String authority = Arrays.stream(authorities.toString().split(","))
+                .findFirst()
+                .orElse("");
+        return authority.startsWith(JwtConstants.ROLE_PREFIX)
+                ? authority.substring(JwtConstants.ROLE_PREFIX.length())
+                : authority;
+    }
+}
@@ -0,0 +1,41 @@
+package jyoungmin.vocabcommons.logging;
+
+import jyoungmin.vocabcommons.constants.LoggingConstants;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoggingFilterTests {
+
+    @Test
+    void propagatesTheIncomingCorrelationIdByDefault() throws Exception {
+        MockHttpServletResponse response = filter(true);
+
+        assertThat(response.getHeader(LoggingConstants.CORRELATION_ID_HEADER)).isEqualTo("client-chosen");
+    }
+
+    @Test
+    void mintsANewCorrelationIdWhenIncomingIdsAreNotAccepted() throws Exception {
+        MockHttpServletResponse response = filter(false);
+
+        assertThat(response.getHeader(LoggingConstants.CORRELATION_ID_HEADER))
+                .isNotBlank()
+                .isNotEqualTo("client-chosen");
+    }
+
+    private static MockHttpServletResponse filter(boolean acceptIncoming) throws Exception {
+        LoggingFilter filter = new LoggingFilter();
+        ReflectionTestUtils.setField(filter, "acceptIncomingCorrelationId", acceptIncoming);
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/word");
+        request.addHeader(LoggingConstants.CORRELATION_ID_HEADER, "client-chosen");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
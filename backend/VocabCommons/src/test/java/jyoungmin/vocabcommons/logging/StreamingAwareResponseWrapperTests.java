@@ -0,0 +1,47 @@
+package jyoungmin.vocabcommons.logging;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StreamingAwareResponseWrapperTests {
+
+    @Test
+    void jsonResponseIsCachedUntilCopied() throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        StreamingAwareResponseWrapper wrapper = new StreamingAwareResponseWrapper(response);
+
+        wrapper.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        wrapper.getOutputStream().write("{\"ok\":true}".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(wrapper.isStreaming()).isFalse();
+        assertThat(response.getContentAsString()).isEmpty();
+        assertThat(wrapper.getContentAsByteArray()).hasSize(11);
+
+        wrapper.copyBodyToResponse();
+        assertThat(response.getContentAsString()).isEqualTo("{\"ok\":true}");
+    }
+
+    @Test
+    void ndjsonResponseIsWrittenThrough() throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        StreamingAwareResponseWrapper wrapper = new StreamingAwareResponseWrapper(response);
+
+        wrapper.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        wrapper.getOutputStream().write("{\"id\":1}\n".getBytes(StandardCharsets.UTF_8));
+        wrapper.flushBuffer();
+
+        assertThat(wrapper.isStreaming()).isTrue();
+        assertThat(wrapper.getContentAsByteArray()).isEmpty();
+        assertThat(response.isCommitted()).isTrue();
+        assertThat(response.getContentAsString()).isEqualTo("{\"id\":1}\n");
+
+        wrapper.copyBodyToResponse();
+        assertThat(response.getContentAsString()).isEqualTo("{\"id\":1}\n");
+    }
+}
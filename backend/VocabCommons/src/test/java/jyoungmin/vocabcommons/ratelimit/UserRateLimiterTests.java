@@ -0,0 +1,61 @@
+package jyoungmin.vocabcommons.ratelimit;
+
+import jyoungmin.vocabcommons.exception.BaseServiceException;
+import jyoungmin.vocabcommons.exception.ErrorCode;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Checks that {@link UserRateLimiter} keeps one bucket per user, charges operation costs and refills over time.
+ */
+class UserRateLimiterTests {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+
+    private final MockEnvironment environment = new MockEnvironment()
+            .withProperty("user-rate-limit.instances.word-create.limit-for-period", "10")
+            .withProperty("user-rate-limit.instances.word-create.limit-refresh-period", "60s");
+
+    private final UserRateLimiter limiter =
+            new UserRateLimiter(true, 1_000, Duration.ofMinutes(10), environment, clock::get);
+
+    @Test
+    void busyUserDoesNotBlockOtherUsers() {
+        for (int i = 0; i < 10; i++) {
+            limiter.acquire("word-create", 1L, 1);
+        }
+
+        assertThatThrownBy(() -> limiter.acquire("word-create", 1L, 1))
+                .isInstanceOfSatisfying(BaseServiceException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.RATE_LIMIT_EXCEEDED));
+        limiter.acquire("word-create", 2L, 1);
+    }
+
+    @Test
+    void costlyCallsUseSeveralTokensAndRefillOverTime() {
+        limiter.acquire("word-create", 1L, 8);
+
+        assertThatThrownBy(() -> limiter.acquire("word-create", 1L, 3)).isInstanceOf(BaseServiceException.class);
+        limiter.acquire("word-create", 1L, 2);
+
+        // One token is emitted every 6 seconds
+        clock.addAndGet(Duration.ofSeconds(18).toNanos());
+        limiter.acquire("word-create", 1L, 3);
+        assertThatThrownBy(() -> limiter.acquire("word-create", 1L, 1)).isInstanceOf(BaseServiceException.class);
+    }
+
+    @Test
+    void bucketMapStaysBoundedWithManyUsers() {
+        for (long user = 0; user < 100_000; user++) {
+            limiter.acquire("word-create", user, 1);
+        }
+
+        assertThat(limiter.bucketCount()).isLessThanOrEqualTo(1_000);
+    }
+}
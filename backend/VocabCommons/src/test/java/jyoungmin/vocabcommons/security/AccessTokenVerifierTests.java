@@ -0,0 +1,62 @@
+package jyoungmin.vocabcommons.security;
+
+import io.jsonwebtoken.Jwts;
+import jyoungmin.vocabcommons.dto.UserInfo;
+import jyoungmin.vocabcommons.exception.BaseServiceException;
+import jyoungmin.vocabcommons.exception.ErrorCode;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AccessTokenVerifierTests {
+
+    private static final String SECRET = "a-shared-secret-that-is-long-enough-for-hs256";
+
+    private final TokenRevocationReplica noRevocations = new TokenRevocationReplica(false, Duration.ofSeconds(30), null, null);
+
+    private final AccessTokenVerifier verifier = new AccessTokenVerifier(SECRET, "", Duration.ofMinutes(5), false, noRevocations);
+
+    @Test
+    void buildsUserInfoFromIdentityClaims() {
+        UserInfo user = UserInfo.builder().id(7L).userName("alice").role("USER").enabled(true).build();
+        String token = UserInfoClaims.apply(Jwts.builder(), user)
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(JwtKeys.hmacKey(SECRET))
+                .compact();
+
+        assertThat(verifier.verify(token)).contains(user);
+    }
+
+    @Test
+    void tokensWithoutIdentityClaimsVerifyToEmpty() {
+        String token = Jwts.builder()
+                .subject("alice")
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(JwtKeys.hmacKey(SECRET))
+                .compact();
+
+        assertThat(verifier.verify(token)).isEmpty();
+    }
+
+    @Test
+    void tokensSignedWithAnotherSecretAreRejected() {
+        String token = Jwts.builder()
+                .subject("alice")
+                .signWith(JwtKeys.hmacKey("another-shared-secret-that-is-long-enough-too"))
+                .compact();
+
+        assertThatThrownBy(() -> verifier.verify(token))
+                .isInstanceOf(BaseServiceException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.INVALID_TOKEN);
+    }
+
+    @Test
+    void requiresASecretOrJwksUri() {
+        assertThatThrownBy(() -> new AccessTokenVerifier("", "", Duration.ofMinutes(5), false, noRevocations))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,51 @@
+package jyoungmin.vocabcommons.security;
+
+import io.jsonwebtoken.Jwts;
+import jyoungmin.vocabcommons.dto.UserInfo;
+import jyoungmin.vocabcommons.exception.BaseServiceException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Checks that services accept identities signed by the gateway and nothing else.
+ */
+class InternalIdentityTokenTests {
+
+    private static final String SECRET = "internal-secret-shared-by-gateway-and-services";
+
+    private final UserInfo alice = UserInfo.builder().id(7L).userName("alice").role("USER").enabled(true).build();
+
+    @Test
+    void serviceTrustsIdentitySignedByGateway() {
+        InternalIdentityToken gateway = new InternalIdentityToken(SECRET, Duration.ofSeconds(30));
+        InternalIdentityToken service = new InternalIdentityToken(SECRET, Duration.ofSeconds(30));
+
+        UserInfo forwarded = service.verify(gateway.sign(alice));
+
+        assertThat(forwarded.getId()).isEqualTo(7L);
+        assertThat(forwarded.getUserName()).isEqualTo("alice");
+        assertThat(forwarded.getRole()).isEqualTo("USER");
+    }
+
+    @Test
+    void identitySignedWithOtherSecretIsRejected() {
+        InternalIdentityToken forger = new InternalIdentityToken(SECRET + "-forged", Duration.ofSeconds(30));
+        InternalIdentityToken service = new InternalIdentityToken(SECRET, Duration.ofSeconds(30));
+
+        assertThatThrownBy(() -> service.verify(forger.sign(alice))).isInstanceOf(BaseServiceException.class);
+    }
+
+    @Test
+    void accessTokenWithSameKeyIsNotAnInternalIdentity() {
+        String accessToken = UserInfoClaims.apply(Jwts.builder(), alice)
+                .signWith(JwtKeys.hmacKey(SECRET))
+                .compact();
+
+        assertThatThrownBy(() -> new InternalIdentityToken(SECRET, Duration.ofSeconds(30)).verify(accessToken))
+                .isInstanceOf(BaseServiceException.class);
+    }
+}
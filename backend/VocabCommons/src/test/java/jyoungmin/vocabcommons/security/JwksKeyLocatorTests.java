@@ -0,0 +1,151 @@
+package jyoungmin.vocabcommons.security;
+
+import com.sun.net.httpserver.HttpServer;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.SecurityException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Verifies tokens through a locator fetching its keys from a local JWKS endpoint
+ * whose key set can be changed to simulate a rotation.
+ */
+class JwksKeyLocatorTests {
+
+    private static final Duration NO_BACKGROUND_REFRESH = Duration.ofHours(1);
+
+    private final KeyPair oldKey = Jwts.SIG.RS256.keyPair().build();
+    private final KeyPair newKey = Jwts.SIG.RS256.keyPair().build();
+    private final SecretKey hmacKey = JwtKeys.hmacKey("a-shared-secret-that-is-long-enough-for-hs256");
+
+    /**
+     * Public keys currently served, by key ID
+     */
+    private final Map<String, KeyPair> published = new LinkedHashMap<>();
+
+    /**
+     * Number of JWKS requests served
+     */
+    private final AtomicInteger fetches = new AtomicInteger();
+
+    private HttpServer server;
+    private JwksKeyLocator locator;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/.well-known/jwks.json", exchange -> {
+            fetches.incrementAndGet();
+            byte[] body = jwks().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        if (locator != null) {
+            locator.close();
+        }
+        server.stop(0);
+    }
+
+    @Test
+    void verifiesTokensSignedWithAPublishedKey() {
+        published.put("old", oldKey);
+        locator = locator(Duration.ofSeconds(30), hmacKey);
+
+        assertThat(verify(sign("old", oldKey))).isEqualTo("alice");
+        assertThat(fetches).hasValue(1);
+    }
+
+    @Test
+    void unknownKeyIdRefreshesTheKeySetAndKeepsAcceptingTheOldKey() {
+        published.put("old", oldKey);
+        locator = locator(Duration.ZERO, hmacKey);
+        String oldToken = sign("old", oldKey);
+
+        published.put("new", newKey);
+
+        assertThat(verify(sign("new", newKey))).isEqualTo("alice");
+        assertThat(verify(oldToken)).isEqualTo("alice");
+        assertThat(fetches).hasValue(2);
+    }
+
+    @Test
+    void unknownKeyIdRefreshesAtMostOncePerInterval() {
+        published.put("old", oldKey);
+        locator = locator(Duration.ofSeconds(30), hmacKey);
+        published.put("new", newKey);
+
+        // The key set was fetched at startup, so the new key is not picked up until the interval has passed
+        assertThatThrownBy(() -> verify(sign("new", newKey))).isInstanceOf(SecurityException.class);
+        assertThatThrownBy(() -> verify(sign("unknown", newKey))).isInstanceOf(SecurityException.class);
+        assertThat(fetches).hasValue(1);
+    }
+
+    @Test
+    void tokensWithoutKeyIdUseTheHmacFallback() {
+        published.put("old", oldKey);
+        locator = locator(Duration.ofSeconds(30), hmacKey);
+
+        String hmacToken = Jwts.builder().subject("alice").signWith(hmacKey, Jwts.SIG.HS256).compact();
+
+        assertThat(verify(hmacToken)).isEqualTo("alice");
+    }
+
+    @Test
+    void tokensWithoutKeyIdAreRejectedWithoutFallback() {
+        published.put("old", oldKey);
+        locator = locator(Duration.ofSeconds(30), null);
+
+        String hmacToken = Jwts.builder().subject("alice").signWith(hmacKey, Jwts.SIG.HS256).compact();
+
+        assertThatThrownBy(() -> verify(hmacToken)).isInstanceOf(SecurityException.class);
+    }
+
+    private JwksKeyLocator locator(Duration minOnDemandRefreshInterval, SecretKey fallback) {
+        URI uri = URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/.well-known/jwks.json");
+        return new JwksKeyLocator(uri, NO_BACKGROUND_REFRESH, minOnDemandRefreshInterval, fallback);
+    }
+
+    private String sign(String kid, KeyPair keyPair) {
+        return Jwts.builder()
+                .header().keyId(kid).and()
+                .subject("alice")
+                .signWith(keyPair.getPrivate(), Jwts.SIG.RS256)
+                .compact();
+    }
+
+    private String verify(String token) {
+        return Jwts.parser().keyLocator(locator).build().parseSignedClaims(token).getPayload().getSubject();
+    }
+
+    private String jwks() {
+        return published.entrySet().stream()
+                .map(entry -> Jwks.json(Jwks.builder().key(entry.getValue().getPublic()).id(entry.getKey()).build()))
+                .collect(Collectors.joining(",", "{\"keys\":[", "]}"));
+    }
+}
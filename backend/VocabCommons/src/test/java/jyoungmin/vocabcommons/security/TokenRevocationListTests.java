@@ -0,0 +1,113 @@
+package jyoungmin.vocabcommons.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Simulates several service instances sharing revocations the way {@link TokenRevocationStore} and
+ * {@link TokenRevocationReplica} do: a published message reaches every subscribed instance at once, and an
+ * instance that missed it picks it up from the stored snapshot on its next resync.
+ */
+class TokenRevocationListTests {
+
+    private static final String TOKEN_ID = "3f0a7c1e-token";
+    private static final String USERNAME = "alice";
+
+    private final long now = System.currentTimeMillis();
+    private final long tokenExpiresAt = now + Duration.ofMinutes(15).toMillis();
+    private final Instant issuedAt = Instant.ofEpochMilli(now - Duration.ofMinutes(1).toMillis());
+
+    /**
+     * Stored revocations (the Redis keys)
+     */
+    private final List<String> store = new ArrayList<>();
+
+    /**
+     * Instances currently subscribed to the revocation channel
+     */
+    private final List<TokenRevocationList> subscribers = new ArrayList<>();
+
+    @Test
+    void revokedTokenIsRejectedBySubscribedInstancesImmediately() {
+        TokenRevocationList instanceA = subscribe(new TokenRevocationList());
+        TokenRevocationList instanceB = subscribe(new TokenRevocationList());
+        assertThat(instanceB.isRevoked(TOKEN_ID, USERNAME, issuedAt)).isFalse();
+
+        publish(TokenRevocationList.tokenMessage(TOKEN_ID, tokenExpiresAt));
+
+        assertThat(instanceA.isRevoked(TOKEN_ID, USERNAME, issuedAt)).isTrue();
+        assertThat(instanceB.isRevoked(TOKEN_ID, USERNAME, issuedAt)).isTrue();
+        assertThat(instanceB.isRevoked("other-token", USERNAME, issuedAt)).isFalse();
+    }
+
+    @Test
+    void instanceThatMissedTheMessageCatchesUpOnResync() {
+        subscribe(new TokenRevocationList());
+        TokenRevocationList disconnected = new TokenRevocationList();
+
+        publish(TokenRevocationList.tokenMessage(TOKEN_ID, tokenExpiresAt));
+        assertThat(disconnected.isRevoked(TOKEN_ID, USERNAME, issuedAt)).isFalse();
+
+        resync(disconnected);
+
+        assertThat(disconnected.isRevoked(TOKEN_ID, USERNAME, issuedAt)).isTrue();
+    }
+
+    @Test
+    void userRevocationRejectsOnlyTokensIssuedBeforeIt() {
+        TokenRevocationList instance = subscribe(new TokenRevocationList());
+
+        publish(TokenRevocationList.userMessage(USERNAME, now, tokenExpiresAt));
+
+        assertThat(instance.isRevoked(TOKEN_ID, USERNAME, issuedAt)).isTrue();
+        assertThat(instance.isRevoked(TOKEN_ID, USERNAME, null)).isTrue();
+        assertThat(instance.isRevoked(TOKEN_ID, USERNAME, Instant.ofEpochMilli(now + 1000))).isFalse();
+        assertThat(instance.isRevoked(TOKEN_ID, "bob", issuedAt)).isFalse();
+    }
+
+    @Test
+    void tokenIssuedInTheSameSecondAsTheRevocationIsAccepted() {
+        TokenRevocationList instance = subscribe(new TokenRevocationList());
+        // "Log out everywhere" at 12:00:00.700, login again at 12:00:00.900: the new token's "iat" is 12:00:00
+        Instant second = Instant.parse("2025-01-01T12:00:00Z");
+        long revokedAt = second.toEpochMilli() + 700;
+
+        publish(TokenRevocationList.userMessage(USERNAME, revokedAt, tokenExpiresAt));
+
+        assertThat(instance.isRevoked(TOKEN_ID, USERNAME, second)).isFalse();
+        assertThat(instance.isRevoked(TOKEN_ID, USERNAME, second.minusSeconds(1))).isTrue();
+    }
+
+    @Test
+    void expiredEntriesArePurged() {
+        TokenRevocationList instance = subscribe(new TokenRevocationList());
+        publish(TokenRevocationList.tokenMessage(TOKEN_ID, tokenExpiresAt));
+        publish(TokenRevocationList.userMessage(USERNAME, now, tokenExpiresAt));
+        assertThat(instance.size()).isEqualTo(2);
+
+        instance.purgeExpired(tokenExpiresAt);
+
+        assertThat(instance.size()).isZero();
+        assertThat(instance.isRevoked(TOKEN_ID, USERNAME, issuedAt)).isFalse();
+    }
+
+    private TokenRevocationList subscribe(TokenRevocationList instance) {
+        subscribers.add(instance);
+        return instance;
+    }
+
+    private void publish(String message) {
+        store.add(message);
+        subscribers.forEach(subscriber -> subscriber.apply(message));
+    }
+
+    private void resync(TokenRevocationList instance) {
+        store.forEach(instance::apply);
+    }
+}
@@ -0,0 +1,27 @@
+package jyoungmin.vocabgateway;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.context.annotation.ComponentScan;
+
+/**
+ * Main application class for the Vocab Gateway.
+ * Single entry point in front of VocabAuth and VocabList that authenticates requests once
+ * and forwards the caller's identity to the services behind it.
+ */
+@SpringBootApplication(exclude = {DataSourceAutoConfiguration.class, HibernateJpaAutoConfiguration.class})
+@ComponentScan(basePackages = {"jyoungmin.vocabgateway", "jyoungmin.vocabcommons"})
+public class VocabGatewayApplication {
+
+    /**
+     * Application entry point.
+     *
+     * @param args command-line arguments
+     */
+    public static void main(String[] args) {
+        SpringApplication.run(VocabGatewayApplication.class, args);
+    }
+
+}
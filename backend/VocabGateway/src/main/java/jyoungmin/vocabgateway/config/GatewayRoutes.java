@@ -0,0 +1,184 @@
+package jyoungmin.vocabgateway.config;
+
+import jyoungmin.vocabcommons.constants.JwtConstants;
+import jyoungmin.vocabcommons.constants.LoggingConstants;
+import jyoungmin.vocabcommons.dto.UserInfo;
+import jyoungmin.vocabcommons.security.InternalIdentityToken;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.function.RouterFunction;
+import org.springframework.web.servlet.function.ServerRequest;
+import org.springframework.web.servlet.function.ServerResponse;
+
+import java.time.Duration;
+
+import static org.springframework.cloud.gateway.server.mvc.filter.BeforeFilterFunctions.uri;
+import static org.springframework.cloud.gateway.server.mvc.handler.GatewayRouterFunctions.route;
+import static org.springframework.cloud.gateway.server.mvc.handler.HandlerFunctions.http;
+import static org.springframework.web.servlet.function.RequestPredicates.path;
+
+/**
+ * Routes of the gateway.
+ * Authentication and admin paths go to VocabAuth unchanged; word and list paths go to VocabList with the
+ * access token replaced by a signed internal identity, so VocabList never verifies tokens itself.
+ * Every forwarded request carries the correlation ID generated here and the client address in
+ * X-Forwarded-For, replacing any value sent by the client, so per-IP limits behind the gateway see the real client.
+ */
+@Configuration
+public class GatewayRoutes {
+
+    /**
+     * Path prefixes served by VocabList
+     */
+    private static final String[] LIST_SERVICE_PREFIXES = {"/api/v1/word", "/api/v1/list"};
+
+    /**
+     * Header carrying the client address to the services behind the gateway
+     */
+    static final String FORWARDED_FOR_HEADER = "X-Forwarded-For";
+
+    /**
+     * Base URL of VocabAuth
+     */
+    @Value("${gateway.routes.auth-url}")
+    private String authUrl;
+
+    /**
+     * Base URL of VocabList
+     */
+    @Value("${gateway.routes.list-url}")
+    private String listUrl;
+
+    /**
+     * Checks whether a request path is served by VocabList.
+     *
+     * @param path the request URI
+     * @return true for word and list paths
+     */
+    public static boolean isListServicePath(String path) {
+        for (String prefix : LIST_SERVICE_PREFIXES) {
+            if (path.equals(prefix) || path.startsWith(prefix + "/")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Creates the signer of internal identity tokens.
+     *
+     * @param secret the secret shared with the services behind the gateway
+     * @param ttl    lifetime of internal identity tokens
+     * @return the signer
+     * @throws IllegalStateException if no secret is set
+     */
+    @Bean
+    public InternalIdentityToken internalIdentityToken(@Value("${internal-identity.secret:}") String secret,
+                                                       @Value("${internal-identity.ttl:30s}") Duration ttl) {
+        if (!StringUtils.hasText(secret)) {
+            throw new IllegalStateException("internal-identity.secret must be set for the gateway");
+        }
+        return new InternalIdentityToken(secret, ttl);
+    }
+
+    /**
+     * Routes authentication and admin requests to VocabAuth.
+     *
+     * @return the route
+     */
+    @Bean
+    public RouterFunction<ServerResponse> authServiceRoute() {
+        return route("vocab-auth")
+                .route(path("/api/v1/auth/**").or(path("/api/v1/admin/**")), http())
+                .before(uri(authUrl))
+                .before(GatewayRoutes::stripInternalIdentity)
+                .before(GatewayRoutes::forwardClientAddress)
+                .before(GatewayRoutes::forwardCorrelationId)
+                .build();
+    }
+
+    /**
+     * Routes word and list requests to VocabList with the caller's identity in the internal header.
+     *
+     * @param internalIdentityToken signer of internal identity tokens
+     * @return the route
+     */
+    @Bean
+    public RouterFunction<ServerResponse> listServiceRoute(InternalIdentityToken internalIdentityToken) {
+        return route("vocab-list")
+                .route(path("/api/v1/word/**").or(path("/api/v1/list/**")), http())
+                .before(uri(listUrl))
+                .before(request -> forwardIdentity(request, internalIdentityToken))
+                .before(GatewayRoutes::forwardClientAddress)
+                .before(GatewayRoutes::forwardCorrelationId)
+                .build();
+    }
+
+    /**
+     * Replaces the access token with a signed internal identity of the authenticated caller.
+     *
+     * @param request               the request to forward
+     * @param internalIdentityToken signer of internal identity tokens
+     * @return the request with the internal identity header
+     */
+    private static ServerRequest forwardIdentity(ServerRequest request, InternalIdentityToken internalIdentityToken) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return ServerRequest.from(request)
+                .headers(headers -> {
+                    headers.remove(HttpHeaders.AUTHORIZATION);
+                    headers.remove(JwtConstants.INTERNAL_IDENTITY_HEADER);
+                    if (authentication != null && authentication.getPrincipal() instanceof UserInfo userInfo) {
+                        headers.set(JwtConstants.INTERNAL_IDENTITY_HEADER, internalIdentityToken.sign(userInfo));
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * Removes any internal identity header sent by the client.
+     *
+     * @param request the request to forward
+     * @return the request without the internal identity header
+     */
+    private static ServerRequest stripInternalIdentity(ServerRequest request) {
+        return ServerRequest.from(request)
+                .headers(headers -> headers.remove(JwtConstants.INTERNAL_IDENTITY_HEADER))
+                .build();
+    }
+
+    /**
+     * Sets X-Forwarded-For to the address the gateway received the request from.
+     * A client-supplied value is dropped: the services trust this header from the gateway only.
+     *
+     * @param request the request to forward
+     * @return the request with the client address header
+     */
+    static ServerRequest forwardClientAddress(ServerRequest request) {
+        String clientAddress = request.servletRequest().getRemoteAddr();
+        return ServerRequest.from(request)
+                .headers(headers -> headers.set(FORWARDED_FOR_HEADER, clientAddress))
+                .build();
+    }
+
+    /**
+     * Forwards the correlation ID that the logging filter assigned to this request.
+     *
+     * @param request the request to forward
+     * @return the request with the correlation ID header
+     */
+    private static ServerRequest forwardCorrelationId(ServerRequest request) {
+        String correlationId = MDC.get(LoggingConstants.CORRELATION_ID_LOG_KEY);
+        if (correlationId == null) {
+            return request;
+        }
+        return ServerRequest.from(request)
+                .headers(headers -> headers.set(LoggingConstants.CORRELATION_ID_HEADER, correlationId))
+                .build();
+    }
+}
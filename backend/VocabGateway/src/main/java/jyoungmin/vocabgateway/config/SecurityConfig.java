@@ -0,0 +1,57 @@
+package jyoungmin.vocabgateway.config;
+
+import jyoungmin.vocabcommons.security.JwtAuthenticationEntryPoint;
+import jyoungmin.vocabcommons.security.SecurityConfigHelper;
+import jyoungmin.vocabgateway.security.GatewayAuthenticationFilter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+
+/**
+ * Security configuration for the gateway.
+ * Word and list routes require a verified token; authentication routes are left to VocabAuth.
+ */
+@Configuration
+@EnableWebSecurity
+@RequiredArgsConstructor
+public class SecurityConfig {
+
+    /**
+     * Filter verifying tokens at the edge
+     */
+    private final GatewayAuthenticationFilter gatewayAuthenticationFilter;
+
+    /**
+     * Custom entry point for authentication failures
+     */
+    private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
+
+    /**
+     * Configures the security filter chain with edge JWT authentication.
+     *
+     * @param http the HTTP security configuration
+     * @return configured security filter chain
+     * @throws Exception if configuration fails
+     */
+    @Bean
+    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+        // Configure common stateless JWT security settings
+        SecurityConfigHelper.configureStatelessJwtSecurity(http);
+
+        http
+                .authorizeHttpRequests(auth -> auth
+                        .requestMatchers("/api/v1/word/**", "/api/v1/list/**").authenticated()
+                        .anyRequest().permitAll()  // VocabAuth authorizes its own routes
+                )
+                .exceptionHandling(exception -> exception
+                        .authenticationEntryPoint(jwtAuthenticationEntryPoint)
+                )
+                .addFilterBefore(gatewayAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+
+        return http.build();
+    }
+}
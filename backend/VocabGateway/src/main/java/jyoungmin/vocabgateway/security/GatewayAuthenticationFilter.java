@@ -0,0 +1,98 @@
+package jyoungmin.vocabgateway.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jyoungmin.vocabcommons.dto.UserInfo;
+import jyoungmin.vocabcommons.exception.BaseServiceException;
+import jyoungmin.vocabcommons.ratelimit.UserRateLimiter;
+import jyoungmin.vocabcommons.security.JwtFilterUtils;
+import jyoungmin.vocabgateway.config.GatewayRoutes;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Collections;
+
+/**
+ * Authenticates requests at the edge and applies the per-user gateway limit.
+ * Routes of the list service require a valid token; authentication service routes are passed through
+ * even with an invalid token (e.g. logout with an expired one), since VocabAuth checks them itself.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GatewayAuthenticationFilter extends OncePerRequestFilter {
+
+    /**
+     * Name of the per-user limit applied to every authenticated request
+     */
+    static final String RATE_LIMIT_NAME = "gateway";
+
+    /**
+     * Verifier for access tokens
+     */
+    private final GatewayJwtVerifier gatewayJwtVerifier;
+
+    /**
+     * Limiter holding the per-user buckets
+     */
+    private final UserRateLimiter userRateLimiter;
+
+    /**
+     * Verifies the bearer token, establishes the security context and takes a token from the caller's limit.
+     *
+     * @param request     the HTTP request
+     * @param response    the HTTP response
+     * @param filterChain the filter chain to continue processing
+     * @throws ServletException if a servlet error occurs
+     * @throws IOException      if an I/O error occurs
+     */
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        String token = JwtFilterUtils.resolveToken(request.getHeader(HttpHeaders.AUTHORIZATION));
+
+        if (token != null) {
+            UserInfo userInfo;
+            try {
+                userInfo = gatewayJwtVerifier.verify(token);
+            } catch (BaseServiceException e) {
+                if (GatewayRoutes.isListServicePath(request.getRequestURI())) {
+                    log.warn("Rejected token at gateway: {}", e.getMessage());
+                    JwtFilterUtils.sendErrorResponse(response, e.getErrorCode(), request.getRequestURI());
+                    return;
+                }
+                log.debug("Passing request with unverified token to auth service: {}", e.getMessage());
+                filterChain.doFilter(request, response);
+                return;
+            }
+
+            try {
+                userRateLimiter.acquire(RATE_LIMIT_NAME, userInfo.getId(), 1);
+            } catch (BaseServiceException e) {
+                log.warn("Rate limit exceeded at gateway for user {}", userInfo.getUserName());
+                JwtFilterUtils.sendErrorResponse(response, e.getErrorCode(), request.getRequestURI());
+                return;
+            }
+
+            SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                    userInfo,
+                    null,
+                    Collections.singletonList(new SimpleGrantedAuthority(userInfo.getRole()))
+            ));
+            JwtFilterUtils.addUserToMDC(userInfo.getUserName());
+        }
+
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,145 @@
+package jyoungmin.vocabgateway.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import jyoungmin.vocabcommons.constants.LoggingConstants;
+import jyoungmin.vocabcommons.dto.UserInfo;
+import jyoungmin.vocabcommons.exception.BaseServiceException;
+import jyoungmin.vocabcommons.exception.ErrorCode;
+import jyoungmin.vocabcommons.response.ApiResponse;
+import jyoungmin.vocabcommons.security.AccessTokenVerifier;
+import jyoungmin.vocabcommons.security.TokenRevocationReplica;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import java.time.Duration;
+
+/**
+ * Verifies access tokens at the edge with the shared {@link AccessTokenVerifier}.
+ * Tokens that verify but lack the identity claims (tokens issued before the claims existed, or "minimal"
+ * profile tokens missing the user ID or role) are resolved through VocabAuth's /me endpoint instead,
+ * and the result is cached briefly.
+ */
+@Slf4j
+@Component
+public class GatewayJwtVerifier {
+
+    /**
+     * Endpoint of VocabAuth returning the user of a token
+     */
+    private static final String USER_INFO_PATH = "/api/v1/auth/me";
+
+    /**
+     * Response type of the user info endpoint
+     */
+    private static final ParameterizedTypeReference<ApiResponse<UserInfo>> USER_INFO_RESPONSE =
+            new ParameterizedTypeReference<>() {
+            };
+
+    /**
+     * Shared verifier
+     */
+    private final AccessTokenVerifier verifier;
+
+    /**
+     * Client for VocabAuth, used for tokens without the identity claims
+     */
+    private final RestClient authClient;
+
+    /**
+     * Token to user information resolved by VocabAuth; revocation is still checked locally on every request
+     */
+    private final Cache<String, UserInfo> resolvedUsers;
+
+    /**
+     * Creates the verifier from the configured key source.
+     *
+     * @param secret            the secret shared with VocabAuth (optional when a JWKS URI is set)
+     * @param jwksUri           JWKS endpoint of VocabAuth, or empty to verify with the shared secret
+     * @param refreshInterval   interval between background JWKS refreshes
+     * @param acceptHmac        whether tokens without a "kid" header are verified with the secret when a JWKS
+     *                          URI is set, while migrating from HS256
+     * @param revocationReplica local replica of the token revocation deny-list
+     * @param authUrl           base URL of VocabAuth
+     * @param resolvedUserTtl   how long users resolved by VocabAuth are cached
+     * @throws IllegalStateException if neither a secret nor a JWKS URI is set
+     */
+    public GatewayJwtVerifier(@Value("${jwt.secret:}") String secret,
+                              @Value("${jwt.jwks-uri:}") String jwksUri,
+                              @Value("${jwt.jwks-refresh-interval:5m}") Duration refreshInterval,
+                              @Value("${jwt.signing.accept-hmac:false}") boolean acceptHmac,
+                              TokenRevocationReplica revocationReplica,
+                              @Value("${gateway.routes.auth-url}") String authUrl,
+                              @Value("${jwt.resolved-user-ttl:1m}") Duration resolvedUserTtl) {
+        this.verifier = new AccessTokenVerifier(secret, jwksUri, refreshInterval, acceptHmac, revocationReplica);
+        this.authClient = RestClient.builder().baseUrl(authUrl).build();
+        this.resolvedUsers = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(resolvedUserTtl)
+                .build();
+        log.info("Gateway JWT verification keys: {}", verifier.getKeySource());
+    }
+
+    /**
+     * Stops the background JWKS refresh.
+     */
+    @PreDestroy
+    public void close() {
+        verifier.close();
+    }
+
+    /**
+     * Verifies the token signature, expiry and revocation and builds user information from its claims,
+     * asking VocabAuth when the token lacks them.
+     *
+     * @param token the JWT access token (without "Bearer " prefix)
+     * @return user information of the token owner
+     * @throws BaseServiceException if the token is expired, invalid, or revoked, or VocabAuth cannot resolve it
+     */
+    public UserInfo verify(String token) {
+        return verifier.verify(token)
+                .orElseGet(() -> resolvedUsers.get(token, this::resolve));
+    }
+
+    /**
+     * Asks VocabAuth for the user of a verified token without the identity claims.
+     *
+     * @param token the JWT access token
+     * @return user information of the token owner
+     * @throws BaseServiceException if VocabAuth rejects the token or cannot be reached
+     */
+    private UserInfo resolve(String token) {
+        log.debug("Token lacks the identity claims, resolving it with the auth service");
+        ApiResponse<UserInfo> response;
+        try {
+            response = authClient.get()
+                    .uri(USER_INFO_PATH)
+                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                    .headers(headers -> {
+                        String correlationId = MDC.get(LoggingConstants.CORRELATION_ID_LOG_KEY);
+                        if (correlationId != null) {
+                            headers.set(LoggingConstants.CORRELATION_ID_HEADER, correlationId);
+                        }
+                    })
+                    .retrieve()
+                    .body(USER_INFO_RESPONSE);
+        } catch (HttpClientErrorException e) {
+            throw new BaseServiceException(ErrorCode.INVALID_TOKEN, "Auth service rejected the token: " + e.getStatusCode());
+        } catch (RestClientException e) {
+            throw new BaseServiceException(ErrorCode.AUTH_SERVICE_UNAVAILABLE, "Auth service is unavailable: " + e.getMessage());
+        }
+
+        if (response == null || response.getData() == null) {
+            throw new BaseServiceException(ErrorCode.INVALID_TOKEN, "Auth service returned no user for the token");
+        }
+        return response.getData();
+    }
+}
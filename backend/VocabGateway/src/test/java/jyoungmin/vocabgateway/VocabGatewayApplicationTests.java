@@ -0,0 +1,13 @@
+package jyoungmin.vocabgateway;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class VocabGatewayApplicationTests {
+
+    @Test
+    void contextLoads() {
+    }
+
+}
@@ -0,0 +1,25 @@
+package jyoungmin.vocabgateway.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.servlet.function.ServerRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GatewayRoutesTests {
+
+    @Test
+    void clientAddressReplacesAForwardedForHeaderSentByTheClient() {
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest("POST", "/api/v1/auth/login");
+        servletRequest.setRemoteAddr("203.0.113.7");
+        servletRequest.addHeader(GatewayRoutes.FORWARDED_FOR_HEADER, "10.0.0.1");
+        ServerRequest request = ServerRequest.create(servletRequest, List.of(new StringHttpMessageConverter()));
+
+        ServerRequest forwarded = GatewayRoutes.forwardClientAddress(request);
+
+        assertThat(forwarded.headers().header(GatewayRoutes.FORWARDED_FOR_HEADER)).containsExactly("203.0.113.7");
+    }
+}
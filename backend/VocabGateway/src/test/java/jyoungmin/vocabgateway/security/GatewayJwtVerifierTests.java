@@ -0,0 +1,101 @@
+package jyoungmin.vocabgateway.security;
+
+import com.sun.net.httpserver.HttpServer;
+import io.jsonwebtoken.Jwts;
+import jyoungmin.vocabcommons.dto.UserInfo;
+import jyoungmin.vocabcommons.exception.BaseServiceException;
+import jyoungmin.vocabcommons.exception.ErrorCode;
+import jyoungmin.vocabcommons.security.JwtKeys;
+import jyoungmin.vocabcommons.security.TokenRevocationReplica;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Verifies tokens without the identity claims against a local stand-in for VocabAuth's /me endpoint.
+ */
+class GatewayJwtVerifierTests {
+
+    private static final String SECRET = "a-shared-secret-that-is-long-enough-for-hs256";
+
+    /**
+     * Number of /me requests served
+     */
+    private final AtomicInteger lookups = new AtomicInteger();
+
+    /**
+     * Status returned by the /me endpoint
+     */
+    private volatile int status = 200;
+
+    private HttpServer server;
+    private GatewayJwtVerifier verifier;
+
+    @BeforeEach
+    void startAuthService() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/api/v1/auth/me", exchange -> {
+            lookups.incrementAndGet();
+            byte[] body = ("{\"status\":" + status + ",\"data\":{\"id\":7,\"userName\":\"alice\",\"role\":\"USER\",\"enabled\":true}}")
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+
+        TokenRevocationReplica noRevocations = new TokenRevocationReplica(false, Duration.ofSeconds(30), null, null);
+        verifier = new GatewayJwtVerifier(SECRET, "", Duration.ofMinutes(5), false, noRevocations,
+                "http://127.0.0.1:" + server.getAddress().getPort(), Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void stopAuthService() {
+        verifier.close();
+        server.stop(0);
+    }
+
+    @Test
+    void tokensWithoutIdentityClaimsAreResolvedByTheAuthServiceOnce() {
+        String token = minimalToken();
+
+        UserInfo first = verifier.verify(token);
+        UserInfo second = verifier.verify(token);
+
+        assertThat(first.getId()).isEqualTo(7L);
+        assertThat(first.getRole()).isEqualTo("USER");
+        assertThat(second).isEqualTo(first);
+        assertThat(lookups).hasValue(1);
+    }
+
+    @Test
+    void tokensRejectedByTheAuthServiceAreInvalid() {
+        status = 401;
+
+        assertThatThrownBy(() -> verifier.verify(minimalToken()))
+                .isInstanceOf(BaseServiceException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.INVALID_TOKEN);
+    }
+
+    private static String minimalToken() {
+        return Jwts.builder()
+                .subject("alice")
+                .claim("auth", "ROLE_USER")
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(JwtKeys.hmacKey(SECRET))
+                .compact();
+    }
+}
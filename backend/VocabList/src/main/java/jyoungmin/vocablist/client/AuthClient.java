@@ -1,10 +1,17 @@
 package jyoungmin.vocablist.client;
 
+import jyoungmin.vocabcommons.dto.IntrospectionRequest;
+import jyoungmin.vocabcommons.dto.IntrospectionResult;
 import jyoungmin.vocabcommons.dto.UserInfo;
+import jyoungmin.vocabcommons.response.ApiResponse;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 
+import java.util.List;
+
 /**
  * Feign client for communicating with the VocabAuth authentication service.
  * Provides methods for token validation and user information retrieval.
@@ -21,4 +28,13 @@ public interface AuthClient {
      */
     @GetMapping("/api/v1/auth/me")
     UserInfo getAuthenticatedUser(@RequestHeader("Authorization") String authorizationHeader);
+
+    /**
+     * Introspects several access tokens in one call.
+     *
+     * @param request the tokens to introspect
+     * @return one result per token, in request order
+     */
+    @PostMapping("/api/v1/auth/introspect")
+    ApiResponse<List<IntrospectionResult>> introspect(@RequestBody IntrospectionRequest request);
 }
@@ -0,0 +1,44 @@
+package jyoungmin.vocablist.client;
+
+import feign.FeignException;
+import jyoungmin.vocabcommons.exception.ErrorCode;
+import jyoungmin.vocablist.exception.VocabException;
+
+import java.util.function.Predicate;
+
+/**
+ * Decides which auth service call failures indicate an outage.
+ * Used as the circuit breaker failure predicate so that rejected tokens (401/403) never open the circuit,
+ * while connection failures, timeouts and 5xx responses do.
+ */
+public class AuthServiceFailurePredicate implements Predicate<Throwable> {
+
+    /**
+     * Checks whether a failure indicates that the auth service is unavailable.
+     *
+     * @param throwable the failure thrown by the auth client
+     * @return true for connection errors, timeouts and 5xx responses
+     */
+    @Override
+    public boolean test(Throwable throwable) {
+        return isOutage(throwable);
+    }
+
+    /**
+     * Checks whether a failure indicates that the auth service is unavailable.
+     *
+     * @param throwable the failure thrown by the auth client
+     * @return true for connection errors, timeouts and 5xx responses
+     */
+    public static boolean isOutage(Throwable throwable) {
+        if (throwable instanceof VocabException e) {
+            return e.getErrorCode() == ErrorCode.AUTH_SERVICE_UNAVAILABLE
+                    || e.getErrorCode() == ErrorCode.AUTH_SERVICE_ERROR;
+        }
+        if (throwable instanceof FeignException e) {
+            // Status -1 means no response was received (connection refused, timeout)
+            return e.status() < 0 || e.status() >= 500;
+        }
+        return false;
+    }
+}
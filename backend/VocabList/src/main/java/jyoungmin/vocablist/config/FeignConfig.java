@@ -1,23 +1,36 @@
 package jyoungmin.vocablist.config;
 
+import feign.Client;
 import feign.Request;
 import feign.RequestInterceptor;
 import feign.RequestTemplate;
 import feign.Response;
 import feign.Retryer;
 import feign.codec.ErrorDecoder;
+import feign.hc5.ApacheHttp5Client;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jyoungmin.vocabcommons.constants.JwtConstants;
 import jyoungmin.vocabcommons.exception.ErrorCode;
 import jyoungmin.vocablist.exception.VocabException;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
 import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import java.util.concurrent.TimeUnit;
+import java.time.Duration;
 
 /**
  * Feign client configuration for inter-service communication.
- * Configures request interceptors, timeouts, retry logic, and error decoding.
+ * Configures the pooled HTTP transport, request interceptors, timeouts, retry logic, and error decoding.
  */
 @Slf4j
 @Configuration
@@ -34,9 +47,136 @@ public class FeignConfig {
     private static final String CORRELATION_ID_LOG_KEY = "correlationId";
 
     /**
-     * Configures request interceptor to propagate correlation ID across services.
+     * Credential sent with token introspection calls, empty to send none
+     */
+    @Value("${server.auth.introspect-secret:}")
+    private String introspectionSecret;
+
+    /**
+     * Maximum number of pooled connections across all routes
+     */
+    @Value("${server.auth.pool.max-connections:200}")
+    private int maxConnections;
+
+    /**
+     * Maximum number of pooled connections per route (host)
+     */
+    @Value("${server.auth.pool.max-connections-per-route:100}")
+    private int maxConnectionsPerRoute;
+
+    /**
+     * Idle time after which pooled connections are closed
+     */
+    @Value("${server.auth.pool.idle-eviction:30s}")
+    private Duration idleEviction;
+
+    /**
+     * Maximum lifetime of a pooled connection
+     */
+    @Value("${server.auth.pool.time-to-live:5m}")
+    private Duration timeToLive;
+
+    /**
+     * Connection timeout for auth service calls
+     */
+    @Value("${server.auth.timeout.connect:1s}")
+    private Duration connectTimeout;
+
+    /**
+     * Read timeout for auth service calls
+     */
+    @Value("${server.auth.timeout.read:2s}")
+    private Duration readTimeout;
+
+    /**
+     * Maximum number of attempts per call, including the first one
+     */
+    @Value("${server.auth.retry.max-attempts:2}")
+    private int maxAttempts;
+
+    /**
+     * Initial wait between attempts
+     */
+    @Value("${server.auth.retry.period:50ms}")
+    private Duration retryPeriod;
+
+    /**
+     * Maximum wait between attempts
+     */
+    @Value("${server.auth.retry.max-period:200ms}")
+    private Duration retryMaxPeriod;
+
+    /**
+     * Creates the bounded keep-alive connection pool shared by all Feign clients.
+     *
+     * @return pooling connection manager
+     */
+    @Bean
+    public PoolingHttpClientConnectionManager feignConnectionManager() {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setTimeToLive(TimeValue.of(timeToLive))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .build();
+    }
+
+    /**
+     * Creates the Apache HttpClient 5 instance used by Feign.
+     * A background thread closes expired connections and connections idle longer than the eviction time.
      *
-     * @return request interceptor with correlation ID header
+     * @param connectionManager the pooling connection manager
+     * @return HTTP client backed by the connection pool
+     */
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient feignHttpClient(PoolingHttpClientConnectionManager connectionManager) {
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(idleEviction))
+                .disableAutomaticRetries() // Retries are handled by the Feign retryer
+                .build();
+    }
+
+    /**
+     * Replaces Feign's default HttpURLConnection transport with the pooled HTTP client.
+     *
+     * @param httpClient the pooled HTTP client
+     * @return Feign client
+     */
+    @Bean
+    public Client feignClient(CloseableHttpClient httpClient) {
+        return new ApacheHttp5Client(httpClient);
+    }
+
+    /**
+     * Publishes connection pool usage as "http.client.pool.*" gauges.
+     *
+     * @param connectionManager the pooling connection manager
+     * @return meter binder registering the pool gauges
+     */
+    @Bean
+    public MeterBinder feignConnectionPoolMetrics(PoolingHttpClientConnectionManager connectionManager) {
+        return registry -> {
+            Tags tags = Tags.of("client", "feign");
+            Gauge.builder("http.client.pool.leased", connectionManager, manager -> manager.getTotalStats().getLeased())
+                    .tags(tags).description("Connections currently in use").register(registry);
+            Gauge.builder("http.client.pool.available", connectionManager, manager -> manager.getTotalStats().getAvailable())
+                    .tags(tags).description("Idle connections kept alive in the pool").register(registry);
+            Gauge.builder("http.client.pool.pending", connectionManager, manager -> manager.getTotalStats().getPending())
+                    .tags(tags).description("Requests waiting for a connection").register(registry);
+            Gauge.builder("http.client.pool.max", connectionManager, manager -> manager.getTotalStats().getMax())
+                    .tags(tags).description("Maximum number of connections").register(registry);
+        };
+    }
+
+    /**
+     * Configures request interceptor to propagate correlation ID across services
+     * and to authenticate token introspection calls.
+     *
+     * @return request interceptor with correlation ID and introspection credential headers
      */
     @Bean
     public RequestInterceptor requestInterceptor() {
@@ -47,30 +187,34 @@ public class FeignConfig {
                 if (correlationId != null) {
                     template.header(CORRELATION_ID_HEADER, correlationId);
                 }
+                if (!introspectionSecret.isEmpty() && template.path().endsWith("/introspect")) {
+                    template.header(JwtConstants.INTROSPECTION_CREDENTIAL_HEADER, introspectionSecret);
+                }
             }
         };
     }
 
     /**
      * Configures request timeouts for Feign clients.
-     * Connection timeout: 5 seconds, Read timeout: 10 seconds
+     * Defaults to a 1 second connection timeout and a 2 second read timeout, so that a slow auth
+     * service trips the circuit breaker quickly instead of holding request threads.
      *
      * @return configured request options
      */
     @Bean
     public Request.Options requestOptions() {
-        return new Request.Options(5, TimeUnit.SECONDS, 10, TimeUnit.SECONDS, true);
+        return new Request.Options(connectTimeout, readTimeout, true);
     }
 
     /**
      * Configures retry logic for failed requests.
-     * Retry period: 100ms, max period: 1s, max attempts: 3
+     * Defaults to a retry period of 50ms, a max period of 200ms and 2 attempts.
      *
      * @return configured retryer
      */
     @Bean
     public Retryer retryer() {
-        return new Retryer.Default(100, TimeUnit.SECONDS.toMillis(1), 3);
+        return new Retryer.Default(retryPeriod.toMillis(), retryMaxPeriod.toMillis(), maxAttempts);
     }
 
     /**
@@ -1,5 +1,7 @@
 package jyoungmin.vocablist.config;
 
+import jakarta.servlet.DispatcherType;
+import jyoungmin.vocabcommons.security.InternalIdentityFilter;
 import jyoungmin.vocabcommons.security.JwtAuthenticationEntryPoint;
 import jyoungmin.vocabcommons.security.SecurityConfigHelper;
 import jyoungmin.vocablist.security.JwtAuthenticationFilter;
@@ -14,6 +16,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 /**
  * Security configuration for the vocabulary list service.
  * Configures JWT-based authentication and authorization rules.
+ * Requests forwarded by the gateway are authenticated from the internal identity header first.
  */
 @Configuration
 @EnableWebSecurity
@@ -25,6 +28,11 @@ public class SecurityConfig {
      */
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
 
+    /**
+     * Filter trusting identities forwarded by the gateway
+     */
+    private final InternalIdentityFilter internalIdentityFilter;
+
     /**
      * Custom entry point for authentication failures
      */
@@ -47,13 +55,16 @@ public class SecurityConfig {
 
         http
                 .authorizeHttpRequests(auth -> auth
+                        // Completion dispatches of streaming responses; the initial request was already authorized
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/api/**").authenticated()  // All API paths require authentication
                         .anyRequest().permitAll()  // Allow all other requests
                 )
                 .exceptionHandling(exception -> exception
                         .authenticationEntryPoint(jwtAuthenticationEntryPoint)  // Custom response on authentication failure
                 )
-                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(internalIdentityFilter, JwtAuthenticationFilter.class);
 
         return http.build();
     }
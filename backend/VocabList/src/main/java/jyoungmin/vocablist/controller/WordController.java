@@ -2,13 +2,20 @@ package jyoungmin.vocablist.controller;
 
 import jakarta.validation.Valid;
 import jyoungmin.vocabcommons.response.ApiResponse;
+import jyoungmin.vocablist.dto.BulkWordRequest;
+import jyoungmin.vocablist.dto.WordPage;
 import jyoungmin.vocablist.dto.WordRequest;
 import jyoungmin.vocablist.dto.WordResponse;
+import jyoungmin.vocablist.service.BulkWordService;
+import jyoungmin.vocablist.service.WordExportService;
 import jyoungmin.vocablist.service.WordService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * REST controller for vocabulary word operations.
@@ -24,6 +31,16 @@ public class WordController {
      */
     private final WordService wordService;
 
+    /**
+     * Service for streaming exports
+     */
+    private final WordExportService wordExportService;
+
+    /**
+     * Service for creating many words at once
+     */
+    private final BulkWordService bulkWordService;
+
     /**
      * Saves a new word to the database.
      * If listId is specified, saves to that list; otherwise uses default list.
@@ -39,28 +56,62 @@ public class WordController {
     }
 
     /**
-     * Retrieves all words in a specific list.
+     * Saves many words in one request.
+     * Each word follows the rules of {@link #saveWord}; words the user already has are reported as duplicates.
+     *
+     * @param bulkWordRequest the words to save
+     * @return response containing the result of each word, in request order
+     */
+    @PostMapping("/save/bulk")
+    public ResponseEntity<ApiResponse<java.util.List<WordResponse>>> saveWords(@Valid @RequestBody BulkWordRequest bulkWordRequest) {
+        java.util.List<WordResponse> results = bulkWordService.saveWordsToDb(bulkWordRequest.getWords());
+        return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success(HttpStatus.CREATED, ApiResponse.Messages.WORDS_CREATED, results));
+    }
+
+    /**
+     * Retrieves one page of the words in a specific list, oldest first.
      *
      * @param listId the list ID to retrieve words from
-     * @return response containing words in the list
+     * @param cursor continuation token from the previous page (optional)
+     * @param size   number of words per page (optional, capped)
+     * @return response containing the page and the next page's cursor
      */
     @GetMapping(params = "listId")
-    public ResponseEntity<ApiResponse<java.util.List<WordResponse>>> getWordsByListId(@RequestParam long listId) {
-        java.util.List<WordResponse> words = wordService.getWordsByListId(listId);
+    public ResponseEntity<ApiResponse<WordPage>> getWordsByListId(@RequestParam long listId,
+                                                                  @RequestParam(required = false) String cursor,
+                                                                  @RequestParam(required = false) Integer size) {
+        WordPage words = wordService.getWordsByListId(listId, cursor, size);
         return ResponseEntity.ok(ApiResponse.success(ApiResponse.Messages.WORDS_RETRIEVED, words));
     }
 
     /**
-     * Retrieves all words belonging to the authenticated user.
+     * Retrieves one page of the words belonging to the authenticated user, oldest first.
      *
-     * @return response containing all user's words
+     * @param cursor continuation token from the previous page (optional)
+     * @param size   number of words per page (optional, capped)
+     * @return response containing the page and the next page's cursor
      */
     @GetMapping
-    public ResponseEntity<ApiResponse<java.util.List<WordResponse>>> getWordsByUserId() {
-        java.util.List<WordResponse> words = wordService.getWordsByUserId();
+    public ResponseEntity<ApiResponse<WordPage>> getWordsByUserId(@RequestParam(required = false) String cursor,
+                                                                  @RequestParam(required = false) Integer size) {
+        WordPage words = wordService.getWordsByUserId(cursor, size);
         return ResponseEntity.ok(ApiResponse.success(ApiResponse.Messages.WORDS_RETRIEVED, words));
     }
 
+    /**
+     * Streams all words of the authenticated user as newline-delimited JSON, one word per line.
+     *
+     * @return streaming response with the words as an attachment
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportWords() {
+        StreamingResponseBody body = wordExportService.exportWords();
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"words.ndjson\"")
+                .body(body);
+    }
+
     /**
      * Deletes a word by ID.
      *
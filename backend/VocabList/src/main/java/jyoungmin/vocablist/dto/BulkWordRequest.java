@@ -0,0 +1,19 @@
+package jyoungmin.vocablist.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Data transfer object for creating many words at once.
+ */
+@Data
+public class BulkWordRequest {
+    /**
+     * Words to create, each validated like a single word request
+     */
+    @NotEmpty(message = "At least one word is required")
+    private List<@Valid WordRequest> words;
+}
@@ -0,0 +1,24 @@
+package jyoungmin.vocablist.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * One page of a word listing.
+ * Pass {@code nextCursor} back as the "cursor" parameter to fetch the following page.
+ */
+@Data
+@Builder
+public class WordPage {
+    /**
+     * Words of the page, oldest first
+     */
+    private List<WordResponse> words;
+
+    /**
+     * Continuation token of the next page, null on the last page
+     */
+    private String nextCursor;
+}
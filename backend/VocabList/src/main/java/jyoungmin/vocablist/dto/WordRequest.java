@@ -1,6 +1,10 @@
 package jyoungmin.vocablist.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import jyoungmin.vocablist.entity.Word;
 import lombok.Data;
 
 /**
@@ -13,12 +17,14 @@ public class WordRequest {
      * The vocabulary word to save
      */
     @NotBlank(message = "Word is required")
+    @Size(max = Word.MAX_LENGTH, message = "Word must be at most 255 characters")
     private String word;
 
     /**
      * Translation or meaning of the word
      */
     @NotBlank(message = "Meaning is required")
+    @Size(max = Word.MAX_LENGTH, message = "Meaning must be at most 255 characters")
     private String meaning;
 
     /**
@@ -29,10 +35,22 @@ public class WordRequest {
     /**
      * Furigana reading for Japanese words (optional, validated if word contains Japanese)
      */
+    @Size(max = Word.MAX_LENGTH, message = "Furigana must be at most 255 characters")
     private String furigana;
 
     /**
      * ID of the list to save word to (optional, uses default list if null)
      */
     private Long listId;
+
+    /**
+     * Checks that the normalized word still fits its column; normalization can expand some characters.
+     *
+     * @return true if the uniqueness key of the word is short enough
+     */
+    @JsonIgnore
+    @AssertTrue(message = "Word must be at most 255 characters")
+    public boolean isWordKeyWithinLimit() {
+        return word == null || Word.keyOf(word).length() <= Word.MAX_LENGTH;
+    }
 }
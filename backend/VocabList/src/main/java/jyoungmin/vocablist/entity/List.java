@@ -13,6 +13,10 @@ import java.time.LocalDateTime;
  * Each list belongs to a user and contains multiple words.
  */
 @Entity
+@Table(indexes = {
+        // Lists of a user and the default (oldest) list
+        @Index(name = "idx_list_user_created", columnList = "userId, createdAt")
+})
 @Data
 @Builder
 @NoArgsConstructor
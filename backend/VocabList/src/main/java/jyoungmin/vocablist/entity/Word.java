@@ -1,23 +1,41 @@
 package jyoungmin.vocablist.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
+import java.text.Normalizer;
 import java.time.LocalDateTime;
+import java.util.Locale;
 
 /**
  * Entity representing a vocabulary word.
  * Supports Japanese words with furigana readings.
  */
 @Entity
+@Table(indexes = {
+        // Keyset pagination seeks on (owner, createdAt, id)
+        @Index(name = "idx_word_user_created", columnList = "userId, createdAt, id"),
+        @Index(name = "idx_word_list_created", columnList = "listId, createdAt, id")
+}, uniqueConstraints = {
+        // A user has each word once; inserts detect duplicates through this index
+        @UniqueConstraint(name = "uk_word_owner_word_key", columnNames = {"userId", "wordKey"})
+})
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class Word {
+    /**
+     * Maximum length of the text columns
+     */
+    public static final int MAX_LENGTH = 255;
+
     /**
      * Unique identifier for the word
      */
@@ -31,6 +49,14 @@ public class Word {
     @Column(nullable = false, unique = false)
     private String word;
 
+    /**
+     * Normalized form of the word used for per-user uniqueness, see {@link #keyOf(String)}.
+     * Compared byte-wise so that only the normalization decides which words are equal.
+     */
+    @JsonIgnore
+    @Column(columnDefinition = "varchar(255) character set utf8mb4 collate utf8mb4_bin")
+    private String wordKey;
+
     /**
      * Whether the user has memorized this word
      */
@@ -64,6 +90,7 @@ public class Word {
     /**
      * Timestamp when the word was created
      */
+    @Column(nullable = false)
     private LocalDateTime createdAt;
 
     /**
@@ -71,6 +98,15 @@ public class Word {
      */
     private LocalDateTime modifiedAt;
 
+    /**
+     * The word as loaded from the database, so updates only recompute the key when the text changes
+     */
+    @Transient
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private String loadedWord;
+
     /**
      * Automatically sets creation and modification timestamps when entity is persisted.
      */
@@ -78,13 +114,39 @@ public class Word {
     protected void onCreate() {
         this.createdAt = LocalDateTime.now();
         this.modifiedAt = LocalDateTime.now();
+        this.wordKey = keyOf(word);
+    }
+
+    /**
+     * Remembers the loaded word text for {@link #onUpdate()}.
+     */
+    @PostLoad
+    protected void onLoad() {
+        this.loadedWord = word;
     }
 
     /**
-     * Automatically updates the modification timestamp when entity is updated.
+     * Automatically updates the modification timestamp when entity is updated, and the uniqueness key
+     * when the word text changed. Legacy duplicates the backfill left without a key keep none while
+     * only their other fields are edited.
      */
     @PreUpdate
     protected void onUpdate() {
         this.modifiedAt = LocalDateTime.now();
+        if (!word.equals(loadedWord)) {
+            this.wordKey = keyOf(word);
+            this.loadedWord = word;
+        }
+    }
+
+    /**
+     * Normalizes a word for duplicate detection: surrounding whitespace is removed, compatibility
+     * characters such as half-width katakana are unified (NFKC), and letters are lower-cased.
+     *
+     * @param word the word as entered
+     * @return the uniqueness key
+     */
+    public static String keyOf(String word) {
+        return Normalizer.normalize(word.strip(), Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
     }
 }
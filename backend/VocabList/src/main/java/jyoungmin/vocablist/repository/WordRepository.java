@@ -1,18 +1,62 @@
 package jyoungmin.vocablist.repository;
 
 import jyoungmin.vocablist.entity.Word;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
-public interface WordRepository extends JpaRepository<Word, Long> {
-    List<Word> findByWordAndUserId(String word, long userId);
-
+public interface WordRepository extends JpaRepository<Word, Long>, WordRepositoryCustom {
     List<Word> findByIdAndUserId(long id, long userId);
 
-    List<Word> getWordsByListId(long listId);
+    Word getWordByidAndUserId(long id, long userId);
 
-    List<Word> getWordsByUserId(long userId);
+    /**
+     * Returns which of the given uniqueness keys the user already has, using the (user_id, word_key) unique index.
+     */
+    @Query("select w.wordKey from Word w where w.userId = :userId and w.wordKey in :wordKeys")
+    List<String> findExistingWordKeys(@Param("userId") long userId, @Param("wordKeys") Collection<String> wordKeys);
 
-    Word getWordByidAndUserId(long id, long userId);
+    /**
+     * Returns the first words of a user in (createdAt, id) order, using the (user_id, created_at, id) index.
+     */
+    List<Word> findByUserIdOrderByCreatedAtAscIdAsc(long userId, Limit limit);
+
+    /**
+     * Returns the words of a user after a keyset position in (createdAt, id) order.
+     * The seek condition is an index range scan, so later pages cost the same as the first one.
+     */
+    @Query("""
+            select w from Word w
+            where w.userId = :userId
+              and (w.createdAt > :createdAt or (w.createdAt = :createdAt and w.id > :id))
+            order by w.createdAt, w.id
+            """)
+    List<Word> findByUserIdAfter(@Param("userId") long userId,
+                                 @Param("createdAt") LocalDateTime createdAt,
+                                 @Param("id") long id,
+                                 Limit limit);
+
+    /**
+     * Returns the first words of a list in (createdAt, id) order, using the (list_id, created_at, id) index.
+     */
+    List<Word> findByListIdOrderByCreatedAtAscIdAsc(long listId, Limit limit);
+
+    /**
+     * Returns the words of a list after a keyset position in (createdAt, id) order.
+     */
+    @Query("""
+            select w from Word w
+            where w.listId = :listId
+              and (w.createdAt > :createdAt or (w.createdAt = :createdAt and w.id > :id))
+            order by w.createdAt, w.id
+            """)
+    List<Word> findByListIdAfter(@Param("listId") long listId,
+                                 @Param("createdAt") LocalDateTime createdAt,
+                                 @Param("id") long id,
+                                 Limit limit);
 }
@@ -0,0 +1,18 @@
+package jyoungmin.vocablist.repository;
+
+import jyoungmin.vocablist.entity.Word;
+
+/**
+ * Word writes that JPA cannot express in one statement.
+ */
+public interface WordRepositoryCustom {
+
+    /**
+     * Inserts a word unless the user already has it, in one atomic statement.
+     * The per-user unique key decides, so concurrent saves of the same word create it only once.
+     *
+     * @param word the word to insert; its key, timestamps and, if inserted, ID are set
+     * @return true if the word was inserted, false if it already existed
+     */
+    boolean insertIfAbsent(Word word);
+}
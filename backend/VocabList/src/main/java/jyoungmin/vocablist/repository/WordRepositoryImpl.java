@@ -0,0 +1,66 @@
+package jyoungmin.vocablist.repository;
+
+import jyoungmin.vocablist.entity.Word;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * JDBC implementation of {@link WordRepositoryCustom}.
+ */
+@RequiredArgsConstructor
+public class WordRepositoryImpl implements WordRepositoryCustom {
+
+    /**
+     * Insert that leaves the existing row untouched when it conflicts with the (user_id, word_key) unique key.
+     * Unlike INSERT IGNORE, every other error (truncation, foreign keys) still fails the statement.
+     * The no-op update assigns no auto-increment id, so a missing generated key marks a duplicate
+     * regardless of whether the driver reports found or affected rows.
+     */
+    private static final String INSERT_IF_ABSENT_SQL = """
+            INSERT INTO word (word, word_key, meaning, furigana, is_memorized, user_id, list_id, created_at, modified_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE id = id
+            """;
+
+    /**
+     * Template for the insert
+     */
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean insertIfAbsent(Word word) {
+        LocalDateTime now = LocalDateTime.now();
+        word.setWordKey(Word.keyOf(word.getWord()));
+        word.setCreatedAt(now);
+        word.setModifiedAt(now);
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        int inserted = jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(INSERT_IF_ABSENT_SQL, Statement.RETURN_GENERATED_KEYS);
+            statement.setString(1, word.getWord());
+            statement.setString(2, word.getWordKey());
+            statement.setString(3, word.getMeaning());
+            statement.setString(4, word.getFurigana());
+            statement.setBoolean(5, word.isMemorized());
+            statement.setLong(6, word.getUserId());
+            statement.setLong(7, word.getListId());
+            statement.setTimestamp(8, Timestamp.valueOf(now));
+            statement.setTimestamp(9, Timestamp.valueOf(now));
+            return statement;
+        }, keyHolder);
+
+        Number id = keyHolder.getKey();
+        if (inserted == 0 || id == null || id.longValue() == 0) {
+            return false;
+        }
+        word.setId(id.longValue());
+        return true;
+    }
+}
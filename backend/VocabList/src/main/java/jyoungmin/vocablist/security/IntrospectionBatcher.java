@@ -0,0 +1,267 @@
+package jyoungmin.vocablist.security;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import jakarta.annotation.PreDestroy;
+import jyoungmin.vocabcommons.constants.LoggingConstants;
+import jyoungmin.vocabcommons.dto.IntrospectionRequest;
+import jyoungmin.vocabcommons.dto.IntrospectionResult;
+import jyoungmin.vocabcommons.dto.UserInfo;
+import jyoungmin.vocabcommons.exception.ErrorCode;
+import jyoungmin.vocabcommons.response.ApiResponse;
+import jyoungmin.vocablist.client.AuthClient;
+import jyoungmin.vocablist.exception.VocabException;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micro-batches token lookups against the auth service's introspection endpoint.
+ * Lookups arriving within the batching window, or until the batch is full, are sent in one call,
+ * so a high request rate costs a few batched round trips instead of one /me call per token.
+ * A single dispatcher thread collects batches; each batch is sent on its own virtual thread,
+ * so a slow call does not hold back the next batch.
+ * Each call is recorded once in the "auth-service" circuit breaker, however many lookups it carries.
+ *
+ * <p>Batching needs {@code server.auth.introspect-secret}: without it VocabAuth treats the calls as coming
+ * from an anonymous client and caps them with its per-IP limit, so batching is turned off instead.</p>
+ */
+@Slf4j
+@Component
+public class IntrospectionBatcher {
+
+    /**
+     * Feign client for communicating with the authentication service
+     */
+    private final AuthClient authClient;
+
+    /**
+     * Circuit breaker guarding auth service calls
+     */
+    private final CircuitBreaker circuitBreaker;
+
+    /**
+     * Whether lookups are batched; when disabled, callers use /me directly
+     */
+    private final boolean enabled;
+
+    /**
+     * Maximum number of tokens sent in one call
+     */
+    private final int maxBatchSize;
+
+    /**
+     * How long the first lookup of a batch waits for more lookups to join it
+     */
+    private final long windowNanos;
+
+    /**
+     * Lookups waiting to be sent
+     */
+    private final BlockingQueue<PendingLookup> queue = new LinkedBlockingQueue<>();
+
+    /**
+     * Executor sending batches to the auth service
+     */
+    private final ExecutorService senders;
+
+    /**
+     * Thread collecting queued lookups into batches
+     */
+    private final Thread dispatcher;
+
+    /**
+     * Whether the batcher accepts and dispatches lookups
+     */
+    private volatile boolean running;
+
+    /**
+     * Creates the batcher and starts its dispatcher thread when enabled.
+     *
+     * @param authClient             Feign client for the authentication service
+     * @param circuitBreakerRegistry registry providing the "auth-service" circuit breaker
+     * @param enabled                whether lookups are batched
+     * @param maxBatchSize           maximum number of tokens sent in one call
+     * @param window                 how long a batch waits for more lookups before it is sent
+     * @param introspectSecret       credential VocabAuth expects on introspection calls; batching is
+     *                               disabled when it is empty
+     */
+    public IntrospectionBatcher(AuthClient authClient,
+                                CircuitBreakerRegistry circuitBreakerRegistry,
+                                @Value("${server.auth.introspect.batching.enabled:true}") boolean enabled,
+                                @Value("${server.auth.introspect.batching.max-batch-size:64}") int maxBatchSize,
+                                @Value("${server.auth.introspect.batching.window:2ms}") Duration window,
+                                @Value("${server.auth.introspect-secret:}") String introspectSecret) {
+        this.authClient = authClient;
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(RemoteUserInfoResolver.CIRCUIT_BREAKER_NAME);
+        if (enabled && !StringUtils.hasText(introspectSecret)) {
+            log.warn("server.auth.introspect-secret is not set; introspection batching is disabled " +
+                    "and tokens are resolved one by one through /me");
+            enabled = false;
+        }
+        this.enabled = enabled;
+        this.maxBatchSize = maxBatchSize;
+        this.windowNanos = window.toNanos();
+        this.senders = Executors.newVirtualThreadPerTaskExecutor();
+        this.dispatcher = new Thread(this::dispatchLoop, "introspection-batcher");
+        this.dispatcher.setDaemon(true);
+        if (enabled) {
+            running = true;
+            dispatcher.start();
+        }
+    }
+
+    /**
+     * Checks whether lookups are batched.
+     *
+     * @return true if {@link #introspect(String)} may be used
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Resolves user information for a token as part of the next batch, blocking until the batch returns.
+     *
+     * @param token the JWT access token, without the "Bearer " prefix
+     * @return user information of the token owner
+     * @throws VocabException if the token is rejected or the batch call fails
+     * @throws io.github.resilience4j.circuitbreaker.CallNotPermittedException if the circuit breaker is open
+     */
+    public UserInfo introspect(String token) {
+        if (!running) {
+            throw new VocabException(ErrorCode.AUTH_SERVICE_UNAVAILABLE, "Introspection batcher is not running");
+        }
+
+        PendingLookup lookup = new PendingLookup(token, MDC.get(LoggingConstants.CORRELATION_ID_LOG_KEY), new CompletableFuture<>());
+        queue.add(lookup);
+        try {
+            return lookup.result().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Stops the dispatcher and fails lookups that were not sent yet.
+     */
+    @PreDestroy
+    public void close() {
+        running = false;
+        dispatcher.interrupt();
+        senders.shutdown();
+
+        List<PendingLookup> unsent = new ArrayList<>();
+        queue.drainTo(unsent);
+        fail(unsent, new VocabException(ErrorCode.AUTH_SERVICE_UNAVAILABLE, "Introspection batcher is shutting down"));
+    }
+
+    /**
+     * Collects queued lookups into batches until the batcher is closed.
+     * A batch starts with the first waiting lookup and is sent when it is full or its window has passed.
+     */
+    private void dispatchLoop() {
+        while (running) {
+            try {
+                List<PendingLookup> batch = new ArrayList<>(maxBatchSize);
+                batch.add(queue.take());
+
+                long deadline = System.nanoTime() + windowNanos;
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    PendingLookup next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                senders.execute(() -> send(batch));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Sends one batch and completes each lookup with its own result.
+     * A failure of the call itself (e.g. the auth service is down) fails every lookup of the batch.
+     * The call carries the correlation ID of the batch's first lookup, since sender threads have no MDC of their own.
+     *
+     * @param batch the lookups to send
+     */
+    private void send(List<PendingLookup> batch) {
+        String correlationId = batch.get(0).correlationId();
+        if (correlationId != null) {
+            MDC.put(LoggingConstants.CORRELATION_ID_LOG_KEY, correlationId);
+        }
+        try {
+            List<String> tokens = batch.stream().map(PendingLookup::token).toList();
+            ApiResponse<List<IntrospectionResult>> response = circuitBreaker.executeSupplier(() ->
+                    authClient.introspect(IntrospectionRequest.builder().tokens(tokens).build()));
+
+            List<IntrospectionResult> results = response != null ? response.getData() : null;
+            if (results == null || results.size() != batch.size()) {
+                throw new VocabException(
+                        ErrorCode.AUTH_SERVICE_ERROR,
+                        "Auth service returned an incomplete introspection response"
+                );
+            }
+
+            for (int i = 0; i < batch.size(); i++) {
+                IntrospectionResult result = results.get(i);
+                if (result.isActive()) {
+                    batch.get(i).result().complete(result.getUser());
+                } else {
+                    ErrorCode error = result.getError() != null ? result.getError() : ErrorCode.INVALID_TOKEN;
+                    batch.get(i).result().completeExceptionally(
+                            new VocabException(error, "Token rejected by auth service"));
+                }
+            }
+            log.debug("Introspected {} tokens in one call", batch.size());
+        } catch (RuntimeException e) {
+            fail(batch, e);
+        } finally {
+            MDC.remove(LoggingConstants.CORRELATION_ID_LOG_KEY);
+        }
+    }
+
+    /**
+     * Completes all given lookups with the same exception.
+     *
+     * @param lookups the lookups to fail
+     * @param failure the exception to complete them with
+     */
+    private static void fail(List<PendingLookup> lookups, RuntimeException failure) {
+        for (PendingLookup lookup : lookups) {
+            lookup.result().completeExceptionally(failure);
+        }
+    }
+
+    /**
+     * A token waiting to be introspected and the future its caller blocks on.
+     *
+     * @param token         the JWT access token
+     * @param correlationId correlation ID of the request that made the lookup, or null
+     * @param result        completed with the token owner's information or the rejection
+     */
+    private record PendingLookup(String token, String correlationId, CompletableFuture<UserInfo> result) {
+    }
+}
@@ -6,9 +6,10 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jyoungmin.vocabcommons.dto.UserInfo;
+import jyoungmin.vocabcommons.exception.BaseServiceException;
 import jyoungmin.vocabcommons.exception.ErrorCode;
 import jyoungmin.vocabcommons.security.JwtFilterUtils;
-import jyoungmin.vocablist.client.AuthClient;
+import jyoungmin.vocablist.exception.VocabException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -20,10 +21,11 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.Optional;
 
 /**
  * JWT authentication filter for the vocabulary list service.
- * Validates tokens by calling the authentication service and establishes security context.
+ * Validates tokens locally or by calling the authentication service and establishes security context.
  */
 @Slf4j
 @Component
@@ -31,12 +33,17 @@ import java.util.Collections;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     /**
-     * Feign client for communicating with the authentication service
+     * Resolver for looking up tokens through the authentication service
      */
-    private final AuthClient authClient;
+    private final RemoteUserInfoResolver remoteUserInfoResolver;
 
     /**
-     * Filters incoming requests to validate JWT tokens via the auth service.
+     * Verifier for checking tokens without calling the authentication service
+     */
+    private final LocalJwtVerifier localJwtVerifier;
+
+    /**
+     * Filters incoming requests to validate JWT tokens locally or via the auth service.
      * Extracts user information and populates SecurityContext on successful validation.
      *
      * @param request     the HTTP request
@@ -52,10 +59,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String authorizationHeader = request.getHeader("Authorization");
 
-        if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
+        // Requests authenticated from the gateway's internal identity need no token check
+        boolean authenticated = SecurityContextHolder.getContext().getAuthentication() != null;
+
+        if (!authenticated && authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
             try {
-                // Request token validation from VocabAuth service
-                UserInfo userInfo = authClient.getAuthenticatedUser(authorizationHeader);
+                UserInfo userInfo = resolveUserInfo(authorizationHeader);
 
                 // Store authentication in SecurityContext on success
                 Authentication authentication = new UsernamePasswordAuthenticationToken(
@@ -68,11 +77,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 // Add username to MDC for logging
                 JwtFilterUtils.addUserToMDC(userInfo.getUserName());
 
-            } catch (jyoungmin.vocablist.exception.VocabException e) {
+            } catch (VocabException e) {
                 log.warn("VocabException during token validation: {}", e.getMessage());
                 SecurityContextHolder.clearContext();
                 JwtFilterUtils.sendErrorResponse(response, e.getErrorCode(), request.getRequestURI());
                 return;
+            } catch (BaseServiceException e) {
+                // Local verification failure (token expired or invalid)
+                log.warn("BaseServiceException during token validation: {}", e.getMessage());
+                SecurityContextHolder.clearContext();
+                JwtFilterUtils.sendErrorResponse(response, e.getErrorCode(), request.getRequestURI());
+                return;
             } catch (FeignException.Unauthorized e) {
                 // 401 response from VocabAuth (token expired or invalid)
                 log.warn("Token validation failed - Unauthorized: {}", e.getMessage());
@@ -109,4 +124,32 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * Resolves the authenticated user for the given Authorization header.
+     * Verifies the token locally when enabled, and otherwise (or when the token lacks the claims
+     * needed locally and remote fallback is enabled) resolves it through the auth service.
+     *
+     * @param authorizationHeader the Authorization header containing the JWT token
+     * @return user information of the token owner
+     * @throws VocabException if the token cannot be verified locally and remote fallback is disabled
+     */
+    private UserInfo resolveUserInfo(String authorizationHeader) {
+        if (localJwtVerifier.isEnabled()) {
+            Optional<UserInfo> userInfo = localJwtVerifier.verify(JwtFilterUtils.resolveToken(authorizationHeader));
+            if (userInfo.isPresent()) {
+                return userInfo.get();
+            }
+
+            if (!localJwtVerifier.isRemoteFallbackEnabled()) {
+                throw new VocabException(
+                        ErrorCode.INVALID_TOKEN,
+                        "Token does not carry the claims required for local verification"
+                );
+            }
+            log.debug("Token lacks local claims, falling back to auth service");
+        }
+
+        return remoteUserInfoResolver.resolve(authorizationHeader);
+    }
 }
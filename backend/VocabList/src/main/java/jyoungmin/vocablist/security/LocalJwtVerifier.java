@@ -0,0 +1,96 @@
+package jyoungmin.vocablist.security;
+
+import jakarta.annotation.PreDestroy;
+import jyoungmin.vocabcommons.dto.UserInfo;
+import jyoungmin.vocabcommons.exception.BaseServiceException;
+import jyoungmin.vocabcommons.security.AccessTokenVerifier;
+import jyoungmin.vocabcommons.security.TokenRevocationReplica;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Verifies access tokens in-process with the shared {@link AccessTokenVerifier} when
+ * {@code jwt.verification.mode} is "local", so that authenticated requests need no call to VocabAuth.
+ */
+@Slf4j
+@Component
+public class LocalJwtVerifier {
+
+    /**
+     * Verification mode that enables local verification
+     */
+    private static final String LOCAL_MODE = "local";
+
+    /**
+     * Whether tokens are verified locally instead of by the auth service
+     */
+    @Getter
+    private final boolean enabled;
+
+    /**
+     * Whether to ask the auth service when a token lacks the claims needed locally
+     */
+    @Getter
+    private final boolean remoteFallbackEnabled;
+
+    /**
+     * Shared verifier, or null when local verification is disabled
+     */
+    private final AccessTokenVerifier verifier;
+
+    /**
+     * Creates the local verifier from the configured mode and key source.
+     *
+     * @param mode              verification mode ("local" or "remote")
+     * @param remoteFallback    whether to fall back to the auth service for tokens without local claims
+     * @param secret            the secret shared with VocabAuth (optional when a JWKS URI is set)
+     * @param jwksUri           JWKS endpoint of VocabAuth, or empty to verify with the shared secret
+     * @param refreshInterval   interval between background JWKS refreshes
+     * @param acceptHmac        whether tokens without a "kid" header are verified with the secret when a JWKS
+     *                          URI is set, while migrating from HS256
+     * @param revocationReplica local replica of the token revocation deny-list
+     * @throws IllegalStateException if local mode is configured without a secret or JWKS URI
+     */
+    public LocalJwtVerifier(@Value("${jwt.verification.mode:remote}") String mode,
+                            @Value("${jwt.verification.remote-fallback:true}") boolean remoteFallback,
+                            @Value("${jwt.secret:}") String secret,
+                            @Value("${jwt.jwks-uri:}") String jwksUri,
+                            @Value("${jwt.jwks-refresh-interval:5m}") Duration refreshInterval,
+                            @Value("${jwt.signing.accept-hmac:false}") boolean acceptHmac,
+                            TokenRevocationReplica revocationReplica) {
+        this.enabled = LOCAL_MODE.equalsIgnoreCase(mode);
+        this.remoteFallbackEnabled = remoteFallback;
+        this.verifier = enabled
+                ? new AccessTokenVerifier(secret, jwksUri, refreshInterval, acceptHmac, revocationReplica)
+                : null;
+
+        log.info("JWT verification mode: {} (keys: {}, remote fallback: {})",
+                enabled ? "local" : "remote", enabled ? verifier.getKeySource() : "none", remoteFallback);
+    }
+
+    /**
+     * Stops the background JWKS refresh.
+     */
+    @PreDestroy
+    public void close() {
+        if (verifier != null) {
+            verifier.close();
+        }
+    }
+
+    /**
+     * Verifies the token signature and expiry and builds user information from its claims.
+     *
+     * @param token the JWT access token (without "Bearer " prefix)
+     * @return user information, or empty if the token lacks the claims required to build it
+     * @throws BaseServiceException if the token is expired, invalid, or revoked
+     */
+    public Optional<UserInfo> verify(String token) {
+        return verifier.verify(token);
+    }
+}
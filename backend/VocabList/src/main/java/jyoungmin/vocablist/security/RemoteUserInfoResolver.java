@@ -0,0 +1,148 @@
+package jyoungmin.vocablist.security;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import jyoungmin.vocabcommons.dto.UserInfo;
+import jyoungmin.vocabcommons.exception.ErrorCode;
+import jyoungmin.vocabcommons.security.JwtFilterUtils;
+import jyoungmin.vocablist.client.AuthClient;
+import jyoungmin.vocablist.client.AuthServiceFailurePredicate;
+import jyoungmin.vocablist.exception.VocabException;
+import jyoungmin.vocablist.util.SingleFlight;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Resolves user information for a token through the authentication service.
+ * Serves repeated tokens from {@link UserInfoCache} and coalesces concurrent lookups for the same
+ * token into one call, so a burst of requests with one Authorization header costs a single round trip.
+ * Errors are decoded by the Feign error decoder once and shared with every waiting request.
+ * When batching is enabled, lookups for different tokens are sent together through {@link IntrospectionBatcher}.
+ *
+ * <p>Calls go through the "auth-service" circuit breaker, recorded once per /me call or once per
+ * introspection batch by {@link IntrospectionBatcher}. While the auth service is failing,
+ * tokens verified within the stale window are served from the cache and unknown tokens fail fast
+ * with {@link ErrorCode#AUTH_SERVICE_UNAVAILABLE} instead of waiting for timeouts.</p>
+ */
+@Slf4j
+@Component
+public class RemoteUserInfoResolver {
+
+    /**
+     * Name of the circuit breaker instance guarding auth service calls
+     */
+    static final String CIRCUIT_BREAKER_NAME = "auth-service";
+
+    /**
+     * Feign client for communicating with the authentication service
+     */
+    private final AuthClient authClient;
+
+    /**
+     * Cache of user information returned by the auth service
+     */
+    private final UserInfoCache userInfoCache;
+
+    /**
+     * Circuit breaker guarding auth service calls
+     */
+    private final CircuitBreaker circuitBreaker;
+
+    /**
+     * Batcher combining lookups for different tokens into introspection calls
+     */
+    private final IntrospectionBatcher introspectionBatcher;
+
+    /**
+     * Auth service lookups currently in flight, keyed by Authorization header
+     */
+    private final SingleFlight<String, UserInfo> inFlightLookups = new SingleFlight<>();
+
+    /**
+     * Creates the resolver.
+     *
+     * @param authClient             Feign client for the authentication service
+     * @param userInfoCache          cache of user information returned by the auth service
+     * @param circuitBreakerRegistry registry providing the "auth-service" circuit breaker
+     * @param introspectionBatcher   batcher combining lookups into introspection calls
+     */
+    public RemoteUserInfoResolver(AuthClient authClient,
+                                  UserInfoCache userInfoCache,
+                                  CircuitBreakerRegistry circuitBreakerRegistry,
+                                  IntrospectionBatcher introspectionBatcher) {
+        this.authClient = authClient;
+        this.userInfoCache = userInfoCache;
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(CIRCUIT_BREAKER_NAME);
+        this.introspectionBatcher = introspectionBatcher;
+    }
+
+    /**
+     * Resolves user information for the given Authorization header.
+     *
+     * @param authorizationHeader the Authorization header containing the JWT token
+     * @return user information of the token owner
+     * @throws VocabException if the token is rejected, or the auth service is unavailable and no stale entry exists
+     */
+    public UserInfo resolve(String authorizationHeader) {
+        String token = JwtFilterUtils.resolveToken(authorizationHeader);
+
+        UserInfo cached = userInfoCache.get(token);
+        if (cached != null) {
+            return cached;
+        }
+
+        return inFlightLookups.execute(authorizationHeader, () -> {
+            try {
+                UserInfo userInfo = fetch(authorizationHeader, token);
+                userInfoCache.put(token, userInfo);
+                return userInfo;
+            } catch (CallNotPermittedException e) {
+                return staleOrThrow(token, e, new VocabException(
+                        ErrorCode.AUTH_SERVICE_UNAVAILABLE,
+                        "Auth service circuit breaker is open"
+                ));
+            } catch (RuntimeException e) {
+                if (!AuthServiceFailurePredicate.isOutage(e)) {
+                    throw e;
+                }
+                return staleOrThrow(token, e, e);
+            }
+        });
+    }
+
+    /**
+     * Asks the auth service for the token owner, batched with other lookups when enabled.
+     *
+     * @param authorizationHeader the Authorization header containing the JWT token
+     * @param token               the JWT token without the "Bearer " prefix
+     * @return user information of the token owner
+     */
+    private UserInfo fetch(String authorizationHeader, String token) {
+        if (introspectionBatcher.isEnabled()) {
+            // The batcher records the circuit breaker outcome once per batch, not once per waiting lookup
+            return introspectionBatcher.introspect(token);
+        }
+        // Request token validation from VocabAuth service
+        return circuitBreaker.executeSupplier(() -> authClient.getAuthenticatedUser(authorizationHeader));
+    }
+
+    /**
+     * Serves a recently verified identity while the auth service is unavailable.
+     *
+     * @param token   the JWT access token
+     * @param failure the failure that prevented the lookup
+     * @param toThrow the exception to throw if no stale entry exists
+     * @return stale user information
+     */
+    private UserInfo staleOrThrow(String token, RuntimeException failure, RuntimeException toThrow) {
+        UserInfo stale = userInfoCache.getStale(token);
+        if (stale == null) {
+            throw toThrow;
+        }
+
+        log.warn("Auth service unavailable ({}), serving cached identity for user: {}",
+                failure.getClass().getSimpleName(), stale.getUserName());
+        return stale;
+    }
+}
@@ -0,0 +1,262 @@
+package jyoungmin.vocablist.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jyoungmin.vocabcommons.dto.UserInfo;
+import jyoungmin.vocabcommons.security.TokenRevocationReplica;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Bounded in-process cache mapping access tokens to the user information returned by the auth service.
+ * Keys are SHA-256 digests of the token, entries expire no later than the token's "exp" claim,
+ * and Caffeine's size-based (W-TinyLFU) policy evicts entries once the size bound is reached.
+ * Hit, miss, and eviction counts are published as "cache.*" metrics under the name "auth-user-info".
+ * A lookup only counts as a hit if it returns a fresh entry; stale entries and hits for tokens on the
+ * revocation deny-list (which are evicted) count as misses, since the caller then asks the auth service.
+ *
+ * <p>Entries stay fresh for at most the maximum TTL and are then kept as stale for the stale window
+ * (never past the token's expiry), so that {@link #getStale(String)} can serve recently verified
+ * identities while the auth service is unavailable.</p>
+ */
+@Slf4j
+@Component
+public class UserInfoCache {
+
+    /**
+     * Cache name used for metrics
+     */
+    private static final String CACHE_NAME = "auth-user-info";
+
+    /**
+     * JSON mapper for reading the token payload
+     */
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * Whether caching is enabled
+     */
+    @Getter
+    private final boolean enabled;
+
+    /**
+     * Upper bound for the lifetime of an entry, regardless of token expiry
+     */
+    private final Duration maxTtl;
+
+    /**
+     * How long an entry may be served as stale after it stopped being fresh
+     */
+    private final Duration staleWindow;
+
+    /**
+     * Token digest to cached user information
+     */
+    private final Cache<String, CachedUserInfo> cache;
+
+    /**
+     * Hit and miss counts, recorded by {@link #get(String)} rather than by Caffeine so that stale hits count as misses
+     */
+    private final StatsCounter stats = new ConcurrentStatsCounter();
+
+    /**
+     * Local replica of the token revocation deny-list
+     */
+    private final TokenRevocationReplica revocationReplica;
+
+    /**
+     * Creates the cache and registers its metrics.
+     *
+     * @param enabled           whether caching is enabled
+     * @param maximumSize       maximum number of cached tokens
+     * @param maxTtl            maximum time an entry is served as fresh
+     * @param staleWindow       how long an entry may be served as stale during auth service outages
+     * @param meterRegistry     registry for hit/miss/eviction metrics
+     * @param revocationReplica local replica of the token revocation deny-list
+     */
+    public UserInfoCache(@Value("${jwt.cache.enabled:true}") boolean enabled,
+                         @Value("${jwt.cache.maximum-size:10000}") long maximumSize,
+                         @Value("${jwt.cache.max-ttl:5m}") Duration maxTtl,
+                         @Value("${jwt.cache.stale-window:10m}") Duration staleWindow,
+                         MeterRegistry meterRegistry,
+                         TokenRevocationReplica revocationReplica) {
+        this.enabled = enabled;
+        this.maxTtl = maxTtl;
+        this.staleWindow = staleWindow;
+        this.revocationReplica = revocationReplica;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats(() -> stats)
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Returns the cached user information for a token.
+     *
+     * @param token the JWT access token (without "Bearer " prefix)
+     * @return cached user information, or null if absent, no longer fresh, or revoked
+     */
+    public UserInfo get(String token) {
+        if (!enabled || token == null) {
+            return null;
+        }
+        CachedUserInfo cached = lookup(token);
+        if (cached == null || System.nanoTime() - cached.freshUntilNanos() >= 0) {
+            stats.recordMisses(1);
+            return null;
+        }
+        stats.recordHits(1);
+        return cached.userInfo();
+    }
+
+    /**
+     * Returns the cached user information for a token even if it is no longer fresh.
+     * Only meant for serving recently verified identities while the auth service is unavailable.
+     *
+     * @param token the JWT access token (without "Bearer " prefix)
+     * @return cached user information within the stale window, or null if absent, expired, or revoked
+     */
+    public UserInfo getStale(String token) {
+        CachedUserInfo cached = lookup(token);
+        return cached != null ? cached.userInfo() : null;
+    }
+
+    /**
+     * Caches user information for a token as fresh until the token expires or the maximum TTL elapses,
+     * and as stale for the stale window after that (but never past the token's expiry).
+     * Tokens without a readable "exp" claim or that are already expired are not cached.
+     *
+     * @param token    the JWT access token (without "Bearer " prefix)
+     * @param userInfo the user information returned by the auth service
+     */
+    public void put(String token, UserInfo userInfo) {
+        if (!enabled || token == null || userInfo == null) {
+            return;
+        }
+
+        JsonNode payload = readPayload(token);
+        long expiresAtMillis = payload.path("exp").asLong(0) * 1000;
+        long tokenLifetimeNanos = Duration.ofMillis(expiresAtMillis - System.currentTimeMillis()).toNanos();
+        long freshNanos = Math.min(tokenLifetimeNanos, maxTtl.toNanos());
+        long ttlNanos = Math.min(tokenLifetimeNanos, maxTtl.plus(staleWindow).toNanos());
+        if (ttlNanos <= 0) {
+            return;
+        }
+
+        JsonNode tokenId = payload.get("jti");
+        Instant issuedAt = payload.has("iat") ? Instant.ofEpochSecond(payload.get("iat").asLong()) : null;
+        cache.put(digest(token), new CachedUserInfo(userInfo, tokenId != null ? tokenId.asText() : null,
+                issuedAt, System.nanoTime() + freshNanos, ttlNanos));
+    }
+
+    /**
+     * Looks up a cache entry and evicts it if its token has been revoked.
+     * Reads through the map view, which updates the eviction policy but records no hit or miss.
+     *
+     * @param token the JWT access token (without "Bearer " prefix)
+     * @return the cache entry, or null if absent, expired, or revoked
+     */
+    private CachedUserInfo lookup(String token) {
+        if (!enabled || token == null) {
+            return null;
+        }
+        String key = digest(token);
+        CachedUserInfo cached = cache.asMap().get(key);
+        if (cached == null) {
+            return null;
+        }
+
+        if (revocationReplica.isRevoked(cached.tokenId(), cached.userInfo().getUserName(), cached.issuedAt())) {
+            cache.invalidate(key);
+            return null;
+        }
+        return cached;
+    }
+
+    /**
+     * Reads the token payload ("exp", "jti", "iat") without verifying the signature.
+     * The token has already been verified by the auth service when this is called.
+     *
+     * @param token the JWT token
+     * @return the payload claims, or an empty node if they cannot be read
+     */
+    private JsonNode readPayload(String token) {
+        try {
+            String[] parts = token.split("\\.");
+            if (parts.length < 2) {
+                return objectMapper.createObjectNode();
+            }
+            return objectMapper.readTree(Base64.getUrlDecoder().decode(parts[1]));
+        } catch (Exception e) {
+            log.debug("Failed to read token payload: {}", e.getMessage());
+            return objectMapper.createObjectNode();
+        }
+    }
+
+    /**
+     * Computes the cache key for a token so raw tokens are never held in memory.
+     *
+     * @param token the JWT token
+     * @return Base64 encoded SHA-256 digest of the token
+     */
+    private String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Cached user information with its time-to-live.
+     *
+     * @param userInfo        the user information
+     * @param tokenId         the token ID ("jti"), or null if absent
+     * @param issuedAt        the token issue time ("iat"), or null if absent
+     * @param freshUntilNanos {@link System#nanoTime()} until which the entry is fresh
+     * @param ttlNanos        lifetime of the entry (fresh plus stale) in nanoseconds
+     */
+    private record CachedUserInfo(UserInfo userInfo, String tokenId, Instant issuedAt,
+                                  long freshUntilNanos, long ttlNanos) {
+    }
+
+    /**
+     * Per-entry expiry policy based on the token's remaining lifetime.
+     */
+    private static class TokenExpiry implements Expiry<String, CachedUserInfo> {
+        @Override
+        public long expireAfterCreate(String key, CachedUserInfo value, long currentTime) {
+            return value.ttlNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedUserInfo value, long currentTime, long currentDuration) {
+            return value.ttlNanos();
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedUserInfo value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
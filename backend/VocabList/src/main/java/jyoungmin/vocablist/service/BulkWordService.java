@@ -0,0 +1,326 @@
+package jyoungmin.vocablist.service;
+
+import jyoungmin.vocabcommons.exception.ErrorCode;
+import jyoungmin.vocabcommons.ratelimit.UserRateLimiter;
+import jyoungmin.vocablist.dto.WordRequest;
+import jyoungmin.vocablist.dto.WordResponse;
+import jyoungmin.vocablist.entity.Word;
+import jyoungmin.vocablist.exception.VocabException;
+import jyoungmin.vocablist.repository.ListRepository;
+import jyoungmin.vocablist.repository.WordRepository;
+import jyoungmin.vocablist.util.AuthUser;
+import jyoungmin.vocablist.util.JapaneseValidator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Service for creating many words in one request, e.g. when importing a vocabulary.
+ * Applies the rules of single word creation set-wise: furigana is checked in one pass, list ownership
+ * with one query, existing words with one query, and new words are inserted with one JDBC batch.
+ * Words whose uniqueness key already exists, or appears earlier in the same request, are reported as duplicates.
+ * The "word-bulk" rate limit is charged by size: one token per started block of {@code word.bulk.words-per-token}
+ * words, so a user cannot create more words per minute by packing them into fewer requests.
+ */
+@Slf4j
+@Service
+public class BulkWordService {
+
+    /**
+     * Name of the per-user limit charged by the number of words
+     */
+    private static final String RATE_LIMIT_NAME = "word-bulk";
+
+    /**
+     * Batched insert statement for new words
+     */
+    private static final String INSERT_WORD_SQL = """
+            INSERT INTO word (word, word_key, meaning, furigana, is_memorized, user_id, list_id, created_at, modified_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    /**
+     * Repository for the duplicate check
+     */
+    private final WordRepository wordRepository;
+
+    /**
+     * Repository for the list ownership check
+     */
+    private final ListRepository listRepository;
+
+    /**
+     * Service for the default list
+     */
+    private final ListService listService;
+
+    /**
+     * Utility for accessing authenticated user information
+     */
+    private final AuthUser authUser;
+
+    /**
+     * Validator for Japanese text and furigana
+     */
+    private final JapaneseValidator japaneseValidator;
+
+    /**
+     * Template for batched inserts
+     */
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Per-user limit charged by the number of words
+     */
+    private final UserRateLimiter userRateLimiter;
+
+    /**
+     * Maximum number of words accepted by one request
+     */
+    private final int maxWords;
+
+    /**
+     * Number of words one rate limit token pays for
+     */
+    private final int wordsPerToken;
+
+    /**
+     * Creates the service.
+     *
+     * @param wordRepository    repository for the duplicate check
+     * @param listRepository    repository for the list ownership check
+     * @param listService       service for the default list
+     * @param authUser          utility for accessing authenticated user information
+     * @param japaneseValidator validator for Japanese text and furigana
+     * @param jdbcTemplate      template for batched inserts
+     * @param userRateLimiter   per-user limit charged by the number of words
+     * @param maxWords          maximum number of words per request
+     * @param wordsPerToken     number of words one rate limit token pays for
+     */
+    public BulkWordService(WordRepository wordRepository,
+                           ListRepository listRepository,
+                           ListService listService,
+                           AuthUser authUser,
+                           JapaneseValidator japaneseValidator,
+                           JdbcTemplate jdbcTemplate,
+                           UserRateLimiter userRateLimiter,
+                           @Value("${word.bulk.max-words:5000}") int maxWords,
+                           @Value("${word.bulk.words-per-token:500}") int wordsPerToken) {
+        this.wordRepository = wordRepository;
+        this.listRepository = listRepository;
+        this.listService = listService;
+        this.authUser = authUser;
+        this.japaneseValidator = japaneseValidator;
+        this.jdbcTemplate = jdbcTemplate;
+        this.userRateLimiter = userRateLimiter;
+        this.maxWords = maxWords;
+        this.wordsPerToken = wordsPerToken;
+    }
+
+    /**
+     * Creates the requested words of the current user in one transaction.
+     * Invalid furigana or an inaccessible list rejects the whole request.
+     *
+     * @param requests the words to create
+     * @return the result of each word, in request order
+     * @throws VocabException if the request is too large, furigana is invalid, or a list is not found or not owned
+     * @throws jyoungmin.vocabcommons.exception.BaseServiceException if the user's word-bulk limit is exhausted
+     */
+    @Transactional
+    public List<WordResponse> saveWordsToDb(List<WordRequest> requests) {
+        if (requests.size() > maxWords) {
+            throw new VocabException(ErrorCode.INVALID_INPUT, "At most " + maxWords + " words can be created per request");
+        }
+        long userId = authUser.getUserInfo().getId();
+        userRateLimiter.acquire(RATE_LIMIT_NAME, userId, (requests.size() + wordsPerToken - 1) / wordsPerToken);
+        long started = System.nanoTime();
+
+        validateFurigana(requests);
+        Map<Long, Long> listIds = resolveListIds(userId, requests);
+
+        Set<String> taken = new HashSet<>(wordRepository.findExistingWordKeys(userId,
+                requests.stream().map(request -> Word.keyOf(request.getWord())).distinct().toList()));
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Word> words = new ArrayList<>(requests.size());
+        List<Word> newWords = new ArrayList<>(requests.size());
+        List<Boolean> duplicated = new ArrayList<>(requests.size());
+        for (WordRequest request : requests) {
+            Word word = Word.builder()
+                    .isMemorized(request.isMemorized())
+                    .word(request.getWord())
+                    .wordKey(Word.keyOf(request.getWord()))
+                    .meaning(request.getMeaning())
+                    .furigana(request.getFurigana())
+                    .userId(userId)
+                    .listId(listIds.get(request.getListId()))
+                    .createdAt(now)
+                    .modifiedAt(now)
+                    .build();
+            words.add(word);
+
+            // Later occurrences of a word in the same request are duplicates of the first one
+            boolean duplicate = !taken.add(word.getWordKey());
+            duplicated.add(duplicate);
+            if (!duplicate) {
+                newWords.add(word);
+            }
+        }
+
+        if (!newWords.isEmpty()) {
+            try {
+                batchInsert(newWords);
+            } catch (DuplicateKeyException e) {
+                // Another request created one of the words after the duplicate check; nothing of this request is kept
+                throw new VocabException(
+                        ErrorCode.DUPLICATE_WORD,
+                        "Words were created concurrently for user " + userId + "; retry the request"
+                );
+            }
+        }
+
+        log.info("Bulk word creation: {} words, {} created, {} duplicates for userId={} in {} ms",
+                words.size(), newWords.size(), words.size() - newWords.size(), userId,
+                (System.nanoTime() - started) / 1_000_000);
+
+        List<WordResponse> results = new ArrayList<>(words.size());
+        for (int i = 0; i < words.size(); i++) {
+            results.add(toResponse(duplicated.get(i), words.get(i)));
+        }
+        return results;
+    }
+
+    /**
+     * Checks the furigana of every word.
+     *
+     * @param requests the words to check
+     * @throws VocabException for the first word with missing or invalid furigana
+     */
+    private void validateFurigana(List<WordRequest> requests) {
+        for (int i = 0; i < requests.size(); i++) {
+            WordRequest request = requests.get(i);
+            try {
+                japaneseValidator.validateFurigana(request.getWord(), request.getFurigana());
+            } catch (VocabException e) {
+                throw new VocabException(e.getErrorCode(), "Word " + i + ": " + e.getDetails());
+            }
+        }
+    }
+
+    /**
+     * Resolves the list of every word: requested lists are checked with one query,
+     * words without a list go to the user's default list.
+     *
+     * @param userId   the current user
+     * @param requests the words to create
+     * @return list ID to save to, by requested list ID (null for the default list)
+     * @throws VocabException if a requested list does not exist or belongs to another user
+     */
+    private Map<Long, Long> resolveListIds(long userId, List<WordRequest> requests) {
+        Set<Long> requested = new LinkedHashSet<>();
+        boolean needsDefault = false;
+        for (WordRequest request : requests) {
+            if (request.getListId() == null) {
+                needsDefault = true;
+            } else {
+                requested.add(request.getListId());
+            }
+        }
+
+        Map<Long, Long> listIds = new HashMap<>();
+        Map<Long, Long> owners = new HashMap<>();
+        listRepository.findAllById(requested).forEach(list -> owners.put(list.getId(), list.getUserId()));
+        for (Long listId : requested) {
+            Long owner = owners.get(listId);
+            if (owner == null) {
+                throw new VocabException(
+                        ErrorCode.LIST_NOT_FOUND,
+                        "List " + listId + " does not exist"
+                );
+            }
+            if (owner != userId) {
+                throw new VocabException(
+                        ErrorCode.LIST_ACCESS_DENIED,
+                        "User " + userId + " does not have access to list " + listId
+                );
+            }
+            listIds.put(listId, listId);
+        }
+
+        if (needsDefault) {
+            listIds.put(null, listService.getOrCreateDefaultList(userId).getId());
+        }
+        return listIds;
+    }
+
+    /**
+     * Inserts words with one JDBC batch and stores their generated IDs.
+     *
+     * @param words the words to insert
+     */
+    private void batchInsert(List<Word> words) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_WORD_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement statement, int i) throws SQLException {
+                        Word word = words.get(i);
+                        statement.setString(1, word.getWord());
+                        statement.setString(2, word.getWordKey());
+                        statement.setString(3, word.getMeaning());
+                        statement.setString(4, word.getFurigana());
+                        statement.setBoolean(5, word.isMemorized());
+                        statement.setLong(6, word.getUserId());
+                        statement.setLong(7, word.getListId());
+                        statement.setTimestamp(8, Timestamp.valueOf(word.getCreatedAt()));
+                        statement.setTimestamp(9, Timestamp.valueOf(word.getModifiedAt()));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return words.size();
+                    }
+                },
+                keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        for (int i = 0; i < words.size() && i < keys.size(); i++) {
+            words.get(i).setId(((Number) keys.get(i).values().iterator().next()).longValue());
+        }
+    }
+
+    /**
+     * Converts a word to a response DTO.
+     *
+     * @param isDuplicated whether the word already existed
+     * @param word         the word
+     * @return word response DTO
+     */
+    private WordResponse toResponse(boolean isDuplicated, Word word) {
+        return WordResponse.builder()
+                .isDuplicated(isDuplicated)
+                .isJapanese(japaneseValidator.containsJapanese(word.getWord()))
+                .word(word)
+                .build();
+    }
+}
@@ -1,6 +1,6 @@
 package jyoungmin.vocablist.service;
 
-import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
+import jyoungmin.vocabcommons.ratelimit.UserRateLimited;
 import jyoungmin.vocablist.entity.List;
 import jyoungmin.vocablist.repository.ListRepository;
 import lombok.RequiredArgsConstructor;
@@ -48,7 +48,7 @@ public class ListService {
      * @param userId the user's ID
      * @return list of all user's vocabulary lists
      */
-    @RateLimiter(name = "list-general")
+    @UserRateLimited(name = "list-general")
     public java.util.List<List> getAllListsByUserId(Long userId) {
         return listRepository.findAllByUserId(userId);
     }
@@ -61,7 +61,7 @@ public class ListService {
      * @return the created list
      */
     @Transactional
-    @RateLimiter(name = "list-general")
+    @UserRateLimited(name = "list-general")
     public List createList(Long userId, String listName) {
         List newList = List.builder()
                 .listName(listName)
@@ -0,0 +1,181 @@
+package jyoungmin.vocablist.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jyoungmin.vocabcommons.exception.ErrorCode;
+import jyoungmin.vocabcommons.ratelimit.UserRateLimited;
+import jyoungmin.vocablist.exception.VocabException;
+import jyoungmin.vocablist.util.AuthUser;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Service for exporting all words of a user as newline-delimited JSON.
+ * Rows are read from a forward-only, read-only JDBC cursor and written one by one with Jackson's
+ * streaming generator, so no entities or response objects are built and memory use does not grow
+ * with the number of words. The export holds one pooled connection while it runs, so the number of exports
+ * streaming at once is capped across all users; further exports are rejected with {@link ErrorCode#SERVER_BUSY}
+ * instead of waiting for a connection that regular requests need.
+ */
+@Slf4j
+@Service
+public class WordExportService {
+
+    /**
+     * Export query, served by the (user_id, created_at, id) index in the order of the word listing
+     */
+    private static final String EXPORT_SQL = """
+            SELECT id, word, furigana, meaning, is_memorized, list_id, created_at, modified_at
+            FROM word
+            WHERE user_id = ?
+            ORDER BY created_at, id
+            """;
+
+    /**
+     * Template reading rows with the export fetch size
+     */
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Factory of the streaming generators
+     */
+    private final JsonFactory jsonFactory;
+
+    /**
+     * Utility for accessing authenticated user information
+     */
+    private final AuthUser authUser;
+
+    /**
+     * Permits of the exports currently streaming
+     */
+    private final Semaphore exportPermits;
+
+    /**
+     * Creates the service.
+     *
+     * @param dataSource    data source of the word table
+     * @param objectMapper  mapper whose factory creates the generators
+     * @param authUser      utility for accessing authenticated user information
+     * @param fetchSize     rows per round trip, or 0 to stream row by row
+     * @param maxConcurrent maximum number of exports streaming at once
+     */
+    public WordExportService(DataSource dataSource,
+                             ObjectMapper objectMapper,
+                             AuthUser authUser,
+                             @Value("${word.export.fetch-size:0}") int fetchSize,
+                             @Value("${word.export.max-concurrent:4}") int maxConcurrent) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        // MySQL Connector/J streams rows one at a time for Integer.MIN_VALUE; positive sizes need useCursorFetch=true
+        this.jdbcTemplate.setFetchSize(fetchSize > 0 ? fetchSize : Integer.MIN_VALUE);
+        this.jsonFactory = objectMapper.getFactory();
+        this.authUser = authUser;
+        this.exportPermits = new Semaphore(maxConcurrent);
+    }
+
+    /**
+     * Prepares the export of the current user's words.
+     * The user is resolved now; rows are only read when the returned body is written.
+     * The export slot is taken when the body starts writing and released when it ends, so a body that is
+     * never written cannot hold one; checking for a free slot here lets a busy server answer before streaming.
+     *
+     * @return body writing one JSON object per word and line
+     * @throws VocabException if the maximum number of exports is already streaming
+     */
+    @UserRateLimited(name = "word-export")
+    public StreamingResponseBody exportWords() {
+        long userId = authUser.getUserInfo().getId();
+        if (exportPermits.availablePermits() == 0) {
+            throw busy();
+        }
+
+        return outputStream -> {
+            if (!exportPermits.tryAcquire()) {
+                throw busy();
+            }
+            long started = System.nanoTime();
+            try (JsonGenerator generator = jsonFactory.createGenerator(outputStream)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                // Lines are separated by the newline written after each row, not by Jackson's default space
+                generator.setRootValueSeparator(null);
+                AtomicLong rows = new AtomicLong();
+                jdbcTemplate.query(
+                        connection -> {
+                            PreparedStatement statement = connection.prepareStatement(EXPORT_SQL,
+                                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                            statement.setLong(1, userId);
+                            return statement;
+                        },
+                        resultSet -> {
+                            writeRow(generator, resultSet);
+                            rows.incrementAndGet();
+                        });
+                log.info("Exported {} words for userId={} in {} ms", rows, userId, (System.nanoTime() - started) / 1_000_000);
+            } catch (UncheckedIOException e) {
+                // Write failures, e.g. a disconnected client, surface as IOException; the cursor is already closed
+                throw e.getCause();
+            } finally {
+                exportPermits.release();
+            }
+        };
+    }
+
+    /**
+     * Creates the rejection of an export while the maximum number of exports is streaming.
+     *
+     * @return exception answered with 503
+     */
+    private static VocabException busy() {
+        return new VocabException(ErrorCode.SERVER_BUSY, "Too many exports are running; please try again later");
+    }
+
+    /**
+     * Writes the current row as one line of JSON.
+     *
+     * @param generator the output generator
+     * @param resultSet the cursor, positioned on a row
+     * @throws SQLException if a column cannot be read
+     */
+    private static void writeRow(JsonGenerator generator, ResultSet resultSet) throws SQLException {
+        try {
+            generator.writeStartObject();
+            generator.writeNumberField("id", resultSet.getLong("id"));
+            generator.writeStringField("word", resultSet.getString("word"));
+            generator.writeStringField("furigana", resultSet.getString("furigana"));
+            generator.writeStringField("meaning", resultSet.getString("meaning"));
+            generator.writeBooleanField("memorized", resultSet.getBoolean("is_memorized"));
+            generator.writeNumberField("listId", resultSet.getLong("list_id"));
+            generator.writeStringField("createdAt", format(resultSet.getTimestamp("created_at")));
+            generator.writeStringField("modifiedAt", format(resultSet.getTimestamp("modified_at")));
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Formats a timestamp like the JSON responses of the word endpoints.
+     *
+     * @param timestamp the column value
+     * @return ISO local date-time, or null
+     */
+    private static String format(Timestamp timestamp) {
+        return timestamp == null ? null : DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(timestamp.toLocalDateTime());
+    }
+}
@@ -0,0 +1,97 @@
+package jyoungmin.vocablist.service;
+
+import jyoungmin.vocablist.entity.Word;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Fills the uniqueness key of words created before it existed.
+ * Runs once per startup in the background, in batches by ID. If a user already has several words with
+ * the same key, the oldest one gets the key and the others keep none, so existing data never blocks startup.
+ */
+@Slf4j
+@Component
+public class WordKeyBackfill {
+
+    /**
+     * Next batch of words without a key
+     */
+    private static final String SELECT_SQL = "SELECT id, word FROM word WHERE word_key IS NULL AND id > ? ORDER BY id LIMIT ?";
+
+    /**
+     * Sets the key of one word unless it would duplicate a key of the same user
+     */
+    private static final String UPDATE_SQL = "UPDATE IGNORE word SET word_key = ? WHERE id = ?";
+
+    /**
+     * Words still without a key, i.e. duplicates of an older word of the same user
+     */
+    private static final String COUNT_SQL = "SELECT COUNT(*) FROM word WHERE word_key IS NULL";
+
+    /**
+     * Template for the batch reads and updates
+     */
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Number of words updated per batch, 0 to disable the backfill
+     */
+    private final int batchSize;
+
+    /**
+     * Creates the backfill.
+     *
+     * @param jdbcTemplate template for the batch reads and updates
+     * @param batchSize    number of words updated per batch, 0 to disable
+     */
+    public WordKeyBackfill(JdbcTemplate jdbcTemplate,
+                           @Value("${word.key-backfill.batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Starts the backfill once the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (batchSize > 0) {
+            Thread.ofVirtual().name("word-key-backfill").start(this::run);
+        }
+    }
+
+    /**
+     * Walks all words without a key in ID order and sets their keys.
+     */
+    private void run() {
+        long started = System.nanoTime();
+        long lastId = 0;
+        long processed = 0;
+        try {
+            while (true) {
+                List<Object[]> rows = jdbcTemplate.query(SELECT_SQL,
+                        (resultSet, rowNum) -> new Object[]{Word.keyOf(resultSet.getString("word")), resultSet.getLong("id")},
+                        lastId, batchSize);
+                if (rows.isEmpty()) {
+                    break;
+                }
+                jdbcTemplate.batchUpdate(UPDATE_SQL, rows);
+                processed += rows.size();
+                lastId = (long) rows.get(rows.size() - 1)[1];
+            }
+            if (processed > 0) {
+                Long duplicates = jdbcTemplate.queryForObject(COUNT_SQL, Long.class);
+                log.info("Word key backfill: {} words processed, {} duplicates left without key in {} ms",
+                        processed, duplicates, (System.nanoTime() - started) / 1_000_000);
+            }
+        } catch (RuntimeException e) {
+            log.error("Word key backfill stopped after {} words, it resumes on the next startup", processed, e);
+        }
+    }
+}
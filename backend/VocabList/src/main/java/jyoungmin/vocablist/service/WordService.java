@@ -1,7 +1,8 @@
 package jyoungmin.vocablist.service;
 
-import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
+import jyoungmin.vocabcommons.ratelimit.UserRateLimited;
 import jyoungmin.vocabcommons.dto.UserInfo;
+import jyoungmin.vocablist.dto.WordPage;
 import jyoungmin.vocablist.dto.WordRequest;
 import jyoungmin.vocablist.dto.WordResponse;
 import jyoungmin.vocablist.entity.Word;
@@ -10,8 +11,12 @@ import jyoungmin.vocablist.exception.VocabException;
 import jyoungmin.vocablist.repository.WordRepository;
 import jyoungmin.vocablist.util.AuthUser;
 import jyoungmin.vocablist.util.JapaneseValidator;
+import jyoungmin.vocablist.util.WordCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -44,22 +49,33 @@ public class WordService {
      */
     private final JapaneseValidator japaneseValidator;
 
+    /**
+     * Number of words per page when the client does not ask for a size
+     */
+    @Value("${word.page.default-size:100}")
+    private int defaultPageSize;
+
+    /**
+     * Largest page size a client may ask for
+     */
+    @Value("${word.page.max-size:500}")
+    private int maxPageSize;
+
     /**
      * Saves a new word to the database.
-     * Checks for duplicates and returns appropriate response.
+     * Inserts and detects duplicates in one atomic statement and returns appropriate response.
      *
      * @param wordRequest the word data to save
      * @return response indicating whether word was saved or is a duplicate
      */
-    @RateLimiter(name = "word-create")
+    @UserRateLimited(name = "word-create")
     public WordResponse saveWordToDb(WordRequest wordRequest) {
         Word word = requestToWord(wordRequest);
 
-        if (findWord(word) == null) {
-            Word savedWord = wordRepository.save(word);
+        if (wordRepository.insertIfAbsent(word)) {
             log.info("Word created: id={}, word='{}', listId={}, userId={}",
-                    savedWord.getId(), savedWord.getWord(), savedWord.getListId(), savedWord.getUserId());
-            return toResponse(false, savedWord);
+                    word.getId(), word.getWord(), word.getListId(), word.getUserId());
+            return toResponse(false, word);
         } else {
             log.info("Duplicate word detected: word='{}', userId={}", word.getWord(), word.getUserId());
             return toResponse(true, word);
@@ -67,15 +83,17 @@ public class WordService {
     }
 
     /**
-     * Retrieves all words in a specific list.
+     * Retrieves one page of the words in a specific list.
      * Verifies list ownership before returning words.
      *
      * @param listId the list ID to retrieve words from
-     * @return list of words in the specified list
-     * @throws VocabException if list not found or access denied
+     * @param cursor continuation token of the previous page, or null for the first page
+     * @param size   requested page size, or null for the default
+     * @return page of words in the specified list
+     * @throws VocabException if list not found, access denied, or the cursor or size is invalid
      */
-    @RateLimiter(name = "word-general")
-    public List<WordResponse> getWordsByListId(long listId) {
+    @UserRateLimited(name = "word-page")
+    public WordPage getWordsByListId(long listId, String cursor, Integer size) {
         long userId = authUser.getUserInfo().getId();
 
         // Check if list exists first
@@ -94,21 +112,40 @@ public class WordService {
             );
         }
 
-        List<Word> wordList = wordRepository.getWordsByListId(listId);
-        return wordList.stream().map(s -> toResponse(false, s)).toList();
+        int pageSize = pageSize(size);
+        Limit limit = Limit.of(pageSize + 1);
+        List<Word> words;
+        if (cursor == null) {
+            words = wordRepository.findByListIdOrderByCreatedAtAscIdAsc(listId, limit);
+        } else {
+            WordCursor position = WordCursor.decode(cursor);
+            words = wordRepository.findByListIdAfter(listId, position.createdAt(), position.id(), limit);
+        }
+        return toPage(words, pageSize);
     }
 
     /**
-     * Retrieves all words belonging to the current user.
+     * Retrieves one page of the words belonging to the current user.
      *
-     * @return list of all user's words across all lists
+     * @param cursor continuation token of the previous page, or null for the first page
+     * @param size   requested page size, or null for the default
+     * @return page of the user's words across all lists
+     * @throws VocabException if the cursor or size is invalid
      */
-    @RateLimiter(name = "word-general")
-    public List<WordResponse> getWordsByUserId() {
-        return wordRepository.getWordsByUserId(authUser.getUserInfo().getId())
-                .stream()
-                .map(s -> toResponse(false, s))
-                .toList();
+    @UserRateLimited(name = "word-page")
+    public WordPage getWordsByUserId(String cursor, Integer size) {
+        long userId = authUser.getUserInfo().getId();
+
+        int pageSize = pageSize(size);
+        Limit limit = Limit.of(pageSize + 1);
+        List<Word> words;
+        if (cursor == null) {
+            words = wordRepository.findByUserIdOrderByCreatedAtAscIdAsc(userId, limit);
+        } else {
+            WordCursor position = WordCursor.decode(cursor);
+            words = wordRepository.findByUserIdAfter(userId, position.createdAt(), position.id(), limit);
+        }
+        return toPage(words, pageSize);
     }
 
     /**
@@ -141,7 +178,7 @@ public class WordService {
      * @return true if deletion was successful
      * @throws VocabException if word not found for user
      */
-    @RateLimiter(name = "word-general")
+    @UserRateLimited(name = "word-general")
     public boolean deleteWordById(long wordId) {
         long userId = authUser.getUserInfo().getId();
         Word word = wordRepository.getWordByidAndUserId(wordId, userId);
@@ -166,7 +203,7 @@ public class WordService {
      * @return the updated word
      * @throws VocabException if word not found, list not found, or access denied
      */
-    @RateLimiter(name = "word-general")
+    @UserRateLimited(name = "word-general")
     public WordResponse updateWordById(long wordId, WordRequest wordRequest) {
         long userId = authUser.getUserInfo().getId();
         Word word = wordRepository.getWordByidAndUserId(wordId, userId);
@@ -213,7 +250,16 @@ public class WordService {
         word.setMemorized(wordRequest.isMemorized());
         word.setListId(listId);
 
-        Word updatedWord = wordRepository.save(word);
+        Word updatedWord;
+        try {
+            updatedWord = wordRepository.save(word);
+        } catch (DataIntegrityViolationException e) {
+            // The new text matches another word of the user
+            throw new VocabException(
+                    ErrorCode.DUPLICATE_WORD,
+                    "Word '" + wordRequest.getWord() + "' already exists for user " + userId
+            );
+        }
         log.info("Word updated: id={}, word='{}', listId={}, userId={}",
                 updatedWord.getId(), updatedWord.getWord(), updatedWord.getListId(), userId);
         return toResponse(false, updatedWord);
@@ -221,18 +267,37 @@ public class WordService {
 
 
     /**
-     * Finds an existing word for the user.
+     * Resolves the requested page size.
      *
-     * @param word the word to search for
-     * @return the existing word or null if not found
+     * @param size requested page size, or null for the default
+     * @return page size, capped at the maximum
+     * @throws VocabException if the size is not positive
      */
-    private Word findWord(Word word) {
-        List<Word> existingList = wordRepository.findByWordAndUserId(word.getWord(), word.getUserId());
-        if (existingList.isEmpty()) {
-            return null;
-        } else {
-            return existingList.get(0);
+    private int pageSize(Integer size) {
+        if (size == null) {
+            return defaultPageSize;
+        }
+        if (size < 1) {
+            throw new VocabException(ErrorCode.INVALID_INPUT, "Page size must be at least 1");
         }
+        return Math.min(size, maxPageSize);
+    }
+
+    /**
+     * Builds a page from a query result holding up to one word more than the page size.
+     * The extra word only signals that another page exists.
+     *
+     * @param words    query result
+     * @param pageSize the page size
+     * @return the page
+     */
+    private WordPage toPage(List<Word> words, int pageSize) {
+        boolean hasMore = words.size() > pageSize;
+        List<Word> pageWords = hasMore ? words.subList(0, pageSize) : words;
+        return WordPage.builder()
+                .words(pageWords.stream().map(s -> toResponse(false, s)).toList())
+                .nextCursor(hasMore ? WordCursor.after(pageWords.get(pageSize - 1)).encode() : null)
+                .build();
     }
 
     /**
@@ -0,0 +1,79 @@
+package jyoungmin.vocablist.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent calls for the same key into a single execution.
+ * The first caller for a key runs the supplier; callers arriving while it is in flight
+ * wait for it and receive the same result, or the same exception instance.
+ *
+ * @param <K> key type
+ * @param <V> result type
+ */
+public class SingleFlight<K, V> {
+
+    /**
+     * Calls currently in flight, by key
+     */
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Runs the supplier for the key, or joins the call already in flight for it.
+     *
+     * @param key      the key identifying equivalent calls
+     * @param supplier the call to execute when none is in flight
+     * @return the result of the shared call
+     * @throws RuntimeException the exception thrown by the shared call
+     */
+    public V execute(K key, Supplier<V> supplier) {
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            return await(existing);
+        }
+
+        try {
+            V result = supplier.get();
+            call.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    /**
+     * Returns the number of calls currently in flight.
+     *
+     * @return number of distinct keys being executed
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    /**
+     * Waits for an in-flight call and rethrows its exception unwrapped.
+     *
+     * @param call the in-flight call
+     * @return the result of the call
+     */
+    private V await(CompletableFuture<V> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
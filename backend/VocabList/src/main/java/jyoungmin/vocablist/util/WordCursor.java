@@ -0,0 +1,66 @@
+package jyoungmin.vocablist.util;
+
+import jyoungmin.vocabcommons.exception.ErrorCode;
+import jyoungmin.vocablist.entity.Word;
+import jyoungmin.vocablist.exception.VocabException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position in a word listing ordered by (createdAt, id), handed to clients as an opaque continuation token.
+ * The next page starts right after the word the cursor points to, so pages stay stable while words are added.
+ *
+ * @param createdAt creation time of the last word of the page
+ * @param id        ID of the last word of the page
+ */
+public record WordCursor(LocalDateTime createdAt, long id) {
+
+    /**
+     * Separator between the encoded fields
+     */
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Creates the cursor pointing at a word.
+     *
+     * @param word the last word of a page
+     * @return cursor after that word
+     */
+    public static WordCursor after(Word word) {
+        return new WordCursor(word.getCreatedAt(), word.getId());
+    }
+
+    /**
+     * Encodes the cursor as a URL-safe token.
+     *
+     * @return continuation token
+     */
+    public String encode() {
+        String value = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a continuation token.
+     *
+     * @param token the token from a previous page
+     * @return the cursor
+     * @throws VocabException if the token is malformed
+     */
+    public static WordCursor decode(String token) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = value.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("missing separator");
+            }
+            return new WordCursor(LocalDateTime.parse(value.substring(0, separator)),
+                    Long.parseLong(value.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new VocabException(ErrorCode.INVALID_INPUT, "Malformed page cursor");
+        }
+    }
+}
@@ -0,0 +1,26 @@
+-- Lists and words, as previously generated by Hibernate; existing databases keep their tables.
+-- Secondary indexes are added by V2 so that they are also created on existing tables.
+CREATE TABLE IF NOT EXISTS list
+(
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    list_name   VARCHAR(255) NOT NULL,
+    user_id     BIGINT       NOT NULL,
+    created_at  DATETIME(6)  NOT NULL,
+    modified_at DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS word
+(
+    id           BIGINT       NOT NULL AUTO_INCREMENT,
+    word         VARCHAR(255) NOT NULL,
+    word_key     VARCHAR(255) CHARACTER SET utf8mb4 COLLATE utf8mb4_bin,
+    is_memorized BIT          NOT NULL,
+    furigana     VARCHAR(255),
+    meaning      VARCHAR(255) NOT NULL,
+    user_id      BIGINT       NOT NULL,
+    list_id      BIGINT       NOT NULL,
+    created_at   DATETIME(6)  NOT NULL,
+    modified_at  DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,42 @@
+-- Indexes for the repository queries. Databases created by Hibernate may already have some of them,
+-- so every step checks information_schema and only runs if its column or index is missing.
+
+-- The uniqueness key of words (tables created before it existed)
+SET @statement = IF((SELECT COUNT(*) FROM information_schema.columns WHERE table_schema = DATABASE() AND table_name = 'word' AND column_name = 'word_key') = 0,
+                     'ALTER TABLE word ADD COLUMN word_key VARCHAR(255) CHARACTER SET utf8mb4 COLLATE utf8mb4_bin AFTER word',
+                     'DO 0');
+PREPARE step FROM @statement;
+EXECUTE step;
+DEALLOCATE PREPARE step;
+
+-- Word pages and exports of a user: WHERE user_id = ? ORDER BY created_at, id
+SET @statement = IF((SELECT COUNT(*) FROM information_schema.statistics WHERE table_schema = DATABASE() AND table_name = 'word' AND index_name = 'idx_word_user_created') = 0,
+                     'ALTER TABLE word ADD INDEX idx_word_user_created (user_id, created_at, id)',
+                     'DO 0');
+PREPARE step FROM @statement;
+EXECUTE step;
+DEALLOCATE PREPARE step;
+
+-- Word pages of a list: WHERE list_id = ? ORDER BY created_at, id
+SET @statement = IF((SELECT COUNT(*) FROM information_schema.statistics WHERE table_schema = DATABASE() AND table_name = 'word' AND index_name = 'idx_word_list_created') = 0,
+                     'ALTER TABLE word ADD INDEX idx_word_list_created (list_id, created_at, id)',
+                     'DO 0');
+PREPARE step FROM @statement;
+EXECUTE step;
+DEALLOCATE PREPARE step;
+
+-- Duplicate detection: one row per user and normalized word
+SET @statement = IF((SELECT COUNT(*) FROM information_schema.statistics WHERE table_schema = DATABASE() AND table_name = 'word' AND index_name = 'uk_word_owner_word_key') = 0,
+                     'ALTER TABLE word ADD CONSTRAINT uk_word_owner_word_key UNIQUE (user_id, word_key)',
+                     'DO 0');
+PREPARE step FROM @statement;
+EXECUTE step;
+DEALLOCATE PREPARE step;
+
+-- Lists of a user and the default list: WHERE user_id = ? ORDER BY created_at
+SET @statement = IF((SELECT COUNT(*) FROM information_schema.statistics WHERE table_schema = DATABASE() AND table_name = 'list' AND index_name = 'idx_list_user_created') = 0,
+                     'ALTER TABLE list ADD INDEX idx_list_user_created (user_id, created_at)',
+                     'DO 0');
+PREPARE step FROM @statement;
+EXECUTE step;
+DEALLOCATE PREPARE step;
@@ -0,0 +1,45 @@
+package jyoungmin.vocablist.entity;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WordTests {
+
+    @Test
+    void keyIgnoresCaseSurroundingWhitespaceAndCompatibilityForms() {
+        assertThat(Word.keyOf("  Apple ")).isEqualTo(Word.keyOf("apple"));
+        // Half-width and full-width katakana
+        assertThat(Word.keyOf("ｶﾀｶﾅ")).isEqualTo(Word.keyOf("カタカナ"));
+        // Full-width Latin letters
+        assertThat(Word.keyOf("ＡＢＣ")).isEqualTo("abc");
+    }
+
+    @Test
+    void keyKeepsDistinctWordsApart() {
+        assertThat(Word.keyOf("ひらがな")).isNotEqualTo(Word.keyOf("ヒラガナ"));
+        assertThat(Word.keyOf("café")).isNotEqualTo(Word.keyOf("cafe"));
+    }
+
+    @Test
+    void updatingOtherFieldsOfAKeylessDuplicateKeepsItWithoutKey() {
+        Word word = Word.builder().word("Apple").meaning("fruit").build();
+        word.onLoad();
+
+        word.setMeaning("red fruit");
+        word.onUpdate();
+
+        assertThat(word.getWordKey()).isNull();
+    }
+
+    @Test
+    void changingTheWordRecomputesTheKey() {
+        Word word = Word.builder().word("Apple").meaning("fruit").build();
+        word.onLoad();
+
+        word.setWord("Pear");
+        word.onUpdate();
+
+        assertThat(word.getWordKey()).isEqualTo("pear");
+    }
+}
@@ -0,0 +1,159 @@
+package jyoungmin.vocablist.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import jyoungmin.vocablist.entity.Word;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+/**
+ * Query-plan regression test: runs the migrations against a MySQL database, calls every repository query,
+ * and fails if MySQL would answer one of them with a full table or full index scan.
+ * Hibernate's generated SQL is captured and explained with the same parameters, so derived queries are
+ * checked as generated. Skipped unless QUERY_PLAN_TEST_SQL_URL points at a disposable MySQL schema
+ * (credentials in QUERY_PLAN_TEST_SQL_USERNAME and QUERY_PLAN_TEST_SQL_PASSWORD).
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=${QUERY_PLAN_TEST_SQL_URL}",
+        "spring.datasource.username=${QUERY_PLAN_TEST_SQL_USERNAME:root}",
+        "spring.datasource.password=${QUERY_PLAN_TEST_SQL_PASSWORD:}",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=jyoungmin.vocablist.repository.QueryPlanTests$RecordingInspector"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@EnabledIfEnvironmentVariable(named = "QUERY_PLAN_TEST_SQL_URL", matches = ".+")
+class QueryPlanTests {
+
+    private static final int USERS = 20;
+    private static final int LISTS_PER_USER = 2;
+    private static final int WORDS_PER_LIST = 50;
+
+    /**
+     * Access types that read a whole table or index
+     */
+    private static final Set<String> FULL_SCANS = Set.of("ALL", "index");
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Autowired
+    private WordRepository wordRepository;
+
+    @Autowired
+    private ListRepository listRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        // Enough rows per user that the optimizer's choice reflects the indexes, not the table size
+        if (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM word", Long.class) > 0) {
+            return;
+        }
+        List<Object[]> lists = new ArrayList<>();
+        List<Object[]> words = new ArrayList<>();
+        long listId = 0;
+        for (long userId = 1; userId <= USERS; userId++) {
+            for (int l = 0; l < LISTS_PER_USER; l++) {
+                listId++;
+                lists.add(new Object[]{listId, "list " + listId, userId, Timestamp.valueOf(NOW.plusMinutes(listId))});
+                for (int w = 0; w < WORDS_PER_LIST; w++) {
+                    String word = "word " + listId + "-" + w;
+                    words.add(new Object[]{word, word, "meaning", userId, listId, Timestamp.valueOf(NOW.plusSeconds(words.size()))});
+                }
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO list (id, list_name, user_id, created_at) VALUES (?, ?, ?, ?)", lists);
+        jdbcTemplate.batchUpdate("INSERT INTO word (word, word_key, meaning, is_memorized, user_id, list_id, created_at) "
+                + "VALUES (?, ?, ?, false, ?, ?, ?)", words);
+        jdbcTemplate.execute("ANALYZE TABLE list, word");
+    }
+
+    @Test
+    void wordQueriesUseIndexes() {
+        assertIndexed(() -> wordRepository.findByIdAndUserId(10, 1), 10, 1);
+        assertIndexed(() -> wordRepository.getWordByidAndUserId(10, 1), 10, 1);
+        assertIndexed(() -> wordRepository.findExistingWordKeys(1, List.of("word 1-1", "word 1-2")), 1, "word 1-1", "word 1-2");
+        assertIndexed(() -> wordRepository.findByUserIdOrderByCreatedAtAscIdAsc(1, Limit.of(20)), 1, 20);
+        assertIndexed(() -> wordRepository.findByUserIdAfter(1, NOW, 10, Limit.of(20)), 1, NOW, NOW, 10, 20);
+        assertIndexed(() -> wordRepository.findByListIdOrderByCreatedAtAscIdAsc(1, Limit.of(20)), 1, 20);
+        assertIndexed(() -> wordRepository.findByListIdAfter(1, NOW, 10, Limit.of(20)), 1, NOW, NOW, 10, 20);
+    }
+
+    @Test
+    void listQueriesUseIndexes() {
+        assertIndexed(() -> listRepository.findFirstByUserIdOrderByCreatedAtAsc(1L), 1, 1);
+        assertIndexed(() -> listRepository.findAllByUserId(1L), 1);
+        assertIndexed(() -> listRepository.findByIdAndUserId(1, 1), 1, 1);
+    }
+
+    /**
+     * Runs a repository call and explains the SQL it issued.
+     *
+     * @param call       the repository call
+     * @param parameters the parameters of the issued SQL, in order
+     */
+    private void assertIndexed(Runnable call, Object... parameters) {
+        RecordingInspector.STATEMENTS.clear();
+        call.run();
+        assertThat(RecordingInspector.STATEMENTS).as("issued SQL").isNotEmpty();
+        String sql = RecordingInspector.STATEMENTS.get(RecordingInspector.STATEMENTS.size() - 1);
+
+        Object[] values = new Object[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            values[i] = parameters[i] instanceof LocalDateTime time ? Timestamp.valueOf(time) : parameters[i];
+        }
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + sql, values);
+        for (Map<String, Object> row : plan) {
+            if (FULL_SCANS.contains(String.valueOf(row.get("type")))) {
+                fail("Full scan of " + row.get("table") + " for:%n%s%nPlan: %s", sql, plan);
+            }
+        }
+    }
+
+    /**
+     * Loads only the entities and repositories; the application class scans every component explicitly,
+     * which a test slice cannot filter.
+     */
+    @SpringBootConfiguration
+    @EntityScan(basePackageClasses = Word.class)
+    @EnableJpaRepositories(basePackageClasses = WordRepository.class)
+    static class RepositoryConfiguration {
+    }
+
+    /**
+     * Records the SQL Hibernate sends to the database.
+     */
+    public static class RecordingInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package jyoungmin.vocablist.security;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import jyoungmin.vocabcommons.constants.LoggingConstants;
+import jyoungmin.vocabcommons.dto.IntrospectionRequest;
+import jyoungmin.vocabcommons.dto.IntrospectionResult;
+import jyoungmin.vocabcommons.dto.UserInfo;
+import jyoungmin.vocabcommons.exception.ErrorCode;
+import jyoungmin.vocabcommons.response.ApiResponse;
+import jyoungmin.vocablist.client.AuthClient;
+import jyoungmin.vocablist.exception.VocabException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IntrospectionBatcherTests {
+
+    private static final int CALLERS = 8;
+
+    private static final String SECRET = "introspection-secret";
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+    private final List<List<String>> batches = new CopyOnWriteArrayList<>();
+
+    /**
+     * Correlation ID seen by the auth client for each batch, as the Feign interceptor would read it
+     */
+    private final List<String> correlationIds = new CopyOnWriteArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void lookupsWithinTheWindowAreSentInOneCall() throws Exception {
+        // A wide window so that all callers certainly join the first batch
+        IntrospectionBatcher batcher = new IntrospectionBatcher(
+                new RecordingAuthClient(), CircuitBreakerRegistry.ofDefaults(), true, 64, Duration.ofMillis(500), SECRET);
+        try {
+            List<Future<UserInfo>> results = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                String token = "token-" + i;
+                results.add(executor.submit(() -> batcher.introspect(token)));
+            }
+
+            for (int i = 0; i < CALLERS; i++) {
+                assertThat(results.get(i).get(5, TimeUnit.SECONDS).getUserName()).isEqualTo("token-" + i);
+            }
+            assertThat(batches).hasSize(1);
+            assertThat(batches.get(0)).hasSize(CALLERS);
+        } finally {
+            batcher.close();
+        }
+    }
+
+    @Test
+    void batchesAreCappedAtTheMaximumSizeAndRejectionsStayPerToken() throws Exception {
+        IntrospectionBatcher batcher = new IntrospectionBatcher(
+                new RecordingAuthClient(), CircuitBreakerRegistry.ofDefaults(), true, 2, Duration.ofMillis(500), SECRET);
+        try {
+            Future<UserInfo> valid = executor.submit(() -> batcher.introspect("token-1"));
+            Future<UserInfo> expired = executor.submit(() -> batcher.introspect("expired"));
+
+            assertThat(valid.get(5, TimeUnit.SECONDS).getUserName()).isEqualTo("token-1");
+            assertThatThrownBy(() -> expired.get(5, TimeUnit.SECONDS))
+                    .cause()
+                    .isInstanceOf(VocabException.class)
+                    .extracting(e -> ((VocabException) e).getErrorCode())
+                    .isEqualTo(ErrorCode.TOKEN_EXPIRED);
+            // A full batch is sent right away instead of waiting for the window
+            assertThat(batches).hasSize(1);
+        } finally {
+            batcher.close();
+        }
+    }
+
+    @Test
+    void batchingIsDisabledWithoutAnIntrospectionSecret() {
+        IntrospectionBatcher batcher = new IntrospectionBatcher(
+                new RecordingAuthClient(), CircuitBreakerRegistry.ofDefaults(), true, 64, Duration.ofMillis(2), "");
+        try {
+            assertThat(batcher.isEnabled()).isFalse();
+        } finally {
+            batcher.close();
+        }
+    }
+
+    @Test
+    void batchesCarryTheCorrelationIdOfTheirFirstLookup() throws Exception {
+        IntrospectionBatcher batcher = new IntrospectionBatcher(
+                new RecordingAuthClient(), CircuitBreakerRegistry.ofDefaults(), true, 64, Duration.ofMillis(2), SECRET);
+        try {
+            Future<UserInfo> result = executor.submit(() -> {
+                MDC.put(LoggingConstants.CORRELATION_ID_LOG_KEY, "request-1");
+                try {
+                    return batcher.introspect("token-1");
+                } finally {
+                    MDC.clear();
+                }
+            });
+
+            result.get(5, TimeUnit.SECONDS);
+            assertThat(correlationIds).containsExactly("request-1");
+        } finally {
+            batcher.close();
+        }
+    }
+
+    @Test
+    void aFailedBatchCountsAsOneCircuitBreakerFailure() throws Exception {
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.ofDefaults();
+        IntrospectionBatcher batcher = new IntrospectionBatcher(
+                new RecordingAuthClient(), registry, true, 64, Duration.ofMillis(500), SECRET);
+        try {
+            List<Future<UserInfo>> results = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(executor.submit(() -> batcher.introspect("unreachable")));
+            }
+
+            for (Future<UserInfo> result : results) {
+                assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+            }
+            CircuitBreaker.Metrics metrics = registry.circuitBreaker(RemoteUserInfoResolver.CIRCUIT_BREAKER_NAME).getMetrics();
+            assertThat(metrics.getNumberOfFailedCalls()).isEqualTo(1);
+            assertThat(batches).hasSize(1);
+        } finally {
+            batcher.close();
+        }
+    }
+
+    /**
+     * Auth client stub that records every batch, rejects the token "expired" and fails batches
+     * containing "unreachable" as a whole.
+     */
+    private class RecordingAuthClient implements AuthClient {
+
+        @Override
+        public UserInfo getAuthenticatedUser(String authorizationHeader) {
+            throw new UnsupportedOperationException("Lookups must be batched");
+        }
+
+        @Override
+        public ApiResponse<List<IntrospectionResult>> introspect(IntrospectionRequest request) {
+            batches.add(request.getTokens());
+            correlationIds.add(String.valueOf(MDC.get(LoggingConstants.CORRELATION_ID_LOG_KEY)));
+            if (request.getTokens().contains("unreachable")) {
+                throw new IllegalStateException("Auth service is unreachable");
+            }
+            List<IntrospectionResult> results = request.getTokens().stream()
+                    .map(token -> token.equals("expired")
+                            ? IntrospectionResult.rejected(ErrorCode.TOKEN_EXPIRED)
+                            : IntrospectionResult.active(UserInfo.builder().userName(token).build()))
+                    .toList();
+            return ApiResponse.success(ApiResponse.Messages.TOKENS_INTROSPECTED, results);
+        }
+    }
+}
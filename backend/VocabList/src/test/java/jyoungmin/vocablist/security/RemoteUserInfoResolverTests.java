@@ -0,0 +1,171 @@
+package jyoungmin.vocablist.security;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jyoungmin.vocabcommons.dto.IntrospectionRequest;
+import jyoungmin.vocabcommons.dto.IntrospectionResult;
+import jyoungmin.vocabcommons.dto.UserInfo;
+import jyoungmin.vocabcommons.exception.ErrorCode;
+import jyoungmin.vocabcommons.response.ApiResponse;
+import jyoungmin.vocabcommons.security.TokenRevocationReplica;
+import jyoungmin.vocablist.client.AuthClient;
+import jyoungmin.vocablist.exception.VocabException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RemoteUserInfoResolverTests {
+
+    private static final int CALLERS = 16;
+    private static final String AUTHORIZATION_HEADER = "Bearer header.payload.signature";
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentLookupsForSameTokenCallAuthServiceOnce() throws Exception {
+        CountingAuthClient authClient = new CountingAuthClient(() ->
+                UserInfo.builder().id(1L).userName("user").role("USER").enabled(true).build());
+        RemoteUserInfoResolver resolver = new RemoteUserInfoResolver(
+                authClient, disabledCache(), CircuitBreakerRegistry.ofDefaults(), unbatched(authClient));
+
+        List<Future<UserInfo>> results = resolveConcurrently(resolver, authClient);
+
+        for (Future<UserInfo> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS).getId()).isEqualTo(1L);
+        }
+        assertThat(authClient.calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentLookupsShareTheUpstreamException() throws Exception {
+        VocabException failure = new VocabException(ErrorCode.INVALID_TOKEN, "Authentication failed with auth service");
+        CountingAuthClient authClient = new CountingAuthClient(() -> {
+            throw failure;
+        });
+        RemoteUserInfoResolver resolver = new RemoteUserInfoResolver(
+                authClient, disabledCache(), CircuitBreakerRegistry.ofDefaults(), unbatched(authClient));
+
+        List<Future<UserInfo>> results = resolveConcurrently(resolver, authClient);
+
+        for (Future<UserInfo> result : results) {
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                    .cause()
+                    .isSameAs(failure);
+        }
+        assertThat(authClient.calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void openCircuitServesStaleIdentitiesAndFailsFastForUnknownTokens() {
+        CountingAuthClient authClient = new CountingAuthClient(() ->
+                UserInfo.builder().id(1L).userName("user").role("USER").enabled(true).build());
+        authClient.arrived = new CountDownLatch(0);
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.ofDefaults();
+        // Entries are stale right away but may be served as such for 10 minutes
+        RemoteUserInfoResolver resolver = new RemoteUserInfoResolver(
+                authClient, cache(true, Duration.ZERO, Duration.ofMinutes(10)), registry, unbatched(authClient));
+        String verifiedHeader = bearer("verified");
+        resolver.resolve(verifiedHeader);
+
+        registry.circuitBreaker("auth-service").transitionToOpenState();
+
+        assertThat(resolver.resolve(verifiedHeader).getId()).isEqualTo(1L);
+        assertThatThrownBy(() -> resolver.resolve(bearer("unknown")))
+                .isInstanceOf(VocabException.class)
+                .extracting(e -> ((VocabException) e).getErrorCode())
+                .isEqualTo(ErrorCode.AUTH_SERVICE_UNAVAILABLE);
+        assertThat(authClient.calls.get()).isEqualTo(1);
+    }
+
+    /**
+     * Starts all callers and keeps the upstream call open until every caller has arrived,
+     * so followers must join the in-flight call rather than start their own.
+     */
+    private List<Future<UserInfo>> resolveConcurrently(RemoteUserInfoResolver resolver,
+                                                       CountingAuthClient authClient) {
+        authClient.arrived = new CountDownLatch(CALLERS);
+        List<Future<UserInfo>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> {
+                authClient.arrived.countDown();
+                return resolver.resolve(AUTHORIZATION_HEADER);
+            }));
+        }
+        return results;
+    }
+
+    private IntrospectionBatcher unbatched(AuthClient authClient) {
+        return new IntrospectionBatcher(authClient, CircuitBreakerRegistry.ofDefaults(), false, 64, Duration.ofMillis(2), "");
+    }
+
+    private UserInfoCache disabledCache() {
+        return cache(false, Duration.ofMinutes(5), Duration.ofMinutes(10));
+    }
+
+    private UserInfoCache cache(boolean enabled, Duration maxTtl, Duration staleWindow) {
+        TokenRevocationReplica noRevocations = new TokenRevocationReplica(false, Duration.ofSeconds(30), null, null);
+        return new UserInfoCache(enabled, 100, maxTtl, staleWindow, new SimpleMeterRegistry(), noRevocations);
+    }
+
+    /**
+     * Builds an Authorization header whose token payload expires in one hour.
+     */
+    private static String bearer(String tokenId) {
+        long exp = System.currentTimeMillis() / 1000 + 3600;
+        String payload = "{\"jti\":\"" + tokenId + "\",\"exp\":" + exp + "}";
+        return "Bearer header."
+                + Base64.getUrlEncoder().withoutPadding().encodeToString(payload.getBytes(StandardCharsets.UTF_8))
+                + ".signature";
+    }
+
+    /**
+     * Auth client stub that counts upstream calls and holds each call open until all callers arrived.
+     */
+    private static class CountingAuthClient implements AuthClient {
+        private final AtomicInteger calls = new AtomicInteger();
+        private final Supplier<UserInfo> response;
+        private volatile CountDownLatch arrived;
+
+        CountingAuthClient(Supplier<UserInfo> response) {
+            this.response = response;
+        }
+
+        @Override
+        public UserInfo getAuthenticatedUser(String authorizationHeader) {
+            calls.incrementAndGet();
+            try {
+                arrived.await(5, TimeUnit.SECONDS);
+                // Give the remaining callers time to reach the in-flight call
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return response.get();
+        }
+
+        @Override
+        public ApiResponse<List<IntrospectionResult>> introspect(IntrospectionRequest request) {
+            throw new UnsupportedOperationException("Batching is disabled in these tests");
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package jyoungmin.vocablist.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jyoungmin.vocabcommons.dto.UserInfo;
+import jyoungmin.vocabcommons.security.TokenRevocationReplica;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserInfoCacheTests {
+
+    private static final UserInfo USER = UserInfo.builder().id(1L).userName("user").role("USER").enabled(true).build();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void freshEntriesCountAsHits() {
+        UserInfoCache cache = cache(Duration.ofMinutes(5));
+        cache.put(token("fresh"), USER);
+
+        assertThat(cache.get(token("fresh"))).isEqualTo(USER);
+        assertThat(cache.get(token("absent"))).isNull();
+
+        assertThat(gets("hit")).isEqualTo(1);
+        assertThat(gets("miss")).isEqualTo(1);
+    }
+
+    @Test
+    void staleEntriesCountAsMisses() {
+        // Entries are stale right away but kept for the stale window
+        UserInfoCache cache = cache(Duration.ZERO);
+        cache.put(token("stale"), USER);
+
+        assertThat(cache.get(token("stale"))).isNull();
+        assertThat(cache.getStale(token("stale"))).isEqualTo(USER);
+
+        assertThat(gets("hit")).isZero();
+        assertThat(gets("miss")).isEqualTo(1);
+    }
+
+    private UserInfoCache cache(Duration maxTtl) {
+        TokenRevocationReplica noRevocations = new TokenRevocationReplica(false, Duration.ofSeconds(30), null, null);
+        return new UserInfoCache(true, 100, maxTtl, Duration.ofMinutes(10), meterRegistry, noRevocations);
+    }
+
+    private double gets(String result) {
+        return meterRegistry.get("cache.gets").tag("cache", "auth-user-info").tag("result", result)
+                .functionCounter().count();
+    }
+
+    /**
+     * Builds a token whose payload expires in one hour.
+     */
+    private static String token(String tokenId) {
+        long exp = System.currentTimeMillis() / 1000 + 3600;
+        String payload = "{\"jti\":\"" + tokenId + "\",\"exp\":" + exp + "}";
+        return "header."
+                + Base64.getUrlEncoder().withoutPadding().encodeToString(payload.getBytes(StandardCharsets.UTF_8))
+                + ".signature";
+    }
+}
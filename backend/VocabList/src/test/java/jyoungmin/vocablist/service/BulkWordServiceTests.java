@@ -0,0 +1,135 @@
+package jyoungmin.vocablist.service;
+
+import jyoungmin.vocabcommons.dto.UserInfo;
+import jyoungmin.vocabcommons.exception.BaseServiceException;
+import jyoungmin.vocabcommons.exception.ErrorCode;
+import jyoungmin.vocabcommons.ratelimit.UserRateLimiter;
+import jyoungmin.vocablist.dto.WordRequest;
+import jyoungmin.vocablist.dto.WordResponse;
+import jyoungmin.vocablist.entity.List;
+import jyoungmin.vocablist.exception.VocabException;
+import jyoungmin.vocablist.repository.ListRepository;
+import jyoungmin.vocablist.repository.WordRepository;
+import jyoungmin.vocablist.util.AuthUser;
+import jyoungmin.vocablist.util.JapaneseValidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.util.ArrayList;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BulkWordServiceTests {
+
+    private static final long USER_ID = 7;
+
+    private final WordRepository wordRepository = mock(WordRepository.class);
+    private final ListRepository listRepository = mock(ListRepository.class);
+    private final ListService listService = mock(ListService.class);
+    private final AuthUser authUser = mock(AuthUser.class);
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final UserRateLimiter userRateLimiter = mock(UserRateLimiter.class);
+
+    private BulkWordService service;
+
+    @BeforeEach
+    void setUp() {
+        UserInfo userInfo = new UserInfo();
+        userInfo.setId(USER_ID);
+        when(authUser.getUserInfo()).thenReturn(userInfo);
+        when(listService.getOrCreateDefaultList(USER_ID)).thenReturn(List.builder().id(1).userId(USER_ID).build());
+
+        // Hand out generated IDs 100, 101, ... like MySQL does for a batch
+        when(jdbcTemplate.batchUpdate(any(PreparedStatementCreator.class), any(BatchPreparedStatementSetter.class), any(KeyHolder.class)))
+                .thenAnswer(invocation -> {
+                    BatchPreparedStatementSetter setter = invocation.getArgument(1);
+                    KeyHolder keyHolder = invocation.getArgument(2);
+                    for (int i = 0; i < setter.getBatchSize(); i++) {
+                        keyHolder.getKeyList().add(Map.of("GENERATED_KEY", 100L + i));
+                    }
+                    return new int[setter.getBatchSize()];
+                });
+
+        service = new BulkWordService(wordRepository, listRepository, listService, authUser,
+                new JapaneseValidator(), jdbcTemplate, userRateLimiter, 3, 2);
+    }
+
+    @Test
+    void reportsExistingAndRepeatedWordsAsDuplicatesInRequestOrder() {
+        when(wordRepository.findExistingWordKeys(anyLong(), anyCollection())).thenReturn(java.util.List.of("apple"));
+
+        java.util.List<WordResponse> results = service.saveWordsToDb(java.util.List.of(
+                request("Apple", null), request("pear", null), request(" PEAR", null)));
+
+        assertThat(results).extracting(WordResponse::isDuplicated).containsExactly(true, false, true);
+        assertThat(results).extracting(result -> result.getWord().getWord()).containsExactly("Apple", "pear", " PEAR");
+        assertThat(results.get(1).getWord().getId()).isEqualTo(100);
+        assertThat(results.get(1).getWord().getListId()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsWholeRequestForListOfAnotherUser() {
+        when(listRepository.findAllById(anyCollection()))
+                .thenReturn(new ArrayList<>(java.util.List.of(List.builder().id(5).userId(USER_ID + 1).build())));
+
+        assertThatThrownBy(() -> service.saveWordsToDb(java.util.List.of(request("apple", 5L))))
+                .isInstanceOf(VocabException.class)
+                .extracting(e -> ((VocabException) e).getErrorCode())
+                .isEqualTo(ErrorCode.LIST_ACCESS_DENIED);
+        verify(jdbcTemplate, never()).batchUpdate(any(PreparedStatementCreator.class), any(BatchPreparedStatementSetter.class), any(KeyHolder.class));
+    }
+
+    @Test
+    void rejectsRequestsOverTheLimit() {
+        java.util.List<WordRequest> requests = java.util.List.of(
+                request("a", null), request("b", null), request("c", null), request("d", null));
+
+        assertThatThrownBy(() -> service.saveWordsToDb(requests))
+                .isInstanceOf(VocabException.class)
+                .extracting(e -> ((VocabException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_INPUT);
+    }
+
+    @Test
+    void chargesTheRateLimitByTheNumberOfWords() {
+        service.saveWordsToDb(java.util.List.of(request("a", null)));
+        service.saveWordsToDb(java.util.List.of(request("b", null), request("c", null), request("d", null)));
+
+        verify(userRateLimiter).acquire("word-bulk", USER_ID, 1);
+        verify(userRateLimiter).acquire("word-bulk", USER_ID, 2);
+    }
+
+    @Test
+    void exhaustedRateLimitRejectsBeforeAnyWork() {
+        doThrow(new BaseServiceException(ErrorCode.RATE_LIMIT_EXCEEDED))
+                .when(userRateLimiter).acquire("word-bulk", USER_ID, 2);
+
+        assertThatThrownBy(() -> service.saveWordsToDb(java.util.List.of(request("a", null), request("b", null), request("c", null))))
+                .isInstanceOf(BaseServiceException.class)
+                .extracting(e -> ((BaseServiceException) e).getErrorCode())
+                .isEqualTo(ErrorCode.RATE_LIMIT_EXCEEDED);
+        verify(wordRepository, never()).findExistingWordKeys(anyLong(), anyCollection());
+    }
+
+    private static WordRequest request(String word, Long listId) {
+        WordRequest request = new WordRequest();
+        request.setWord(word);
+        request.setMeaning("meaning of " + word);
+        request.setListId(listId);
+        return request;
+    }
+}
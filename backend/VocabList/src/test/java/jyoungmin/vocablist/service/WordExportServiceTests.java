@@ -0,0 +1,118 @@
+package jyoungmin.vocablist.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jyoungmin.vocabcommons.dto.UserInfo;
+import jyoungmin.vocabcommons.exception.ErrorCode;
+import jyoungmin.vocablist.exception.VocabException;
+import jyoungmin.vocablist.util.AuthUser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class WordExportServiceTests {
+
+    private static final long USER_ID = 7;
+
+    private final DataSource dataSource = mock(DataSource.class);
+    private final PreparedStatement statement = mock(PreparedStatement.class);
+    private final ResultSet resultSet = mock(ResultSet.class);
+    private final AuthUser authUser = mock(AuthUser.class);
+
+    @BeforeEach
+    void setUp() throws Exception {
+        UserInfo userInfo = new UserInfo();
+        userInfo.setId(USER_ID);
+        when(authUser.getUserInfo()).thenReturn(userInfo);
+
+        Connection connection = mock(Connection.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString(), anyInt(), anyInt())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.of(2025, 1, 2, 3, 4, 5));
+        when(resultSet.getLong("id")).thenReturn(1L, 2L);
+        when(resultSet.getString("word")).thenReturn("食べる", "飲む");
+        when(resultSet.getString("furigana")).thenReturn("たべる", "のむ");
+        when(resultSet.getString("meaning")).thenReturn("to eat", "to drink");
+        when(resultSet.getBoolean("is_memorized")).thenReturn(true, false);
+        when(resultSet.getLong("list_id")).thenReturn(3L);
+        when(resultSet.getTimestamp("created_at")).thenReturn(createdAt);
+        when(resultSet.getTimestamp("modified_at")).thenReturn(null);
+    }
+
+    @Test
+    void streamsOneJsonObjectPerWordAndLine() throws Exception {
+        when(resultSet.next()).thenReturn(true, true, false);
+
+        String body = write(service(4).exportWords());
+
+        assertThat(body.split("\n")).containsExactly(
+                "{\"id\":1,\"word\":\"食べる\",\"furigana\":\"たべる\",\"meaning\":\"to eat\",\"memorized\":true,"
+                        + "\"listId\":3,\"createdAt\":\"2025-01-02T03:04:05\",\"modifiedAt\":null}",
+                "{\"id\":2,\"word\":\"飲む\",\"furigana\":\"のむ\",\"meaning\":\"to drink\",\"memorized\":false,"
+                        + "\"listId\":3,\"createdAt\":\"2025-01-02T03:04:05\",\"modifiedAt\":null}");
+        verify(statement).setLong(1, USER_ID);
+        verify(resultSet).close();
+    }
+
+    @Test
+    void exportsBeyondTheConcurrencyCapAreRejectedUntilOneEnds() throws Exception {
+        // The first export blocks on its first row, holding the only slot
+        CountDownLatch streaming = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(resultSet.next()).thenAnswer(invocation -> {
+            streaming.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return false;
+        });
+        WordExportService service = service(1);
+
+        StreamingResponseBody first = service.exportWords();
+        CompletableFuture<String> firstBody = CompletableFuture.supplyAsync(() -> write(first));
+        assertThat(streaming.await(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(service::exportWords)
+                .isInstanceOf(VocabException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.SERVER_BUSY);
+
+        release.countDown();
+        assertThat(firstBody.get(10, TimeUnit.SECONDS)).isEmpty();
+        assertThat(write(service.exportWords())).isEmpty();
+    }
+
+    private WordExportService service(int maxConcurrent) {
+        return new WordExportService(dataSource, new ObjectMapper(), authUser, 0, maxConcurrent);
+    }
+
+    private static String write(StreamingResponseBody body) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try {
+            body.writeTo(output);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return output.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,33 @@
+package jyoungmin.vocablist.util;
+
+import jyoungmin.vocabcommons.exception.ErrorCode;
+import jyoungmin.vocablist.exception.VocabException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WordCursorTests {
+
+    @Test
+    void tokenRoundTripsPosition() {
+        WordCursor cursor = new WordCursor(LocalDateTime.of(2025, 3, 1, 12, 30, 15, 123_456_000), 42);
+
+        String token = cursor.encode();
+
+        assertThat(token).doesNotContain("|", "=", "+", "/");
+        assertThat(WordCursor.decode(token)).isEqualTo(cursor);
+    }
+
+    @Test
+    void malformedTokenIsRejectedAsInvalidInput() {
+        assertThatThrownBy(() -> WordCursor.decode("not a cursor"))
+                .isInstanceOf(VocabException.class)
+                .extracting(e -> ((VocabException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_INPUT);
+        assertThatThrownBy(() -> WordCursor.decode("MjAyNS0wMy0wMXw0Mg"))
+                .isInstanceOf(VocabException.class);
+    }
+}